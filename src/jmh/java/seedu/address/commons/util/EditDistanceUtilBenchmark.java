@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link EditDistanceUtil#isWithinLevenshteinDistance} against filling in the whole table,
+ * as fuzzy search used to, for a keyword checked against many names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditDistanceUtilBenchmark {
+
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final int NAME_COUNT = 1000;
+
+    @Param({"3", "6", "10", "14"})
+    private int keywordLength;
+
+    private String[] names;
+    private String keyword;
+    private int maxDistance;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(9);
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = randomWord(random, 3 + random.nextInt(12));
+        }
+        // A misspelling of one of the names, so that some comparisons are close
+        StringBuilder misspelt = new StringBuilder(randomWord(random, keywordLength));
+        misspelt.setCharAt(keywordLength / 2, '_');
+        keyword = misspelt.toString();
+        // The thresholds of fuzzy search
+        maxDistance = keywordLength <= 2 ? 0 : keywordLength <= 4 ? 1 : keywordLength <= 7 ? 2
+                : keywordLength <= 11 ? 3 : 4;
+    }
+
+    @Benchmark
+    public int bounded() {
+        int matches = 0;
+        for (String name : names) {
+            if (EditDistanceUtil.isWithinLevenshteinDistance(name, keyword, maxDistance)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int fullTable() {
+        int matches = 0;
+        for (String name : names) {
+            if (levenshteinDistance(name, keyword) <= maxDistance) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    /**
+     * The edit distance computation fuzzy search used before {@link EditDistanceUtil}.
+     */
+    private static int levenshteinDistance(String left, String right) {
+        if (left.isEmpty()) {
+            return right.length();
+        }
+        if (right.isEmpty()) {
+            return left.length();
+        }
+
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = leftChar == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+
+        return previous[right.length()];
+    }
+}
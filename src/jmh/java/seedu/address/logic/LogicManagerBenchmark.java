@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAthleteListStorage;
+import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonOrganizationListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures running a script of {@code add-o}, {@code add-a} and {@code add-c} commands on an empty model, either
+ * as one batch with {@link LogicManager#executeBatch(List)} or one command at a time with
+ * {@link LogicManager#execute(String)}. Changes are written to JSON files before each call returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LogicManagerBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private List<String> script;
+    private Path folder;
+    private LogicManager logic;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataUtil data = new SyntheticDataUtil(size);
+        script = new ArrayList<>();
+        for (Organization organization : data.getOrganizations()) {
+            script.add("add-o o/" + organization.getName().fullOrganizationName
+                    + " p/" + organization.getPhone().value + " e/" + organization.getEmail().value);
+        }
+        for (Athlete athlete : data.getAthletes()) {
+            script.add("add-a n/" + athlete.getName().fullName + " s/" + athlete.getSport().value
+                    + " a/" + athlete.getAge().value + " p/" + athlete.getPhone().value
+                    + " e/" + athlete.getEmail().value);
+        }
+        for (Contract contract : data.getContracts()) {
+            script.add("add-c n/" + contract.getAthlete().getName().fullName
+                    + " s/" + contract.getSport().value
+                    + " o/" + contract.getOrganization().getName().fullOrganizationName
+                    + " sd/" + contract.getStartDate().value + " ed/" + contract.getEndDate().value
+                    + " am/" + contract.getAmount().value);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLogic() throws IOException {
+        folder = Files.createTempDirectory("logic-benchmark");
+        logic = new LogicManager(new ModelManager(), new StorageManager(
+                new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")),
+                new JsonAthleteListStorage(folder.resolve("athletelist.json")),
+                new JsonContractListStorage(folder.resolve("contractlist.json")),
+                new JsonOrganizationListStorage(folder.resolve("organizationlist.json"))));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownLogic() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public CommandResult executeBatch() throws CommandException {
+        return logic.executeBatch(script);
+    }
+
+    @Benchmark
+    public CommandResult executeEach() throws CommandException, ParseException {
+        CommandResult result = null;
+        for (String commandText : script) {
+            result = logic.execute(commandText);
+        }
+        return result;
+    }
+}
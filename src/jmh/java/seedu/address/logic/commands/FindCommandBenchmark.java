@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures {@link FindCommand#execute(Model)} for each search scope, with a misspelt keyword so that
+ * fuzzy matching is exercised, or a date range that covers part of the contracts.
+ * The same command is run repeatedly, so with the search results cache its result is reused from the second run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param
+    private FindCommand.SearchScope scope;
+
+    @Param({"true", "false"})
+    private boolean isResultCacheUsed;
+
+    private Model model;
+    private FindCommand command;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataUtil data = new SyntheticDataUtil(size);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSearchCacheMemoryBudget(isResultCacheUsed ? UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET : 0);
+        model = new ModelManager(new AddressBook(), userPrefs, data.getAthleteList(), data.getContractList(),
+                data.getOrganizationList());
+        command = new FindCommand(scope, keywordFor(scope));
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        CommandResult result = command.execute(model);
+        // Reading the size makes the filtered list apply the predicate to every record
+        model.getFilteredAthleteList().size();
+        model.getFilteredOrganizationList().size();
+        model.getFilteredContractList().size();
+        return result;
+    }
+
+    private static String keywordFor(FindCommand.SearchScope scope) {
+        switch (scope) {
+        case ATHLETE_SPORT:
+        case CONTRACT_SPORT:
+            return "Basketbal";
+        case ORGANIZATION_NAME:
+        case CONTRACT_ORGANIZATION:
+            return "Sponsr";
+        case CONTRACT_ACTIVE:
+            return "15062022";
+        case CONTRACT_EXPIRING:
+            return "365";
+        default:
+            return "Lionl";
+        }
+    }
+}
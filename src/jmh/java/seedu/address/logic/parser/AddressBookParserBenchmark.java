@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} for each kind of command.
+ * Parsing does not depend on the size of the data, so there is no dataset size parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add-a n/LeBron James s/Basketball a/40 p/91234567 e/lebron@example.com",
+        "add-o o/Nike p/98765432 e/partnerships@nike.com",
+        "add-c n/LeBron James s/Basketball o/Nike sd/01012024 ed/01012025 am/50000000",
+        "delete-c n/LeBron James s/Basketball o/Nike sd/01012024 ed/01012025 am/50000000",
+        "find -an Lionel"
+    })
+    private String userInput;
+
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
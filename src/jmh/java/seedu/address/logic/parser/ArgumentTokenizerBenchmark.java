@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ArgumentTokenizer} on the arguments of an {@code add-c} command, with a tokenizer kept by the
+ * parser and with one built for each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] CONTRACT_PREFIXES = {PREFIX_NAME, PREFIX_SPORT, PREFIX_ORG, PREFIX_START_DATE,
+        PREFIX_END_DATE, PREFIX_AMOUNT};
+
+    @Param({
+        " n/LeBron James s/Basketball o/Nike sd/01012024 ed/01012025 am/50000000",
+        " n/Giannis Antetokounmpo the Greek Freak s/Basketball o/Nike Global Athlete Partnerships Division"
+                + " sd/01012024 ed/31122030 am/5000000000 n/Giannis Antetokounmpo"
+    })
+    private String args;
+
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(CONTRACT_PREFIXES);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeArgs() {
+        return tokenizer.tokenizeArgs(args);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeWithNewTokenizer() {
+        return ArgumentTokenizer.tokenize(args, CONTRACT_PREFIXES);
+    }
+}
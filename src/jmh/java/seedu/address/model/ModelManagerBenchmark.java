@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures constructing a {@link ModelManager} from loaded athlete, contract and organization lists,
+ * as done on startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AthleteList athletes;
+    private ContractList contracts;
+    private OrganizationList organizations;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataUtil data = new SyntheticDataUtil(size);
+        athletes = data.getAthleteList();
+        contracts = data.getContractList();
+        organizations = data.getOrganizationList();
+    }
+
+    @Benchmark
+    public ModelManager construct() {
+        return new ModelManager(new AddressBook(), new UserPrefs(), athletes, contracts, organizations);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.contract;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures adding every contract of a dataset, one at a time, to an empty {@link UniqueContractList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueContractListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Contract> contracts;
+
+    @Setup
+    public void setUp() {
+        contracts = new SyntheticDataUtil(size).getContracts();
+    }
+
+    @Benchmark
+    public UniqueContractList add() {
+        UniqueContractList list = new UniqueContractList();
+        for (Contract contract : contracts) {
+            list.add(contract);
+        }
+        return list;
+    }
+}
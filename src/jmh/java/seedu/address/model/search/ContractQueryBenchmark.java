@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.search.ContractQuery.Comparison;
+import seedu.address.model.search.ContractQuery.TextField;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures finding the contracts matching a query of two fuzzy terms and an amount condition, planned with the
+ * search index and by checking every contract against the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractQueryBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+    private static final long MIN_AMOUNT = 50000;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObservableList<Contract> contracts;
+    private SearchIndex index;
+    private ContractQuery query;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataUtil data = new SyntheticDataUtil(size);
+        contracts = FXCollections.observableArrayList(data.getContracts());
+        index = new SearchIndex(FXCollections.observableArrayList(data.getAthletes()),
+                FXCollections.observableArrayList(data.getOrganizations()), contracts, 0);
+        query = ContractQuery.and(List.of(ContractQuery.matching(TextField.ATHLETE_NAME, "lionl"),
+                ContractQuery.matching(TextField.SPORT, "golf"),
+                ContractQuery.amount(Comparison.GREATER, MIN_AMOUNT)));
+    }
+
+    @Benchmark
+    public int planned() {
+        return count(index.planContracts(query, TODAY).execute());
+    }
+
+    @Benchmark
+    public int checkEachContract() {
+        return count(contract -> contract.getAmount().value > MIN_AMOUNT
+                && FuzzyIndex.matches(contract.getAthlete().getName().toString(), "lionl")
+                && FuzzyIndex.matches(contract.getSport().toString(), "golf"));
+    }
+
+    private int count(Predicate<Contract> predicate) {
+        int count = 0;
+        for (Contract contract : contracts) {
+            if (predicate.test(contract)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
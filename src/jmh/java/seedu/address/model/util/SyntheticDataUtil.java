@@ -0,0 +1,125 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.athlete.Age;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.Email;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Phone;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationEmail;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.OrganizationPhone;
+
+/**
+ * Generates valid, deterministic athletes, organizations and contracts of any size for benchmarks.
+ * A dataset of size {@code n} has {@code n} athletes, {@code n / 10} organizations and {@code n} contracts.
+ */
+public class SyntheticDataUtil {
+
+    private static final String[] SPORTS = {"Football", "Basketball", "Tennis", "Swimming", "Badminton",
+        "Athletics", "Cricket", "Golf", "Hockey", "Rugby", "Volleyball", "Table Tennis"};
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hannah", "Ivan", "Julia", "Kevin", "Lionel", "Maria", "Naomi", "Oscar", "Priya"};
+
+    private final List<Athlete> athletes = new ArrayList<>();
+    private final List<Organization> organizations = new ArrayList<>();
+    private final List<Contract> contracts = new ArrayList<>();
+
+    /**
+     * Generates a dataset of the given size.
+     */
+    public SyntheticDataUtil(int size) {
+        for (int i = 0; i < size; i++) {
+            athletes.add(athlete(i));
+        }
+        for (int i = 0; i < Math.max(1, size / 10); i++) {
+            organizations.add(organization(i));
+        }
+        for (int i = 0; i < size; i++) {
+            contracts.add(contract(i));
+        }
+    }
+
+    public List<Athlete> getAthletes() {
+        return athletes;
+    }
+
+    public List<Organization> getOrganizations() {
+        return organizations;
+    }
+
+    public List<Contract> getContracts() {
+        return contracts;
+    }
+
+    public AthleteList getAthleteList() {
+        AthleteList athleteList = new AthleteList();
+        athleteList.setAthletes(athletes);
+        return athleteList;
+    }
+
+    public OrganizationList getOrganizationList() {
+        OrganizationList organizationList = new OrganizationList();
+        organizationList.setOrganizations(organizations);
+        return organizationList;
+    }
+
+    public ContractList getContractList() {
+        ContractList contractList = new ContractList();
+        contractList.setContracts(contracts);
+        return contractList;
+    }
+
+    /**
+     * Returns the {@code index}-th athlete of any dataset, whose name and sport are unique to it.
+     */
+    public static Athlete athlete(int index) {
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " " + lettersOf(index);
+        return new Athlete(Name.of(name), Sport.of(SPORTS[index % SPORTS.length]),
+                new Age(String.valueOf(16 + index % 30)), new Phone(String.valueOf(80000000 + index % 10000000)),
+                new Email("athlete" + index + "@example.com"));
+    }
+
+    /**
+     * Returns the {@code index}-th organization of any dataset, whose name is unique to it.
+     */
+    public static Organization organization(int index) {
+        return new Organization(OrganizationName.of("Sponsor " + lettersOf(index) + " Group"),
+                new OrganizationPhone(String.valueOf(60000000 + index % 10000000)),
+                new OrganizationEmail("partners" + index + "@example.com"));
+    }
+
+    private Contract contract(int index) {
+        Athlete athlete = athletes.get(index % athletes.size());
+        Organization organization = organizations.get(index % organizations.size());
+        int day = 1 + index % 28;
+        int year = 2020 + index % 5;
+        return new Contract(athlete, athlete.getSport(), organization,
+                new Date8(String.format("%02d01%d", day, year)), new Date8(String.format("%02d12%d", day, year + 2)),
+                new Amount(10000 + index));
+    }
+
+    /**
+     * Returns a distinct word of lowercase letters for each non-negative {@code index}, starting with a capital.
+     */
+    private static String lettersOf(int index) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = index;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining = remaining / 26 - 1;
+        } while (remaining >= 0);
+        letters.setCharAt(0, Character.toUpperCase(letters.charAt(0)));
+        return letters.toString();
+    }
+}
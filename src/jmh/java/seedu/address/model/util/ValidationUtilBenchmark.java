@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.athlete.Age;
+import seedu.address.model.athlete.Email;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Phone;
+import seedu.address.model.athlete.Sport;
+
+/**
+ * Measures the checks made on the fields of one athlete when it is loaded, with the field validators and with the
+ * {@code VALIDATION_REGEX}es they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationUtilBenchmark {
+
+    private final String name = "Giannis Antetokounmpo";
+    private final String sport = "Basketball";
+    private final String age = "29";
+    private final String phone = "91234567";
+    private final String email = "giannis.antetokounmpo@bucks.nba.com";
+
+    @Benchmark
+    public boolean validateAthleteFields() {
+        return Name.isValidName(name) & Sport.isValidSport(sport) & Age.isValidAge(age)
+                & Phone.isValidPhone(phone) & Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean matchAthleteFieldsWithRegexes() {
+        return name.trim().replaceAll("\\s+", " ").matches(Name.VALIDATION_REGEX)
+                & sport.trim().replaceAll("\\s+", " ").matches(Sport.VALIDATION_REGEX)
+                & age.matches(Age.VALIDATION_REGEX) & phone.matches(Phone.VALIDATION_REGEX)
+                & email.length() <= 50 && email.matches(Email.VALIDATION_REGEX);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures reading and writing the contract list with {@link JsonContractListStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonContractListStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private AthleteList athletes;
+    private OrganizationList organizations;
+    private ContractList contracts;
+    private JsonContractListStorage savedStorage;
+    private JsonContractListStorage scratchStorage;
+    private JsonContractListStorage compactScratchStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticDataUtil data = new SyntheticDataUtil(size);
+        athletes = data.getAthleteList();
+        organizations = data.getOrganizationList();
+        contracts = data.getContractList();
+        folder = Files.createTempDirectory("contract-storage-benchmark");
+        savedStorage = new JsonContractListStorage(folder.resolve("contractlist.json"));
+        savedStorage.saveContractList(contracts);
+        scratchStorage = new JsonContractListStorage(folder.resolve("scratch.json"));
+        compactScratchStorage = new JsonContractListStorage(folder.resolve("compact-scratch.json"), true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getContractListFilePath());
+        Files.deleteIfExists(scratchStorage.getContractListFilePath());
+        Files.deleteIfExists(compactScratchStorage.getContractListFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyContractList> readContractList() throws DataLoadingException {
+        return savedStorage.readContractList(athletes, organizations);
+    }
+
+    @Benchmark
+    public void saveContractList() throws IOException {
+        scratchStorage.saveContractList(contracts);
+    }
+
+    @Benchmark
+    public void saveContractListCompact() throws IOException {
+        compactScratchStorage.saveContractList(contracts);
+    }
+}
@@ -2,10 +2,16 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -19,23 +25,35 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.AthleteListStorage;
+import seedu.address.storage.BinaryAthleteListStorage;
+import seedu.address.storage.BinaryContractListStorage;
+import seedu.address.storage.BinaryOrganizationListStorage;
 import seedu.address.storage.ContractListStorage;
+import seedu.address.storage.JournalEntry;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAthleteListStorage;
 import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonOrganizationListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.OrganizationListStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StorageWriter;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -47,6 +65,18 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    /** Longest time to wait on exit for queued data to be written to storage. */
+    public static final long STORAGE_FLUSH_TIMEOUT_MILLIS = 5000;
+
+    public static final String MESSAGE_LOADING = "Loading data...";
+    public static final String MESSAGE_LOADING_ATHLETES = "Loading athletes...";
+    public static final String MESSAGE_LOADING_ORGANIZATIONS = "Loading organizations...";
+    public static final String MESSAGE_LOADING_CONTRACTS = "Loading contracts...";
+    public static final String MESSAGE_REPLAYING_JOURNAL = "Applying recent changes...";
+    public static final String MESSAGE_LOADED = "Loaded %1$d athletes, %2$d organizations and %3$d contracts.";
+    public static final String MESSAGE_LOADING_FAILED = "Data could not be loaded, so the lists are empty and "
+            + "no changes can be made, to keep the data files intact. See the log file for details.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -70,55 +100,90 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        AthleteListStorage athleteListStorage = new JsonAthleteListStorage(userPrefs.getAthleteListFilePath());
-        ContractListStorage contractListStorage = new JsonContractListStorage(
-                userPrefs.getContractListFilePath());
-        OrganizationListStorage organizationListStorage = new JsonOrganizationListStorage(
-                userPrefs.getOrganizationListFilePath());
+        // The JSON data files are kept for reading and editing by hand, with a binary snapshot beside each of them
+        // that is loaded instead whenever it is intact and up to date
+        boolean isCompactDataFiles = userPrefs.isCompactDataFiles();
+        AthleteListStorage athleteListStorage = new BinaryAthleteListStorage(
+                new JsonAthleteListStorage(userPrefs.getAthleteListFilePath(), isCompactDataFiles));
+        ContractListStorage contractListStorage = new BinaryContractListStorage(
+                new JsonContractListStorage(userPrefs.getContractListFilePath(), isCompactDataFiles));
+        OrganizationListStorage organizationListStorage = new BinaryOrganizationListStorage(
+                new JsonOrganizationListStorage(userPrefs.getOrganizationListFilePath(), isCompactDataFiles));
+        JournalStorage journalStorage = new JsonJournalStorage(userPrefs.getJournalFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage, athleteListStorage,
-                contractListStorage, organizationListStorage);
+                contractListStorage, organizationListStorage, journalStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The data is loaded in the background once the window is shown, so the model starts out empty
+        model = new ModelManager(new AddressBook(), userPrefs, new AthleteList(), new ContractList(),
+                new OrganizationList());
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, StorageWriter.inBackground(storage));
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Initializes and returns a {@code ModelManager} with data from {@code storage} and {@code userPrefs}.
+     * Returns the data loaded from {@code storage}, reporting each step to {@code progress}.
      * <p>
      * The method attempts to load data from all files:
      * - Athlete list
-     * - Contract list
      * - Organization list
+     * - Contract list, whose athletes and organizations are resolved against the two lists above
+     * <p>
+     * Any mutations recorded in the journal since the last snapshot are then replayed on top of the loaded lists.
      * <p>
      * Special handling:
      * <ul>
+     *   <li>If the last snapshot was interrupted while its files were being moved into place, the move is finished
+     *       first, so that the lists are read as one consistent snapshot.</li>
+     *   <li>If the journal cannot be read, it is ignored and only the snapshots are used.</li>
      *   <li>If the contract list is non-empty but either the athlete list or organization list is empty,
      *       all three lists are reset to empty. This ensures contracts do not exist independently of
      *       their dependent entities.</li>
      *   <li>If any data files fail to load (e.g., due to corruption), all lists are reset to empty.</li>
      *   <li>If all files are present and valid, the data is loaded normally.</li>
      * </ul>
+     * Unless the data was loaded normally, the returned lists differ from what storage holds, so the first change
+     * saves them in full.
      *
      * @param storage the storage manager used to read the data files. Cannot be null.
-     * @param userPrefs the user preferences to use for the model. Cannot be null.
-     * @return a {@code ModelManager} initialized with the loaded or default data.
+     * @param progress receives a description of each step as it starts. Cannot be null.
+     * @return the loaded or default data, and the size of the journal that was replayed.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Initializing ModelManager...");
-        ReadOnlyAddressBook initialData = new AddressBook();
+    private static LoadedData loadData(Storage storage, Consumer<String> progress) {
+        logger.info("Loading data...");
+        try {
+            storage.recoverSnapshot();
+        } catch (IOException e) {
+            logger.warning("Failed to finish saving the last snapshot: " + StringUtil.getDetails(e));
+        }
+
         ReadOnlyAthleteList initialAthleteList;
         ReadOnlyContractList initialContractList;
         ReadOnlyOrganizationList initialOrganizationList;
+        int journalSize;
         try {
+            progress.accept(MESSAGE_LOADING_ATHLETES);
             Optional<ReadOnlyAthleteList> athleteOpt = storage.readAthleteList();
-            Optional<ReadOnlyContractList> contractOpt = storage.readContractList();
+            progress.accept(MESSAGE_LOADING_ORGANIZATIONS);
             Optional<ReadOnlyOrganizationList> orgOpt = storage.readOrganizationList();
             initialAthleteList = athleteOpt.orElse(SampleDataUtil.getEmptyAthleteList());
-            initialContractList = contractOpt.orElse(SampleDataUtil.getEmptyContractList());
             initialOrganizationList = orgOpt.orElse(SampleDataUtil.getEmptyOrganizationList());
+            // Contracts refer to athletes and organizations by key, so they are resolved against the loaded lists
+            progress.accept(MESSAGE_LOADING_CONTRACTS);
+            Optional<ReadOnlyContractList> contractOpt = storage.readContractList(initialAthleteList,
+                    initialOrganizationList);
+            initialContractList = contractOpt.orElse(SampleDataUtil.getEmptyContractList());
+
+            AthleteList replayedAthletes = new AthleteList(initialAthleteList);
+            ContractList replayedContracts = new ContractList(initialContractList);
+            OrganizationList replayedOrganizations = new OrganizationList(initialOrganizationList);
+            progress.accept(MESSAGE_REPLAYING_JOURNAL);
+            journalSize = replayJournal(storage, replayedAthletes, replayedContracts, replayedOrganizations);
+            initialAthleteList = replayedAthletes;
+            initialContractList = replayedContracts;
+            initialOrganizationList = replayedOrganizations;
+
             // Reset all if contracts exist but either athlete or organization list is empty
             if (!initialContractList.getContractList().isEmpty()
                     && (initialAthleteList.getAthleteList().isEmpty()
@@ -127,15 +192,39 @@ public class MainApp extends Application {
                 initialAthleteList = SampleDataUtil.getEmptyAthleteList();
                 initialContractList = SampleDataUtil.getEmptyContractList();
                 initialOrganizationList = SampleDataUtil.getEmptyOrganizationList();
+                journalSize = LoadedData.NOT_IN_STORAGE;
             }
         } catch (DataLoadingException e) {
             logger.warning("Failed to load data files. Resetting all lists.");
             initialAthleteList = SampleDataUtil.getEmptyAthleteList();
             initialContractList = SampleDataUtil.getEmptyContractList();
             initialOrganizationList = SampleDataUtil.getEmptyOrganizationList();
+            journalSize = LoadedData.NOT_IN_STORAGE;
         }
-        return new ModelManager(initialData, userPrefs, initialAthleteList, initialContractList,
-                initialOrganizationList);
+        return new LoadedData(initialAthleteList, initialContractList, initialOrganizationList, journalSize);
+    }
+
+    /**
+     * Applies the entries of the journal in {@code storage} to the given lists, in the order they were recorded.
+     *
+     * @return the number of entries in the journal, or {@link LoadedData#NOT_IN_STORAGE} if it could not be read.
+     */
+    private static int replayJournal(Storage storage, AthleteList athletes, ContractList contracts,
+                                      OrganizationList organizations) {
+        List<JournalEntry> entries;
+        try {
+            entries = storage.readJournal();
+        } catch (DataLoadingException e) {
+            logger.warning("Journal file at " + storage.getJournalFilePath() + " could not be loaded."
+                    + " Using the last saved snapshots only.");
+            return LoadedData.NOT_IN_STORAGE;
+        }
+
+        if (!entries.isEmpty()) {
+            logger.info("Replaying " + entries.size() + " journal entries.");
+        }
+        JournalEntry.replay(entries, athletes, contracts, organizations);
+        return entries.size();
     }
 
     private void initLogging(Config config) {
@@ -203,6 +292,13 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        // The prefs file is read field by field, so values the setters would reject are only caught here
+        if (initializedPrefs.getSearchCacheMemoryBudget() < 0) {
+            logger.warning("Preference file at " + prefsFilePath + " has a negative searchCacheMemoryBudget."
+                    + " Using the default of " + UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET + " bytes.");
+            initializedPrefs.setSearchCacheMemoryBudget(UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET);
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -223,14 +319,50 @@ public class MainApp extends Application {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
         logger.info("UI started successfully.");
+        loadDataInBackground();
     }
 
     /**
-     * Stops the application, saving user preferences before exit.
+     * Loads the data from storage on a background thread while the UI shows its progress, then hands the data to
+     * the logic on the JavaFX application thread. Commands entered in the meantime are run after that.
+     * If loading fails unexpectedly, those commands are discarded and no changes are allowed.
+     */
+    private void loadDataInBackground() {
+        ui.showLoadingProgress(MESSAGE_LOADING);
+        Executor loader = runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            thread.start();
+        };
+        Consumer<String> progress = message -> Platform.runLater(() -> ui.showLoadingProgress(message));
+        CompletableFuture.supplyAsync(() -> loadData(storage, progress), loader)
+                .whenCompleteAsync((data, error) -> {
+                    if (error != null) {
+                        logger.severe("Failed to load data: " + StringUtil.getDetails(error));
+                        // The lists are empty only because loading failed, so they must never replace the files
+                        logic.refuseChanges();
+                        ui.failLoading(MESSAGE_LOADING_FAILED);
+                        return;
+                    }
+                    if (data.isInStorage()) {
+                        logic.resetData(data, data.getJournalSize());
+                    } else {
+                        logic.resetData(data);
+                    }
+                    ui.finishLoading(String.format(MESSAGE_LOADED, data.getAthleteList().size(),
+                            data.getOrganizationList().size(), data.getContractList().size()));
+                }, Platform::runLater);
+    }
+
+    /**
+     * Stops the application, saving queued data and user preferences before exit.
      */
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (logic != null && !logic.flushStorage(STORAGE_FLUSH_TIMEOUT_MILLIS)) {
+            logger.severe("Some changes could not be saved before exiting.");
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             logger.info("User preferences saved successfully.");
@@ -238,4 +370,54 @@ public class MainApp extends Application {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * The three lists loaded from storage.
+     */
+    private static class LoadedData implements ReadOnlyAddressBook {
+        /** Journal size of lists that differ from what storage holds, such as lists reset after an error. */
+        static final int NOT_IN_STORAGE = -1;
+
+        private final ReadOnlyAthleteList athletes;
+        private final ReadOnlyContractList contracts;
+        private final ReadOnlyOrganizationList organizations;
+        private final int journalSize;
+
+        LoadedData(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+                   ReadOnlyOrganizationList organizations, int journalSize) {
+            this.athletes = athletes;
+            this.contracts = contracts;
+            this.organizations = organizations;
+            this.journalSize = journalSize;
+        }
+
+        /**
+         * Returns true if the lists are exactly what the snapshots in storage hold with the journal replayed.
+         */
+        boolean isInStorage() {
+            return journalSize != NOT_IN_STORAGE;
+        }
+
+        /**
+         * Returns the number of journal entries replayed on top of the snapshots.
+         */
+        int getJournalSize() {
+            return journalSize;
+        }
+
+        @Override
+        public ObservableList<Athlete> getAthleteList() {
+            return athletes.getAthleteList();
+        }
+
+        @Override
+        public ObservableList<Contract> getContractList() {
+            return contracts.getContractList();
+        }
+
+        @Override
+        public ObservableList<Organization> getOrganizationList() {
+            return organizations.getOrganizationList();
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Helper functions for computing edit distances between strings, up to a maximum distance.
+ */
+public class EditDistanceUtil {
+
+    // Two rows of the dynamic programming table, reused by every call on the same thread
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][32]);
+
+    /**
+     * Returns true if the Levenshtein distance between {@code left} and {@code right} is at most
+     * {@code maxDistance}.
+     *
+     * @param maxDistance cannot be negative
+     */
+    public static boolean isWithinLevenshteinDistance(CharSequence left, CharSequence right, int maxDistance) {
+        return boundedLevenshteinDistance(left, right, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code left} and {@code right}, which is the minimum number of
+     * single-character insertions, deletions and substitutions that change one into the other.
+     * If the distance is more than {@code maxDistance}, returns {@code maxDistance + 1} instead.
+     * <p>
+     * Only the cells of the table within {@code maxDistance} of its diagonal are computed, and the computation
+     * stops as soon as a whole row exceeds {@code maxDistance}.
+     *
+     * @param maxDistance cannot be negative
+     */
+    public static int boundedLevenshteinDistance(CharSequence left, CharSequence right, int maxDistance) {
+        requireAllNonNull(left, right);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int leftLength = left.length();
+        int rightLength = right.length();
+        int exceeded = maxDistance + 1;
+        if (Math.abs(leftLength - rightLength) > maxDistance) {
+            return exceeded;
+        }
+        if (leftLength == 0 || rightLength == 0) {
+            return Math.max(leftLength, rightLength);
+        }
+
+        int[][] rows = getRows(rightLength + 2);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= rightLength; j++) {
+            previous[j] = Math.min(j, exceeded);
+        }
+
+        // Cells outside the band are at least maxDistance + 1, so they are all stored as exactly that
+        for (int i = 1; i <= leftLength; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(rightLength, i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, exceeded) : exceeded;
+            int rowMinimum = current[from - 1];
+            char leftChar = left.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = leftChar == right.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+                current[j] = Math.min(distance, exceeded);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum >= exceeded) {
+                return exceeded;
+            }
+            current[to + 1] = exceeded;
+
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+
+        return previous[rightLength];
+    }
+
+    /**
+     * Returns the two rows of this thread, with at least {@code length} cells each.
+     */
+    private static int[][] getRows(int length) {
+        int[][] rows = ROWS.get();
+        if (rows[0].length < length) {
+            rows = new int[2][Math.max(length, rows[0].length * 2)];
+            ROWS.set(rows);
+        }
+        return rows;
+    }
+}
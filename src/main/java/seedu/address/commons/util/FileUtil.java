@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -80,4 +89,83 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of a file with what {@code contentWriter} writes, creating the file and its missing
+     * parent directories if needed.
+     * The content is written to a temporary file beside {@code file}, forced to the disk and then moved over
+     * {@code file}, so that {@code file} keeps either its old or its new contents if writing fails part way.
+     * A replaced file keeps its permissions, and a new one gets the default permissions.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = createTempFileBeside(file);
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                contentWriter.writeTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates an empty file named after {@code file} in the same directory, with a name no other file has.
+     * Unlike {@link Files#createTempFile}, which only lets the owner read the file, this gives it the default
+     * permissions.
+     */
+    private static Path createTempFileBeside(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        while (true) {
+            Path tempFile = parentDir.resolve(file.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Another file has the name, so another is tried
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, if {@code source} exists and has POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.exists(source) && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, replacing it in a single step where the file system allows it.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, which is not buffered and need not be closed.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
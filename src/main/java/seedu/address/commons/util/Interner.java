@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by the exact text they hold.
+ * Equal texts give the same instance for as long as that instance is in use elsewhere; unused instances
+ * are left to the garbage collector. The pool is safe to use from multiple threads.
+ *
+ * @param <T> the type of the pooled values
+ */
+public class Interner<T> {
+
+    // Each key is the text held by its value, so an entry stays in the pool exactly as long as its value is in use
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<? super T, String> textOf;
+
+    /**
+     * Creates an empty pool of values whose canonical text is given by {@code textOf}.
+     */
+    public Interner(Function<? super T, String> textOf) {
+        requireNonNull(textOf);
+        this.textOf = textOf;
+    }
+
+    /**
+     * Returns the pooled value for {@code text}, creating it with {@code create} if there is none.
+     * The created value is pooled under its own canonical text, which may differ from {@code text} if
+     * {@code create} normalizes it; if a value with that canonical text is already pooled, it is returned instead.
+     * Any exception thrown by {@code create} is passed on, and nothing is pooled.
+     */
+    public T intern(String text, Function<String, ? extends T> create) {
+        requireNonNull(text);
+        synchronized (pool) {
+            T pooled = get(text);
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+
+        // Created outside the lock, as creating a value may validate and normalize its text
+        T created = create.apply(text);
+        String canonicalText = textOf.apply(created);
+        synchronized (pool) {
+            T pooled = get(canonicalText);
+            if (pooled != null) {
+                return pooled;
+            }
+            // A stale entry keeps its old key on put, which would be collected along with its old value
+            pool.remove(canonicalText);
+            pool.put(canonicalText, new WeakReference<>(created));
+            return created;
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool, some of which may be about to be collected.
+     */
+    public int size() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+
+    private T get(String text) {
+        WeakReference<T> reference = pool.get(text);
+        return reference == null ? null : reference.get();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -11,17 +12,25 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +48,12 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writers are immutable, so they are configured once and shared; streams written to are left open
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter compactWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     /**
      * Serializes a Java object to a JSON file.
      *
@@ -48,7 +63,16 @@ public class JsonUtil {
      * @throws IOException If there is an error writing to the file.
      */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, prettyWriter);
+    }
+
+    /**
+     * Serializes a Java object to a JSON file with the given writer, streaming the JSON into the file as it is
+     * generated. The file is replaced atomically, so it is left unchanged if writing fails.
+     */
+    private static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, ObjectWriter writer)
+            throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile, out -> writer.writeValue(out, objectToSerialize));
     }
 
     /**
@@ -94,6 +118,51 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the JSON object in the given file without reading the whole file into memory at once.
+     * Each element of the array field named {@code arrayFieldName} is read into an instance of {@code elementClass}
+     * and passed to {@code elementHandler} as soon as it is read, in order. The other fields of the object are
+     * returned, or {@code Optional.empty()} if the file is not found. A missing array field is read as empty.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if reading or parsing the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} threw it, which stops the reading.
+     */
+    public static <T> Optional<ObjectNode> streamJsonFile(Path filePath, String arrayFieldName,
+            Class<T> elementClass, ElementHandler<? super T> elementHandler)
+            throws DataLoadingException, IllegalValueException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, elementHandler);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        ObjectNode otherFields = objectMapper.createObjectNode();
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(arrayFieldName) && valueToken == JsonToken.START_ARRAY) {
+                    ObjectReader elementReader = objectMapper.readerFor(elementClass);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        elementHandler.accept(elementReader.readValue(parser));
+                    }
+                } else {
+                    otherFields.set(fieldName, parser.readValueAsTree());
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return Optional.of(otherFields);
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -102,10 +171,22 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, indented for reading or, if {@code isCompact}, without any
+     * whitespace, which makes large files smaller and quicker to write.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact ? compactWriter : prettyWriter);
     }
 
     /**
@@ -124,7 +205,32 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #streamJsonFile}.
+     *
+     * @param <T> The type of the elements.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles the next element.
+         *
+         * @throws IllegalValueException if the element is not valid, which stops the reading.
+         */
+        void accept(T element) throws IllegalValueException;
     }
 
     /**
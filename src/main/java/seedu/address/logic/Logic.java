@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.organization.Organization;
 
 /**
@@ -25,6 +27,42 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes each of the commands in order and returns a summary of the results, saving their changes once at
+     * the end. Commands that cannot be parsed or executed are listed in the summary and do not stop the others.
+     * @param commandTexts The commands to execute, one per element.
+     * @return the summary of the results.
+     * @throws CommandException If an error occurs while saving the changes.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Writes every change that has not been saved yet, waiting at most {@code timeoutMillis} milliseconds
+     * for queued writes to finish.
+     *
+     * @return true if every change was saved in time.
+     */
+    boolean flushStorage(long timeoutMillis);
+
+    /**
+     * Replaces all data in the model with {@code loadedData}, which was loaded from storage after this
+     * {@code Logic} was created. The replacement itself is not written back to storage.
+     */
+    void resetData(ReadOnlyAddressBook loadedData);
+
+    /**
+     * Replaces all data in the model with {@code loadedData}, which is exactly what the snapshots in storage hold
+     * once the {@code journalSize} entries of the journal are replayed on top of them. Changes made from here on
+     * are appended to the journal, and the snapshots are only rewritten once it grows too long.
+     */
+    void resetData(ReadOnlyAddressBook loadedData, int journalSize);
+
+    /**
+     * Refuses every command that would change the data from now on, so that data that failed to load is never
+     * written over what storage holds.
+     */
+    void refuseChanges();
+
     /**
      * Returns the AddressBook.
      *
@@ -68,4 +106,11 @@ public interface Logic {
 
     /** Returns an unmodifiable view of the filtered list of Organizations */
     ObservableList<Organization> getAllOrganizationList();
+
+    /**
+     * Returns the per-athlete and per-organization summaries of all contracts.
+     *
+     * @see seedu.address.model.Model#getContractAggregates()
+     */
+    ContractAggregates getContractAggregates();
 }
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,15 +13,23 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.storage.JournalEntry;
+import seedu.address.storage.JournalRecorder;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageWriter;
 
 /**
  * The main LogicManager of the app.
@@ -29,19 +40,55 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_CHANGES_REFUSED = "Data could not be loaded, so no changes can be made. "
+            + "Restart the application to try loading it again.";
+
+    /** Number of journal entries after which the journal is folded back into the snapshot files. */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    private static final int UNKNOWN_COUNT = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final JournalRecorder journalRecorder;
+    private final StorageWriter storageWriter;
+
+    private int journalSize = 0;
+    private boolean isRefusingChanges = false;
+
+    // Modification counts of the lists as of the last write queued to storage
+    private int savedAthleteCount;
+    private int savedContractCount;
+    private int savedOrganizationCount;
+
+    // Modification counts of the lists as of the last snapshot write, or UNKNOWN_COUNT if the snapshot
+    // may be missing changes. They stay unknown until data that is known to match storage is loaded.
+    private int snapshotAthleteCount = UNKNOWN_COUNT;
+    private int snapshotContractCount = UNKNOWN_COUNT;
+    private int snapshotOrganizationCount = UNKNOWN_COUNT;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are written to storage before {@link #execute(String)} returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new StorageWriter(storage, Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, writing changes through {@code storageWriter}.
+     */
+    public LogicManager(Model model, StorageWriter storageWriter) {
         this.model = model;
-        this.storage = storage;
+        this.storageWriter = storageWriter;
         addressBookParser = new AddressBookParser();
+        journalRecorder = new JournalRecorder(model.getAthleteList().getAthleteList(),
+                model.getContractList().getContractList(), model.getOrganizationList().getOrganizationList());
+        savedAthleteCount = model.getAthleteModificationCount();
+        savedContractCount = model.getContractModificationCount();
+        savedOrganizationCount = model.getOrganizationModificationCount();
     }
 
     /**
@@ -52,8 +99,14 @@ public class LogicManager implements Logic {
      *   <li>Logs the command entered by the user</li>
      *   <li>Parses it into a {@link Command}</li>
      *   <li>Executes the command on the {@link Model}</li>
-     *   <li>Attempts to save any modified data to storage</li>
+     *   <li>Queues the resulting mutations, if any, to be appended to the storage journal</li>
      * </ul>
+     * Writes are handed to the {@link StorageWriter}, so a write that fails in the background is reported by the
+     * next command.
+     * Commands that leave every list unmodified do not touch storage at all. The journal is compacted into the
+     * snapshot files once it grows past {@link #JOURNAL_COMPACTION_THRESHOLD} entries, after a failed write, and
+     * on the first modification of a session whose data is not known to match storage. Only the snapshots of
+     * lists that were modified since they were last written are saved.
      *
      * @param commandText The raw command input by the user.
      * @return The {@link CommandResult} produced by executing the command.
@@ -66,22 +119,154 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (isRefusingChanges && command.modifiesData()) {
+            throw new CommandException(MESSAGE_CHANGES_REFUSED);
+        }
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveAthleteList(model.getAthleteList());
-            storage.saveContractList(model.getContractList());
-            storage.saveOrganizationList(model.getOrganizationList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        saveChanges();
+        return commandResult;
+    }
+
+    /**
+     * Executes each of the commands in order, then saves all of their changes together.
+     * A command that fails is reported in the result, and the remaining commands still run.
+     *
+     * @see RunCommand#executeAll(List, Model)
+     */
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+        if (isRefusingChanges) {
+            throw new CommandException(MESSAGE_CHANGES_REFUSED);
         }
 
+        CommandResult commandResult = RunCommand.executeAll(commandTexts, model);
+
+        saveChanges();
         return commandResult;
     }
 
+    /**
+     * Queues the changes made since the last save to be written to storage.
+     *
+     * @throws CommandException If this write or one queued earlier failed.
+     */
+    private void saveChanges() throws CommandException {
+        IOException earlierFailure = takeWriteFailure();
+        persistChanges();
+        IOException failure = takeWriteFailure();
+        failure = failure == null ? earlierFailure : failure;
+        if (failure instanceof AccessDeniedException) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage()),
+                    failure);
+        } else if (failure != null) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage()), failure);
+        }
+    }
+
+    @Override
+    public boolean flushStorage(long timeoutMillis) {
+        takeWriteFailure();
+        persistChanges();
+        boolean isFlushed = storageWriter.flush(timeoutMillis);
+        IOException failure = takeWriteFailure();
+        if (failure != null) {
+            logger.severe("Could not save data: " + failure.getMessage());
+        }
+        return isFlushed && failure == null;
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook loadedData) {
+        requireNonNull(loadedData);
+        model.setAddressBook(loadedData);
+        // The loaded data is already in storage, so only changes made from here on are written
+        journalRecorder.drainEntries();
+        savedAthleteCount = model.getAthleteModificationCount();
+        savedContractCount = model.getContractModificationCount();
+        savedOrganizationCount = model.getOrganizationModificationCount();
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook loadedData, int journalSize) {
+        resetData(loadedData);
+        this.journalSize = journalSize;
+        snapshotAthleteCount = savedAthleteCount;
+        snapshotContractCount = savedContractCount;
+        snapshotOrganizationCount = savedOrganizationCount;
+    }
+
+    @Override
+    public void refuseChanges() {
+        isRefusingChanges = true;
+    }
+
+    /**
+     * Returns the failure of a write queued earlier, if any. Since the mutations of a failed write may be missing
+     * from both the journal and the snapshots, every list is then saved in full by the next write.
+     */
+    private IOException takeWriteFailure() {
+        IOException failure = storageWriter.takeFailure();
+        if (failure != null) {
+            savedAthleteCount = UNKNOWN_COUNT;
+            savedContractCount = UNKNOWN_COUNT;
+            savedOrganizationCount = UNKNOWN_COUNT;
+            snapshotAthleteCount = UNKNOWN_COUNT;
+            snapshotContractCount = UNKNOWN_COUNT;
+            snapshotOrganizationCount = UNKNOWN_COUNT;
+        }
+        return failure;
+    }
+
+    /**
+     * Queues the mutations recorded since the last command to be written to storage.
+     */
+    private void persistChanges() {
+        int athleteCount = model.getAthleteModificationCount();
+        int contractCount = model.getContractModificationCount();
+        int organizationCount = model.getOrganizationModificationCount();
+        List<JournalEntry> entries = journalRecorder.drainEntries();
+        if (athleteCount == savedAthleteCount && contractCount == savedContractCount
+                && organizationCount == savedOrganizationCount) {
+            return;
+        }
+
+        if (isSnapshotIncomplete() || journalSize + entries.size() >= JOURNAL_COMPACTION_THRESHOLD) {
+            compactJournal(athleteCount, contractCount, organizationCount);
+        } else {
+            storageWriter.submitJournalEntries(entries);
+            journalSize += entries.size();
+        }
+
+        savedAthleteCount = athleteCount;
+        savedContractCount = contractCount;
+        savedOrganizationCount = organizationCount;
+    }
+
+    private boolean isSnapshotIncomplete() {
+        return snapshotAthleteCount == UNKNOWN_COUNT || snapshotContractCount == UNKNOWN_COUNT
+                || snapshotOrganizationCount == UNKNOWN_COUNT;
+    }
+
+    /**
+     * Queues a copy of every list modified since its last snapshot to be saved, after which the journal is cleared.
+     */
+    private void compactJournal(int athleteCount, int contractCount, int organizationCount) {
+        // The writer may run on another thread, so it is given copies that later commands cannot modify
+        storageWriter.submitSnapshot(
+                athleteCount != snapshotAthleteCount ? new AthleteList(model.getAthleteList()) : null,
+                contractCount != snapshotContractCount ? new ContractList(model.getContractList()) : null,
+                organizationCount != snapshotOrganizationCount
+                        ? new OrganizationList(model.getOrganizationList()) : null);
+
+        journalSize = 0;
+        snapshotAthleteCount = athleteCount;
+        snapshotContractCount = contractCount;
+        snapshotOrganizationCount = organizationCount;
+    }
+
     /**
      * Returns the current read-only {@link ReadOnlyAddressBook} from the model.
      *
@@ -182,4 +367,13 @@ public class LogicManager implements Logic {
         return model.getContractList().getContractList();
     }
 
+    /**
+     * Returns the per-athlete and per-organization summaries of all contracts.
+     *
+     * @return The {@link ContractAggregates} of all contracts.
+     */
+    @Override
+    public ContractAggregates getContractAggregates() {
+        return model.getContractAggregates();
+    }
 }
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may add, delete or otherwise change the data in the model,
+     * rather than only what is shown of it.
+     */
+    public boolean modifiesData() {
+        return true;
+    }
+
 }
@@ -22,4 +22,12 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    /**
+     * Returns false, as exiting does not change the data.
+     */
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
 }
@@ -2,16 +2,23 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Objects;
 
 import seedu.address.model.Model;
-import seedu.address.model.athlete.Athlete;
 import seedu.address.model.contract.Contract;
-import seedu.address.model.organization.Organization;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.search.ContractQuery;
+import seedu.address.model.search.FuzzyIndex;
+import seedu.address.model.search.QueryPlan;
 
 /**
- * Filters and shows model entities based on query keywords using case-insensitive fuzzy matches.
+ * Filters and shows model entities based on query keywords using case-insensitive fuzzy matches,
+ * or contracts based on their dates.
+ * Matches are looked up in the model's {@link seedu.address.model.search.SearchIndex}.
+ * Contracts can also be filtered by a {@link ContractQuery} that combines several terms, which is planned by the
+ * search index; the plan can be shown along with the results.
  * The command temporarily filters the in-memory lists without mutating any saved data.
  */
 public class FindCommand extends Command {
@@ -20,21 +27,31 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Filters the requested list by keyword (case-insensitive, allows close matches).\n"
-            + "Exactly one flag must be supplied:\n"
+            + "Supply one flag:\n"
             + "  -an KEYWORD    Shows athletes whose name closely matches KEYWORD.\n"
             + "  -as KEYWORD    Shows athletes whose sport closely matches KEYWORD.\n"
             + "  -on KEYWORD    Shows organizations whose name closely matches KEYWORD.\n"
             + "  -ca KEYWORD    Shows contracts whose athlete's name closely matches KEYWORD.\n"
             + "  -co KEYWORD    Shows contracts whose organization name closely matches KEYWORD.\n"
             + "  -cs KEYWORD    Shows contracts whose sport closely matches KEYWORD.\n"
-            + "Example: " + COMMAND_WORD + " -an Lionel";
-
-    private static final String MESSAGE_RESULTS_FORMAT = "Showing %1$d %2$s closely matching \"%3$s\".\n"
+            + "  -active DATE   Shows contracts that have started and not yet ended on DATE (DDMMYYYY).\n"
+            + "  -expiring DAYS Shows contracts that end within DAYS days from today.\n"
+            + "Contract terms can be combined with AND, OR, NOT and parentheses, along with conditions on the\n"
+            + "amount (am), start date (sd) and end date (ed) using <, <=, =, >= or >, such as am>1000000.\n"
+            + "Add -explain to show how the matching contracts were found.\n"
+            + "Examples: " + COMMAND_WORD + " -an Lionel, "
+            + COMMAND_WORD + " -co Nike AND am>1000000 AND NOT -cs Golf -explain";
+
+    /** The largest number of days {@code -expiring} looks ahead. */
+    public static final int MAX_EXPIRING_DAYS = 36500;
+
+    private static final String MESSAGE_RESULTS_FORMAT = "Showing %1$d %2$s %3$s.\n"
             + "You can refresh the display anytime using Cmd+R (macOS) "
             + "or Ctrl+R (Windows/Linux) to show all data again.";
-    private static final String MESSAGE_NO_RESULTS_FORMAT = "No %1$s found matching \"%2$s\".\n"
+    private static final String MESSAGE_NO_RESULTS_FORMAT = "No %1$s found %2$s.\n"
             + "You can refresh the display anytime using Cmd+R (macOS) "
             + "or Ctrl+R (Windows/Linux) to show all data again.";
+    private static final String MESSAGE_PLAN_HEADER = "\nPlan:\n";
 
     /**
      * Supported scopes for the find command.
@@ -42,8 +59,8 @@ public class FindCommand extends Command {
     public enum SearchScope {
         ATHLETE_NAME("athletes", "athlete", CommandResult.UiTab.ATHLETES) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredAthleteList(athleteMatchesName(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredAthleteList(model.getSearchIndex().athletesMatchingName(keywordLower));
                 model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
                 model.updateFilteredContractList(Model.PREDICATE_SHOW_ALL_CONTRACTS);
                 return model.getFilteredAthleteList().size();
@@ -51,8 +68,8 @@ public class FindCommand extends Command {
         },
         ATHLETE_SPORT("athletes", "athlete", CommandResult.UiTab.ATHLETES) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredAthleteList(athleteMatchesSport(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredAthleteList(model.getSearchIndex().athletesMatchingSport(keywordLower));
                 model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
                 model.updateFilteredContractList(Model.PREDICATE_SHOW_ALL_CONTRACTS);
                 return model.getFilteredAthleteList().size();
@@ -60,8 +77,8 @@ public class FindCommand extends Command {
         },
         ORGANIZATION_NAME("organizations", "organization", CommandResult.UiTab.ORGANIZATIONS) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredOrganizationList(organizationMatchesName(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredOrganizationList(model.getSearchIndex().organizationsMatchingName(keywordLower));
                 model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
                 model.updateFilteredContractList(Model.PREDICATE_SHOW_ALL_CONTRACTS);
                 return model.getFilteredOrganizationList().size();
@@ -69,8 +86,8 @@ public class FindCommand extends Command {
         },
         CONTRACT_ATHLETE("contracts", "contract", CommandResult.UiTab.CONTRACTS) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredContractList(contractMatchesAthleteName(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredContractList(model.getSearchIndex().contractsMatchingAthleteName(keywordLower));
                 model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
                 model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
                 return model.getFilteredContractList().size();
@@ -78,8 +95,9 @@ public class FindCommand extends Command {
         },
         CONTRACT_ORGANIZATION("contracts", "contract", CommandResult.UiTab.CONTRACTS) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredContractList(contractMatchesOrganizationName(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredContractList(
+                        model.getSearchIndex().contractsMatchingOrganizationName(keywordLower));
                 model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
                 model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
                 return model.getFilteredContractList().size();
@@ -87,8 +105,29 @@ public class FindCommand extends Command {
         },
         CONTRACT_SPORT("contracts", "contract", CommandResult.UiTab.CONTRACTS) {
             @Override
-            int apply(Model model, String keywordLower) {
-                model.updateFilteredContractList(contractMatchesSport(keywordLower));
+            int apply(Model model, String keywordLower, LocalDate today) {
+                model.updateFilteredContractList(model.getSearchIndex().contractsMatchingSport(keywordLower));
+                model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
+                model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
+                return model.getFilteredContractList().size();
+            }
+        },
+        CONTRACT_ACTIVE("contracts", "contract", CommandResult.UiTab.CONTRACTS, "active on %s", "active on %s") {
+            @Override
+            int apply(Model model, String keywordLower, LocalDate today) {
+                LocalDate date = new Date8(keywordLower).toLocalDate();
+                model.updateFilteredContractList(model.getSearchIndex().contractsActiveOn(date));
+                model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
+                model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
+                return model.getFilteredContractList().size();
+            }
+        },
+        CONTRACT_EXPIRING("contracts", "contract", CommandResult.UiTab.CONTRACTS,
+                "expiring within %s days", "expiring within %s days") {
+            @Override
+            int apply(Model model, String keywordLower, LocalDate today) {
+                LocalDate lastDay = today.plusDays(Integer.parseInt(keywordLower));
+                model.updateFilteredContractList(model.getSearchIndex().contractsEndingBetween(today, lastDay));
                 model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
                 model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
                 return model.getFilteredContractList().size();
@@ -98,14 +137,24 @@ public class FindCommand extends Command {
         private final String noun;
         private final String singularNoun;
         private final CommandResult.UiTab tabToShow;
+        // Describe what the shown entities match, given the keyword
+        private final String matchFormat;
+        private final String noMatchFormat;
 
         SearchScope(String noun, String singularNoun, CommandResult.UiTab tabToShow) {
+            this(noun, singularNoun, tabToShow, "closely matching \"%s\"", "matching \"%s\"");
+        }
+
+        SearchScope(String noun, String singularNoun, CommandResult.UiTab tabToShow, String matchFormat,
+                String noMatchFormat) {
             this.noun = noun;
             this.singularNoun = singularNoun;
             this.tabToShow = tabToShow;
+            this.matchFormat = matchFormat;
+            this.noMatchFormat = noMatchFormat;
         }
 
-        abstract int apply(Model model, String keywordLower);
+        abstract int apply(Model model, String keywordLower, LocalDate today);
 
         CommandResult.UiTab getTabToShow() {
             return tabToShow;
@@ -145,6 +194,8 @@ public class FindCommand extends Command {
             case CONTRACT_ATHLETE:
             case CONTRACT_ORGANIZATION:
             case CONTRACT_SPORT:
+            case CONTRACT_ACTIVE:
+            case CONTRACT_EXPIRING:
                 return "contract";
             default:
                 return noun; // fallback
@@ -152,24 +203,60 @@ public class FindCommand extends Command {
         }
     }
 
-    private static final Pattern WORD_PATTERN = Pattern.compile("[\\p{Alnum}]+");
-
+    // Either a scope and keyword, or a query over contracts
     private final SearchScope scope;
     private final String keyword;
+    private final ContractQuery query;
+    private final boolean isExplained;
+    private final Clock clock;
 
     /**
      * Constructs a {@code FindCommand} that filters according to {@code scope} and {@code keyword}.
      */
     public FindCommand(SearchScope scope, String keyword) {
+        this(scope, keyword, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that filters according to {@code scope} and {@code keyword},
+     * taking today's date from {@code clock}.
+     */
+    public FindCommand(SearchScope scope, String keyword, Clock clock) {
         requireNonNull(scope);
         requireNonNull(keyword);
+        requireNonNull(clock);
         this.scope = scope;
         this.keyword = keyword;
+        this.query = null;
+        this.isExplained = false;
+        this.clock = clock;
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that shows the contracts matching {@code query}, along with how they were
+     * found if {@code isExplained}.
+     */
+    public FindCommand(ContractQuery query, boolean isExplained) {
+        this(query, isExplained, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that shows the contracts matching {@code query}, along with how they were
+     * found if {@code isExplained}, taking today's date from {@code clock}.
+     */
+    public FindCommand(ContractQuery query, boolean isExplained, Clock clock) {
+        requireNonNull(query);
+        requireNonNull(clock);
+        this.scope = null;
+        this.keyword = null;
+        this.query = query;
+        this.isExplained = isExplained;
+        this.clock = clock;
     }
 
     /**
      * Executes the find command to filter entities in the model.
-     * Uses fuzzy matching to find entities that closely match the keyword.
+     * Uses fuzzy matching to find entities that closely match the keyword, or the dates of contracts.
      *
      * @param model The model to search in. Cannot be null.
      * @return A CommandResult with feedback about the number of matches found.
@@ -177,21 +264,55 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        String keywordLower = keyword.toLowerCase();
-        int matches = scope.apply(model, keywordLower);
+        if (query != null) {
+            return executeQuery(model);
+        }
+        String keywordLower = FuzzyIndex.toLowerCase(keyword);
+        int matches = scope.apply(model, keywordLower, LocalDate.now(clock));
 
         String feedback;
         if (matches == 0) {
-            feedback = String.format(MESSAGE_NO_RESULTS_FORMAT, scope.getNoun(), keyword);
+            feedback = String.format(MESSAGE_NO_RESULTS_FORMAT, scope.getNoun(),
+                    String.format(scope.noMatchFormat, keyword));
         } else {
-            feedback = String.format(MESSAGE_RESULTS_FORMAT, matches, scope.getNoun(matches), keyword);
+            feedback = String.format(MESSAGE_RESULTS_FORMAT, matches, scope.getNoun(matches),
+                    String.format(scope.matchFormat, keyword));
         }
 
         return new CommandResult(feedback, scope.getTabToShow());
     }
 
+    private CommandResult executeQuery(Model model) {
+        QueryPlan<Contract> plan = model.getSearchIndex().planContracts(query, LocalDate.now(clock));
+        model.updateFilteredContractList(plan.execute());
+        model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
+        model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
+        int matches = model.getFilteredContractList().size();
+
+        String feedback;
+        if (matches == 0) {
+            feedback = String.format(MESSAGE_NO_RESULTS_FORMAT, "contracts", "matching " + query);
+        } else {
+            feedback = String.format(MESSAGE_RESULTS_FORMAT, matches, matches == 1 ? "contract" : "contracts",
+                    "matching " + query);
+        }
+        if (isExplained) {
+            feedback += MESSAGE_PLAN_HEADER + String.join("\n", plan.getSteps());
+        }
+        return new CommandResult(feedback, CommandResult.UiTab.CONTRACTS);
+    }
+
     /**
-     * Returns true if both FindCommand objects have the same scope and keyword (case-insensitive).
+     * Returns false, as a search only filters what is shown.
+     */
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    /**
+     * Returns true if both FindCommand objects have the same scope and keyword (case-insensitive),
+     * or the same query and whether it is explained.
      *
      * @param other The other object to compare with.
      * @return True if both objects are equal, false otherwise.
@@ -206,149 +327,22 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherCommand = (FindCommand) other;
+        if (query != null || otherCommand.query != null) {
+            return Objects.equals(query, otherCommand.query) && isExplained == otherCommand.isExplained;
+        }
         return scope == otherCommand.scope && keyword.equalsIgnoreCase(otherCommand.keyword);
     }
 
     /**
      * Returns the hash code for this FindCommand.
      *
-     * @return The hash code based on scope and lowercase keyword.
+     * @return The hash code based on scope and lowercase keyword, or on the query.
      */
     @Override
     public int hashCode() {
-        return (scope.name() + "|" + keyword.toLowerCase()).hashCode();
-    }
-
-    /**
-     * Performs fuzzy matching between the search keyword and target text.
-     * Uses a three-tier matching strategy:
-     * 1. Exact substring match (case-insensitive)
-     * 2. Levenshtein distance matching on the full text
-     * 3. Word-by-word Levenshtein distance matching
-     *
-     * @param haystack the text to search in
-     * @param needleLower the search keyword (must be lowercase)
-     * @return true if the keyword fuzzy-matches the haystack text
-     */
-    private static boolean matchesFuzzy(String haystack, String needleLower) {
-        String haystackLower = haystack.toLowerCase();
-
-        // Tier 1: Exact substring match (fastest)
-        if (haystackLower.contains(needleLower)) {
-            return true;
-        }
-
-        // Calculate allowed edit distance based on keyword length
-        int allowedDistance = allowableDistance(needleLower.length());
-        if (allowedDistance == 0) {
-            return false; // Too short for fuzzy matching
-        }
-
-        // Tier 2: Full text Levenshtein distance match
-        if (levenshteinDistance(haystackLower, needleLower) <= allowedDistance) {
-            return true;
-        }
-
-        // Tier 3: Word-by-word Levenshtein distance match
-        // Splits text into words and tries matching each word individually
-        Matcher matcher = WORD_PATTERN.matcher(haystackLower);
-        while (matcher.find()) {
-            String token = matcher.group();
-            if (levenshteinDistance(token, needleLower) <= allowedDistance) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Calculates the maximum allowed Levenshtein distance for fuzzy matching
-     * based on the keyword length. Shorter keywords require exact matches,
-     * while longer keywords allow more edits.
-     *
-     * @param length the length of the search keyword
-     * @return the maximum allowed edit distance
-     */
-    private static int allowableDistance(int length) {
-        if (length <= 2) {
-            return 0; // 1-2 chars: exact match only
-        }
-        if (length <= 4) {
-            return 1; // 3-4 chars: 1 edit allowed
-        }
-        if (length <= 7) {
-            return 2; // 5-7 chars: 2 edits allowed
-        }
-        if (length <= 11) {
-            return 3; // 8-11 chars: 3 edits allowed
-        }
-        return 4; // 12+ chars: 4 edits allowed
-    }
-
-    /**
-     * Calculates the Levenshtein distance (edit distance) between two strings.
-     * The edit distance is the minimum number of single-character edits
-     * (insertions, deletions, or substitutions) required to change one string
-     * into another.
-     *
-     * Uses dynamic programming with space optimization (O(min(m,n)) space).
-     *
-     * @param left the first string
-     * @param right the second string
-     * @return the minimum edit distance between the strings
-     */
-    private static int levenshteinDistance(String left, String right) {
-        if (left.isEmpty()) {
-            return right.length();
-        }
-        if (right.isEmpty()) {
-            return left.length();
-        }
-
-        int[] previous = new int[right.length() + 1];
-        int[] current = new int[right.length() + 1];
-
-        for (int j = 0; j <= right.length(); j++) {
-            previous[j] = j;
-        }
-
-        for (int i = 1; i <= left.length(); i++) {
-            current[0] = i;
-            char leftChar = left.charAt(i - 1);
-            for (int j = 1; j <= right.length(); j++) {
-                int cost = leftChar == right.charAt(j - 1) ? 0 : 1;
-                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
-            }
-            int[] temp = previous;
-            previous = current;
-            current = temp;
+        if (query != null) {
+            return Objects.hash(query, isExplained);
         }
-
-        return previous[right.length()];
-    }
-
-    private static java.util.function.Predicate<Athlete> athleteMatchesName(String keywordLower) {
-        return athlete -> matchesFuzzy(athlete.getName().toString(), keywordLower);
-    }
-
-    private static java.util.function.Predicate<Athlete> athleteMatchesSport(String keywordLower) {
-        return athlete -> matchesFuzzy(athlete.getSport().toString(), keywordLower);
-    }
-
-    private static java.util.function.Predicate<Organization> organizationMatchesName(String keywordLower) {
-        return organization -> matchesFuzzy(organization.getName().toString(), keywordLower);
-    }
-
-    private static java.util.function.Predicate<Contract> contractMatchesAthleteName(String keywordLower) {
-        return contract -> matchesFuzzy(contract.getAthlete().getName().toString(), keywordLower);
-    }
-
-    private static java.util.function.Predicate<Contract> contractMatchesOrganizationName(String keywordLower) {
-        return contract -> matchesFuzzy(contract.getOrganization().getName().toString(), keywordLower);
-    }
-
-    private static java.util.function.Predicate<Contract> contractMatchesSport(String keywordLower) {
-        return contract -> matchesFuzzy(contract.getSport().toString(), keywordLower);
+        return (scope.name() + "|" + FuzzyIndex.toLowerCase(keyword)).hashCode();
     }
 }
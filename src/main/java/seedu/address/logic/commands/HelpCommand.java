@@ -24,4 +24,12 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    /**
+     * Returns false, as showing help does not change the data.
+     */
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
 }
@@ -44,6 +44,14 @@ public class RefreshCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    /**
+     * Returns false, as clearing the filters does not change the data.
+     */
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
     /**
      * Returns true if the other object is also a RefreshCommand.
      * All RefreshCommand instances are considered equal since they have no parameters.
@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs every command in a script file, one command per line.
+ * A line that fails is reported and skipped, and the remaining lines still run. The filters set by the commands
+ * are applied once after the last line rather than after every command, and the changes are saved together once
+ * the script has finished.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line. "
+            + "Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/roster.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands: %2$d succeeded, %3$d failed.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_FAILED = "... and %1$d more.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Error: Script file %1$s does not exist.";
+    public static final String MESSAGE_FILE_UNREADABLE = "Error: Script file %1$s could not be read: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "Error: A script cannot run other scripts.";
+
+    /** Most failed lines listed in the result, so that a script full of errors does not flood the display. */
+    public static final int MAX_REPORTED_FAILURES = 20;
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a {@code RunCommand} to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> commandTexts;
+        try {
+            commandTexts = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, scriptPath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_UNREADABLE, scriptPath, e.getMessage()), e);
+        }
+        return executeAll(commandTexts, model);
+    }
+
+    /**
+     * Executes each of {@code commandTexts} on {@code model} in order and returns a summary of the results.
+     * Blank lines and lines starting with {@code #} are skipped. A command that cannot be parsed or executed is
+     * listed in the summary by its line number, and the remaining commands still run. The filters set on
+     * {@code model} are applied once, after the last command.
+     */
+    public static CommandResult executeAll(List<String> commandTexts, Model model) {
+        requireNonNull(commandTexts);
+        requireNonNull(model);
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        int runCount = 0;
+
+        model.deferFilterUpdates();
+        try {
+            for (int i = 0; i < commandTexts.size(); i++) {
+                String commandText = commandTexts.get(i).trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                runCount++;
+                try {
+                    Command command = parser.parseCommand(commandText);
+                    if (command instanceof RunCommand) {
+                        throw new CommandException(MESSAGE_NESTED_RUN);
+                    }
+                    command.execute(model);
+                } catch (CommandException | ParseException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage()));
+                }
+            }
+        } finally {
+            model.resumeFilterUpdates();
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, runCount,
+                runCount - failures.size(), failures.size()));
+        failures.stream().limit(MAX_REPORTED_FAILURES).forEach(failure -> feedback.append('\n').append(failure));
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_LINES_FAILED,
+                    failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPORT;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.AthleteMessages;
 import seedu.address.logic.commands.Command;
@@ -15,7 +13,6 @@ import seedu.address.model.Model;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
-import seedu.address.model.contract.Contract;
 
 /**
  * Deletes an athlete identified from playbook.io.
@@ -60,26 +57,13 @@ public class DeleteAthleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Athlete> allAthletes = model.getAddressBook().getAthleteList();
-        List<Contract> contracts = model.getContractList().getContractList();
-
-        Athlete athleteToDelete = allAthletes.stream()
-                .filter(a -> a.getName().equals(this.name)
-                        && a.getSport().equals(this.sport))
-                .findFirst()
-                .orElse(null);
-
-        Contract existingContract = contracts.stream()
-                .filter(c -> c.getAthlete().getName().equals(this.name)
-                        && c.getAthlete().getSport().equals(this.sport))
-                .findFirst()
-                .orElse(null);
+        Athlete athleteToDelete = model.findAthlete(this.name, this.sport).orElse(null);
 
         if (athleteToDelete == null) {
             throw new CommandException(AthleteMessages.MESSAGE_INVALID_ATHLETE + ": " + this.name + " - " + this.sport);
         }
 
-        if (existingContract != null) {
+        if (!model.getContractAggregates().getAthleteTally(this.name, this.sport).isEmpty()) {
             throw new CommandException(AthleteMessages.MESSAGE_EXISTING_CONTRACT);
         }
 
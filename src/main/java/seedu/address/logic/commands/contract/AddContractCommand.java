@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.ContractMessages;
 import seedu.address.logic.commands.Command;
@@ -18,6 +17,7 @@ import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.Date8;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
@@ -104,7 +104,7 @@ public class AddContractCommand extends Command {
         Athlete athlete = findAthleteByNameOrThrow(model, athleteName, sport);
         Organization organization = findOrganizationByNameOrThrow(model, organizationName);
 
-        if (startDate.toLocalDate().isAfter(endDate.toLocalDate())) {
+        if (startDate.isAfter(endDate)) {
             throw new CommandException(String.format(MESSAGE_INVALID_DATE_RANGE, startDate, endDate));
         }
 
@@ -122,9 +122,7 @@ public class AddContractCommand extends Command {
     }
 
     private Athlete findAthleteByNameOrThrow(Model model, Name name, Sport sport) throws CommandException {
-        List<Athlete> list = model.getAddressBook().getAthleteList();
-        Optional<Athlete> match = list.stream().filter(a -> a.getName().equals(name)
-                && a.getSport().equals(sport)).findFirst();
+        Optional<Athlete> match = model.findAthlete(name, sport);
         if (match.isEmpty()) {
             throw new CommandException(
                     String.format(MESSAGE_NOT_FOUND_FMT, "Athlete", name + " - " + sport)
@@ -135,20 +133,17 @@ public class AddContractCommand extends Command {
 
     private void ensureNoTotalOverflow(
             Model model, Athlete athlete, Organization organization) throws CommandException {
-        ObservableList<Contract> contracts =
-                model.getContractList().getContractList();
+        ContractAggregates contracts = model.getContractAggregates();
         long contractAmount = amount.value;
 
         List<String> overflowTargets = new ArrayList<>();
 
-        long athleteTotal = sumForPredicate(contracts,
-                c -> c.getAthlete().isSameAthlete(athlete));
+        long athleteTotal = contracts.getAthleteTally(athlete).getTotalAmount();
         if (wouldOverflow(athleteTotal, contractAmount)) {
             overflowTargets.add("the athlete");
         }
 
-        long organizationTotal = sumForPredicate(contracts,
-                c -> c.getOrganization().isSameOrganization(organization));
+        long organizationTotal = contracts.getOrganizationTally(organization).getTotalAmount();
         if (wouldOverflow(organizationTotal, contractAmount)) {
             overflowTargets.add("the organization");
         }
@@ -159,29 +154,12 @@ public class AddContractCommand extends Command {
         }
     }
 
-    private long sumForPredicate(ObservableList<Contract> contracts,
-                                 java.util.function.Predicate<Contract> predicate) {
-        long total = 0;
-        for (Contract contract : contracts) {
-            if (!predicate.test(contract)) {
-                continue;
-            }
-            long value = contract.getAmount().value;
-            if (wouldOverflow(total, value)) {
-                return Long.MAX_VALUE;
-            }
-            total += value;
-        }
-        return total;
-    }
-
     private boolean wouldOverflow(long base, long addition) {
         return addition > 0 && base > Long.MAX_VALUE - addition;
     }
 
     private Organization findOrganizationByNameOrThrow(Model model, OrganizationName name) throws CommandException {
-        List<Organization> list = model.getAddressBook().getOrganizationList();
-        Optional<Organization> match = list.stream().filter(o -> o.getName().equals(name)).findFirst();
+        Optional<Organization> match = model.findOrganization(name);
         if (match.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_NOT_FOUND_FMT, "Organization", name));
         }
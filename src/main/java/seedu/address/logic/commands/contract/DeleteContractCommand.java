@@ -2,8 +2,8 @@ package seedu.address.logic.commands.contract;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.ContractMessages;
@@ -94,8 +94,8 @@ public class DeleteContractCommand extends Command {
         assert endDate != null : "End date should not be null";
         assert amount != null : "Amount should not be null";
 
-        // Search the filtered contract list (or use addressBook.getContractList())
-        List<Contract> contracts = model.getContractList().getContractList();
+        // Only the athlete's own contracts can match
+        Set<Contract> contracts = model.getContractAggregates().getAthleteTally(athleteName, sport).getContracts();
         Optional<Contract> match = contracts.stream()
                 .filter(c ->
                         c.getAthlete().getName().equals(this.athleteName)
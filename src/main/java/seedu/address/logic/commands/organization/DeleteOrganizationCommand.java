@@ -2,15 +2,12 @@ package seedu.address.logic.commands.organization;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.contract.Contract;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
 
@@ -56,26 +53,14 @@ public class DeleteOrganizationCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Organization> allOrganizations = model.getAddressBook().getOrganizationList();
-        List<Contract> contracts = model.getContractList().getContractList();
-
-        // Case-insensitive name comparison to comply with specification
-        Organization organizationToDelete = allOrganizations.stream()
-                .filter(org -> org.getName().fullOrganizationName
-                        .equalsIgnoreCase(targetName.fullOrganizationName))
-                .findFirst()
-                .orElse(null);
-        Contract existingContract = contracts.stream()
-                .filter(c -> c.getOrganization().getName().fullOrganizationName
-                        .equalsIgnoreCase(targetName.fullOrganizationName))
-                .findFirst()
-                .orElse(null);
+        // OrganizationName compares case-insensitively, as required by the specification
+        Organization organizationToDelete = model.findOrganization(targetName).orElse(null);
 
         if (organizationToDelete == null) {
             throw new CommandException(String.format(MESSAGE_ORGANIZATION_NOT_FOUND, targetName));
         }
 
-        if (existingContract != null) {
+        if (!model.getContractAggregates().getOrganizationTally(targetName).isEmpty()) {
             throw new CommandException(MESSAGE_ORGANIZATION_EXISTING_CONTRACT);
         }
 
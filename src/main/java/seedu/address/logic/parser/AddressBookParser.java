@@ -13,6 +13,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.RefreshCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.athlete.AddAthleteCommand;
 import seedu.address.logic.commands.athlete.DeleteAthleteCommand;
 import seedu.address.logic.commands.contract.AddContractCommand;
@@ -98,6 +99,8 @@ public class AddressBookParser {
             return new HelpCommand();
         case RefreshCommand.COMMAND_WORD:
             return new RefreshCommand();
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
         default:
             logger.finer("This user input caused a ParseException: " + commandWord);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
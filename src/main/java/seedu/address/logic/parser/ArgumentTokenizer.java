@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,139 +11,118 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. A prefix is only recognized right after a space, and regardless of case.<br>
+ * <p>
+ * The prefixes are held in a trie, so that the arguments string is scanned once for all of them. A tokenizer
+ * can be reused for any number of arguments strings, and parsers keep one for the prefixes they recognize.
  */
 public class ArgumentTokenizer {
 
-    /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to tokenize the arguments string with
-     * @return           ArgumentMultimap object that maps prefixes to their arguments
-     */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    private static final Prefix PREAMBLE = new Prefix("");
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        String lowerCaseArgs = argsString.toLowerCase();
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(lowerCaseArgs, prefix).stream())
-                .collect(Collectors.toList());
-    }
+    private final PrefixNode root = new PrefixNode();
 
     /**
-     * {@see findAllPrefixPositions}
+     * Constructs an {@code ArgumentTokenizer} that recognizes only the given prefixes.
      */
-    private static List<PrefixPosition> findPrefixPositions(String lowerCaseArgs, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        String lowerCasePrefix = prefix.getPrefix().toLowerCase();
-        int prefixPosition = findPrefixPosition(lowerCaseArgs, lowerCasePrefix, 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(lowerCaseArgs, lowerCasePrefix, prefixPosition);
+    public ArgumentTokenizer(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            PrefixNode node = root;
+            for (char c : prefix.getPrefix().toCharArray()) {
+                node = node.getOrAddChild(Character.toLowerCase(c));
+            }
+            node.prefix = prefix;
         }
-
-        return positions;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to tokenize the arguments string with
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static int findPrefixPosition(String lowerCaseArgsString, String lowerCasePrefix, int fromIndex) {
-        int prefixIndex = lowerCaseArgsString.indexOf(" " + lowerCasePrefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes).tokenizeArgs(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenizeArgs(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+
+            Prefix prefix = findPrefixAt(argsString, i);
+            if (prefix != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPos, i).trim());
+                currentPrefix = prefix;
+                valueStartPos = i + prefix.getPrefix().length();
+            }
         }
-
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the longest prefix that starts at index {@code startPos} of {@code argsString}, or null if there is
+     * none.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private Prefix findPrefixAt(String argsString, int startPos) {
+        Prefix longestPrefix = null;
+        PrefixNode node = root;
+        for (int i = startPos; i < argsString.length(); i++) {
+            node = node.getChild(Character.toLowerCase(argsString.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestPrefix = node.prefix;
+            }
+        }
+        return longestPrefix;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A node of the prefix trie, reached by the lowercase characters of the path to it.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class PrefixNode {
+        private char[] keys = new char[0];
+        private PrefixNode[] children = new PrefixNode[0];
+
+        /** The prefix whose characters lead to this node, if any. */
+        private Prefix prefix;
+
+        PrefixNode getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        PrefixNode getOrAddChild(char key) {
+            PrefixNode child = getChild(key);
+            if (child == null) {
+                child = new PrefixNode();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
     }
-
 }
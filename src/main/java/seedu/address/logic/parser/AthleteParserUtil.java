@@ -26,7 +26,7 @@ public class AthleteParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -41,7 +41,7 @@ public class AthleteParserUtil {
         if (!Sport.isValidSport(trimmedSport)) {
             throw new ParseException(Sport.MESSAGE_CONSTRAINTS);
         }
-        return new Sport(trimmedSport);
+        return Sport.of(trimmedSport);
     }
 
     /**
@@ -25,7 +25,7 @@ public class ContractParserUtil {
         requireNonNull(sport);
         String trimmed = sport.trim();
         try {
-            return new Sport(trimmed); // let the constructor validate
+            return Sport.of(trimmed); // let Sport validate
         } catch (IllegalArgumentException e) {
             throw new ParseException(Sport.MESSAGE_CONSTRAINTS);
         }
@@ -39,10 +39,11 @@ public class ContractParserUtil {
     public static Date8 parseDate8(String date) throws ParseException {
         requireNonNull(date);
         String trimmed = date.trim();
-        if (!Date8.isValidDate8(trimmed)) {
+        try {
+            return new Date8(trimmed); // let the constructor validate, as it parses the date anyway
+        } catch (IllegalArgumentException e) {
             throw new ParseException(Date8.MESSAGE_CONSTRAINTS);
         }
-        return new Date8(trimmed);
     }
 
     /**
@@ -94,7 +95,7 @@ public class ContractParserUtil {
         if (!trimmed.matches("^[A-Za-z][A-Za-z' -]*$")) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmed);
+        return Name.of(trimmed);
     }
 
     private static OrganizationName parseStrictOrganizationName(String name) throws ParseException {
@@ -104,6 +105,6 @@ public class ContractParserUtil {
         if (!trimmed.matches("^[A-Za-z][A-Za-z' -]*$")) {
             throw new ParseException(OrganizationName.MESSAGE_CONSTRAINTS);
         }
-        return new OrganizationName(trimmed);
+        return OrganizationName.of(trimmed);
     }
 }
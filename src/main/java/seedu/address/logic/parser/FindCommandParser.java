@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.FindCommand.MESSAGE_USAGE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,61 +13,150 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.SearchScope;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.search.ContractQuery;
+import seedu.address.model.search.ContractQuery.Comparison;
+import seedu.address.model.search.ContractQuery.DateField;
+import seedu.address.model.search.ContractQuery.TextField;
 
 /**
  * Parses input arguments and creates a new {@link FindCommand} object.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_DAYS = "Error: DAYS must be a whole number from 0 to "
+            + FindCommand.MAX_EXPIRING_DAYS + ".";
+    public static final String MESSAGE_BLANK_KEYWORD =
+            "Keyword to be searched cannot be blank or consists of spaces only.";
+    public static final String MESSAGE_ONLY_CONTRACT_TERMS = "Error: Only contract terms (-ca, -co, -cs, -active, "
+            + "-expiring, am, sd and ed) can be combined or explained.";
+    public static final String MESSAGE_EXPECTED_TERM = "Error: Expected a flag such as -co, a condition such as "
+            + "am>1000000, NOT or ( at %1$s.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Error: Every ( in the query must be closed by a ).";
+
+    private static final Pattern FLAG_PATTERN = Pattern.compile("-(active|expiring|explain|an|as|on|ca|co|cs)",
+            Pattern.CASE_INSENSITIVE);
+    // A flag at the start of the arguments may be followed by its keyword without a space, as in -anLionel
+    private static final Pattern LEADING_FLAG_PATTERN = Pattern.compile("-(active|expiring|an|as|on|ca|co|cs)",
+            Pattern.CASE_INSENSITIVE);
+    // The keyword of a flag that cannot be combined with others is read as written, parentheses included
+    private static final Pattern LITERAL_TERM_PATTERN = Pattern.compile("\\s*-(?:an|as|on)(?<keyword>.*)",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern CONDITION_PATTERN = Pattern.compile("(am|sd|ed)(<=|>=|<|>|=)(.*)",
+            Pattern.CASE_INSENSITIVE);
+    private static final String EXPLAIN_FLAG = "explain";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
-     * Expected format: -FLAG KEYWORD, where FLAG is one of: an, as, on, ca, co, cs
+     * Expected format: -FLAG KEYWORD, where FLAG is one of: an, as, on, ca, co, cs, active, expiring.
+     * The first flag may be followed by its keyword without a space, as in {@code -anLionel}.
+     * The keyword of {@code an}, {@code as} or {@code on} is read as written, so it may contain parentheses.
+     * The keyword of {@code active} must be a DDMMYYYY date, and that of {@code expiring} a number of days.
+     * <p>
+     * Contract terms can also be combined with AND, OR, NOT and parentheses, together with conditions on the
+     * amount ({@code am}), start date ({@code sd}) and end date ({@code ed}) such as {@code am>1000000}.
+     * Terms next to each other are combined with AND. A word in a keyword is only read as AND, OR or NOT if a term
+     * follows it, so keywords such as {@code Johnson and Johnson} can still be searched for.
+     * The {@code -explain} flag shows how the matches were found.
      *
      * @param args The user input arguments to parse. Cannot be null.
-     * @return A FindCommand object with the parsed search scope and keyword.
+     * @return A FindCommand object with the parsed search scope and keyword, or with the parsed query.
      * @throws ParseException If the user input does not conform to the expected format,
      *                        the flag is invalid, or the keyword is blank.
      */
     @Override
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        String trimmed = args.trim();
+        List<Token> tokens = tokenize(args);
+        boolean isExplained = tokens.removeIf(token -> token.isFlag(EXPLAIN_FLAG));
 
-        if (trimmed.isEmpty()) {
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+        if (tokens.isEmpty() || !tokens.get(0).startsTerm(tokens, 0)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
 
-        // Regex: allow query to be empty (0 or more chars)
-        Pattern pattern = Pattern.compile("^-(?<flag>an|as|on|ca|co|cs)\\s*(?<query>.*)$",
-                Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(trimmed);
-
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+        Matcher literalTerm = LITERAL_TERM_PATTERN.matcher(args);
+        if (!isExplained && literalTerm.matches() && tokens.stream().skip(1)
+                .noneMatch(token -> token.kind == Token.Kind.FLAG || token.kind == Token.Kind.CONDITION)) {
+            String keyword = literalTerm.group("keyword").trim().replaceAll("\\s+", " ");
+            return parseSingleTerm(tokens.get(0).text, stripEnclosingQuotes(keyword));
         }
 
-        String flag = matcher.group("flag").toLowerCase(Locale.ENGLISH);
-        String rawQuery = matcher.group("query").trim().replaceAll("\\s+", " ");
-
-        if (rawQuery.isEmpty()) {
-            throw new ParseException("Keyword to be searched cannot be blank or consists of spaces only.");
+        QueryReader reader = new QueryReader(tokens);
+        if (!isExplained && tokens.get(0).kind == Token.Kind.FLAG && reader.keywordEnd(1) == tokens.size()) {
+            return parseSingleTerm(tokens.get(0).text, reader.readKeyword(1));
         }
 
-        String keyword = stripEnclosingQuotes(rawQuery);
+        ContractQuery query = reader.readQuery();
+        return new FindCommand(query, isExplained);
+    }
 
+    private FindCommand parseSingleTerm(String flag, String keyword) throws ParseException {
         if (keyword.isEmpty()) {
-            throw new ParseException("Keyword to be searched cannot be blank or consists of spaces only.");
+            throw new ParseException(MESSAGE_BLANK_KEYWORD);
         }
-
         SearchScope scope = mapFlagToScope(flag);
+        if (scope == SearchScope.CONTRACT_ACTIVE) {
+            keyword = ContractParserUtil.parseDate8(keyword).value;
+        } else if (scope == SearchScope.CONTRACT_EXPIRING) {
+            keyword = String.valueOf(parseDays(keyword));
+        }
         return new FindCommand(scope, keyword);
     }
 
+    private static ContractQuery parseContractTerm(String flag, String keyword) throws ParseException {
+        if (keyword.isEmpty()) {
+            throw new ParseException(MESSAGE_BLANK_KEYWORD);
+        }
+        switch (mapFlagToScope(flag)) {
+        case CONTRACT_ATHLETE:
+            return ContractQuery.matching(TextField.ATHLETE_NAME, keyword);
+        case CONTRACT_ORGANIZATION:
+            return ContractQuery.matching(TextField.ORGANIZATION_NAME, keyword);
+        case CONTRACT_SPORT:
+            return ContractQuery.matching(TextField.SPORT, keyword);
+        case CONTRACT_ACTIVE:
+            return ContractQuery.activeOn(ContractParserUtil.parseDate8(keyword));
+        case CONTRACT_EXPIRING:
+            return ContractQuery.expiringWithin(parseDays(keyword));
+        default:
+            throw new ParseException(MESSAGE_ONLY_CONTRACT_TERMS);
+        }
+    }
+
+    private static ContractQuery parseCondition(String condition) throws ParseException {
+        Matcher matcher = CONDITION_PATTERN.matcher(condition);
+        boolean isCondition = matcher.matches();
+        assert isCondition;
+        String field = matcher.group(1).toLowerCase(Locale.ROOT);
+        Comparison comparison = Comparison.fromSymbol(matcher.group(2));
+        String value = matcher.group(3);
+        switch (field) {
+        case "am":
+            return ContractQuery.amount(comparison, ContractParserUtil.parseAmount(value).value);
+        case "sd":
+            return ContractQuery.date(DateField.START_DATE, comparison, ContractParserUtil.parseDate8(value));
+        default:
+            return ContractQuery.date(DateField.END_DATE, comparison, ContractParserUtil.parseDate8(value));
+        }
+    }
 
-    private SearchScope mapFlagToScope(String flag) throws ParseException {
+    private static String stripEnclosingQuotes(String keyword) {
+        if (keyword.length() >= 2 && ((keyword.startsWith("\"") && keyword.endsWith("\""))
+                || (keyword.startsWith("'") && keyword.endsWith("'")))) {
+            return keyword.substring(1, keyword.length() - 1).trim();
+        }
+        return keyword;
+    }
+
+    private static int parseDays(String days) throws ParseException {
+        if (!days.matches("\\d{1,5}") || Integer.parseInt(days) > FindCommand.MAX_EXPIRING_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return Integer.parseInt(days);
+    }
+
+
+    private static SearchScope mapFlagToScope(String flag) throws ParseException {
         switch (flag) {
         case "an":
             return SearchScope.ATHLETE_NAME;
@@ -78,17 +170,229 @@ public class FindCommandParser implements Parser<FindCommand> {
             return SearchScope.CONTRACT_ORGANIZATION;
         case "cs":
             return SearchScope.CONTRACT_SPORT;
+        case "active":
+            return SearchScope.CONTRACT_ACTIVE;
+        case "expiring":
+            return SearchScope.CONTRACT_EXPIRING;
         default:
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
     }
 
-    private String stripEnclosingQuotes(String value) {
-        if ((value.startsWith("\"") && value.endsWith("\""))
-                || (value.startsWith("'") && value.endsWith("'"))) {
-            return value.substring(1, value.length() - 1).trim();
+    /**
+     * Splits {@code args} into tokens at whitespace and parentheses. A token that starts with a quote runs to the
+     * matching quote, which must end a token, so that a quoted keyword may contain spaces, parentheses or words such
+     * as {@code and}. A flag that starts the arguments is also split from a keyword that follows it directly.
+     */
+    private static List<Token> tokenize(String args) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? Token.Kind.OPEN : Token.Kind.CLOSE, String.valueOf(c), false));
+                i++;
+            } else if ((c == '"' || c == '\'') && closingQuote(args, i) >= 0) {
+                int end = closingQuote(args, i);
+                String quoted = args.substring(i + 1, end).trim().replaceAll("\\s+", " ");
+                tokens.add(new Token(Token.Kind.WORD, quoted, true));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < args.length() && !Character.isWhitespace(args.charAt(end))
+                        && args.charAt(end) != '(' && args.charAt(end) != ')') {
+                    end++;
+                }
+                String word = args.substring(i, end);
+                Matcher leadingFlag = LEADING_FLAG_PATTERN.matcher(word);
+                if (tokens.isEmpty() && !FLAG_PATTERN.matcher(word).matches() && leadingFlag.lookingAt()) {
+                    // The keyword is read from where the flag ends, so that it may still be quoted
+                    end = i + leadingFlag.end();
+                    word = args.substring(i, end);
+                }
+                tokens.add(Token.of(word));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the position of the quote closing the one at {@code start}, or -1 if there is none.
+     */
+    private static int closingQuote(String args, int start) {
+        char quote = args.charAt(start);
+        for (int i = start + 1; i < args.length(); i++) {
+            if (args.charAt(i) == quote && (i + 1 == args.length() || Character.isWhitespace(args.charAt(i + 1))
+                    || args.charAt(i + 1) == ')')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A word, flag, condition or parenthesis of the arguments.
+     */
+    private static class Token {
+        enum Kind { WORD, FLAG, CONDITION, OPEN, CLOSE }
+
+        private final Kind kind;
+        // The flag without its hyphen, in lowercase, for a flag
+        private final String text;
+        private final boolean isQuoted;
+
+        Token(Kind kind, String text, boolean isQuoted) {
+            this.kind = kind;
+            this.text = text;
+            this.isQuoted = isQuoted;
+        }
+
+        static Token of(String text) {
+            if (FLAG_PATTERN.matcher(text).matches()) {
+                return new Token(Kind.FLAG, text.substring(1).toLowerCase(Locale.ROOT), false);
+            }
+            if (CONDITION_PATTERN.matcher(text).matches()) {
+                return new Token(Kind.CONDITION, text, false);
+            }
+            return new Token(Kind.WORD, text, false);
+        }
+
+        boolean isFlag(String flag) {
+            return kind == Kind.FLAG && text.equals(flag);
+        }
+
+        /** Returns true if this is the unquoted word {@code operator}, ignoring case. */
+        boolean isWord(String operator) {
+            return kind == Kind.WORD && !isQuoted && text.equalsIgnoreCase(operator);
+        }
+
+        /**
+         * Returns true if this token, at {@code position} of {@code tokens}, starts a term: a flag, a condition,
+         * an opening parenthesis, or a NOT that starts a term.
+         */
+        boolean startsTerm(List<Token> tokens, int position) {
+            return kind == Kind.FLAG || kind == Kind.CONDITION || kind == Kind.OPEN
+                    || (isWord("not") && followedByTerm(tokens, position));
+        }
+
+        /** Returns true if this token, at {@code position} of {@code tokens}, is the operator {@code operator}. */
+        boolean isOperator(String operator, List<Token> tokens, int position) {
+            return isWord(operator) && followedByTerm(tokens, position);
+        }
+
+        private static boolean followedByTerm(List<Token> tokens, int position) {
+            return position + 1 < tokens.size() && tokens.get(position + 1).startsTerm(tokens, position + 1);
+        }
+    }
+
+    /**
+     * Reads a query from tokens by recursive descent, where OR binds more loosely than AND, and AND more loosely
+     * than NOT.
+     */
+    private static class QueryReader {
+        private final List<Token> tokens;
+        private int position = 0;
+
+        QueryReader(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        ContractQuery readQuery() throws ParseException {
+            ContractQuery query = readOr();
+            if (position < tokens.size()) {
+                throw new ParseException(tokens.get(position).kind == Token.Kind.CLOSE
+                        ? MESSAGE_UNBALANCED_PARENTHESES
+                        : String.format(MESSAGE_EXPECTED_TERM, "\"" + tokens.get(position).text + "\""));
+            }
+            return query;
+        }
+
+        /**
+         * Returns the position after the words of the keyword starting at {@code start}.
+         */
+        int keywordEnd(int start) {
+            int end = start;
+            while (end < tokens.size() && tokens.get(end).kind == Token.Kind.WORD
+                    && !tokens.get(end).isOperator("and", tokens, end)
+                    && !tokens.get(end).isOperator("or", tokens, end)
+                    && !tokens.get(end).startsTerm(tokens, end)) {
+                end++;
+            }
+            return end;
+        }
+
+        /**
+         * Returns the words of the keyword starting at {@code start} joined by single spaces, and moves past them.
+         */
+        String readKeyword(int start) {
+            int end = keywordEnd(start);
+            List<String> words = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                if (!tokens.get(i).text.isEmpty()) {
+                    words.add(tokens.get(i).text);
+                }
+            }
+            position = end;
+            return String.join(" ", words);
+        }
+
+        private ContractQuery readOr() throws ParseException {
+            List<ContractQuery> queries = new ArrayList<>(List.of(readAnd()));
+            while (position < tokens.size() && tokens.get(position).isOperator("or", tokens, position)) {
+                position++;
+                queries.add(readAnd());
+            }
+            return queries.size() == 1 ? queries.get(0) : ContractQuery.or(queries);
+        }
+
+        private ContractQuery readAnd() throws ParseException {
+            List<ContractQuery> queries = new ArrayList<>(List.of(readNot()));
+            while (position < tokens.size()) {
+                if (tokens.get(position).isOperator("and", tokens, position)) {
+                    position++;
+                } else if (!tokens.get(position).startsTerm(tokens, position)) {
+                    break;
+                }
+                queries.add(readNot());
+            }
+            return queries.size() == 1 ? queries.get(0) : ContractQuery.and(queries);
+        }
+
+        private ContractQuery readNot() throws ParseException {
+            if (position < tokens.size() && tokens.get(position).isOperator("not", tokens, position)) {
+                position++;
+                return ContractQuery.not(readNot());
+            }
+            return readTerm();
+        }
+
+        private ContractQuery readTerm() throws ParseException {
+            if (position == tokens.size()) {
+                throw new ParseException(String.format(MESSAGE_EXPECTED_TERM, "the end"));
+            }
+            Token token = tokens.get(position);
+            switch (token.kind) {
+            case OPEN:
+                position++;
+                ContractQuery query = readOr();
+                if (position == tokens.size() || tokens.get(position).kind != Token.Kind.CLOSE) {
+                    throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+                }
+                position++;
+                return query;
+            case FLAG:
+                return parseContractTerm(token.text, readKeyword(position + 1));
+            case CONDITION:
+                position++;
+                return parseCondition(token.text);
+            default:
+                throw new ParseException(token.kind == Token.Kind.CLOSE
+                        ? MESSAGE_UNBALANCED_PARENTHESES
+                        : String.format(MESSAGE_EXPECTED_TERM, "\"" + token.text + "\""));
+            }
         }
-        return value;
     }
 }
@@ -58,7 +58,7 @@ public class ParserUtil {
         if (!OrganizationName.isValidName(trimmedName)) {
             throw new ParseException(OrganizationName.MESSAGE_CONSTRAINTS);
         }
-        return new OrganizationName(trimmedName);
+        return OrganizationName.of(trimmedName);
     }
 
     /**
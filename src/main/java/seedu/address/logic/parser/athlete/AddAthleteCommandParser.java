@@ -28,14 +28,16 @@ import seedu.address.model.athlete.Sport;
  */
 public class AddAthleteCommandParser implements Parser<AddAthleteCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_SPORT, PREFIX_AGE, PREFIX_PHONE, PREFIX_EMAIL);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddAthleteCommand
      * and returns an AddAthleteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddAthleteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SPORT, PREFIX_AGE, PREFIX_PHONE, PREFIX_EMAIL);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_SPORT, PREFIX_AGE, PREFIX_PHONE, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -18,13 +18,15 @@ import seedu.address.model.athlete.Sport;
  */
 public class DeleteAthleteCommandParser implements Parser<DeleteAthleteCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_SPORT);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteAthleteCommand
      * and returns a DeleteAthleteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteAthleteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SPORT);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (argMultimap.getValue(PREFIX_NAME).isEmpty()
                 || argMultimap.getValue(PREFIX_SPORT).isEmpty()) {
@@ -29,6 +29,15 @@ import seedu.address.model.organization.OrganizationName;
  */
 public class AddContractCommandParser implements Parser<AddContractCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_NAME,
+            PREFIX_SPORT,
+            PREFIX_ORG,
+            PREFIX_START_DATE,
+            PREFIX_END_DATE,
+            PREFIX_AMOUNT
+    );
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddContractCommand
      * and returns an AddContractCommand object for execution.
@@ -40,15 +49,7 @@ public class AddContractCommandParser implements Parser<AddContractCommand> {
      */
     @Override
     public AddContractCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args,
-                PREFIX_NAME,
-                PREFIX_SPORT,
-                PREFIX_ORG,
-                PREFIX_START_DATE,
-                PREFIX_END_DATE,
-                PREFIX_AMOUNT
-        );
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap,
                 PREFIX_NAME, PREFIX_SPORT, PREFIX_ORG,
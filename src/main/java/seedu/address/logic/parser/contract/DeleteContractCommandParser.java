@@ -29,6 +29,15 @@ import seedu.address.model.organization.OrganizationName;
  */
 public class DeleteContractCommandParser implements Parser<DeleteContractCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_NAME, // athlete
+            PREFIX_ORG, // organization
+            PREFIX_START_DATE, // start date
+            PREFIX_END_DATE, // end date
+            PREFIX_SPORT,
+            PREFIX_AMOUNT
+    );
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteContractCommand
      * and returns a DeleteContractCommand object for execution.
@@ -40,15 +49,7 @@ public class DeleteContractCommandParser implements Parser<DeleteContractCommand
      */
     @Override
     public DeleteContractCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args,
-                PREFIX_NAME, // athlete
-                PREFIX_ORG, // organization
-                PREFIX_START_DATE, // start date
-                PREFIX_END_DATE, // end date
-                PREFIX_SPORT,
-                PREFIX_AMOUNT
-        );
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ORG, PREFIX_START_DATE,
                 PREFIX_END_DATE, PREFIX_SPORT, PREFIX_AMOUNT)
@@ -24,6 +24,8 @@ import seedu.address.model.organization.OrganizationPhone;
  */
 public class AddOrganizationCommandParser implements Parser<AddOrganizationCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ORG, PREFIX_PHONE, PREFIX_EMAIL);
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values
      * in the given {@code ArgumentMultimap}.
@@ -40,8 +42,7 @@ public class AddOrganizationCommandParser implements Parser<AddOrganizationComma
      */
     @Override
     public AddOrganizationCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_ORG, PREFIX_PHONE, PREFIX_EMAIL);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_ORG, PREFIX_PHONE, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
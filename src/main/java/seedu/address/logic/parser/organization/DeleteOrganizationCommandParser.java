@@ -16,6 +16,8 @@ import seedu.address.model.organization.OrganizationName;
  */
 public class DeleteOrganizationCommandParser implements Parser<DeleteOrganizationCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ORG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteOrganizationCommand
      * and returns a DeleteOrganizationCommand object for execution.
@@ -24,7 +26,7 @@ public class DeleteOrganizationCommandParser implements Parser<DeleteOrganizatio
      */
     @Override
     public DeleteOrganizationCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!argMultimap.getValue(PREFIX_ORG).isPresent()
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -3,14 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.athlete.UniqueAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.UniqueContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.UniqueOrganizationList;
 
 /**
@@ -26,6 +31,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueOrganizationList organizations;
     private final UniqueAthleteList athletes;
     private final UniqueContractList contracts;
+    private final ContractAggregates contractAggregates;
 
     /*
      * Non-static initialization block to ensure all collections
@@ -35,6 +41,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         organizations = new UniqueOrganizationList();
         athletes = new UniqueAthleteList();
         contracts = new UniqueContractList();
+        contractAggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
     }
 
     public AddressBook() {}
@@ -97,6 +104,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return organizations.contains(organization);
     }
 
+    /** Returns the organization with the given name, if any. */
+    public Optional<Organization> findOrganization(OrganizationName name) {
+        return organizations.find(name);
+    }
+
     /** Adds an organization to the address book. */
     public void addOrganization(Organization organization) {
         organizations.add(organization);
@@ -117,6 +129,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return organizations.asUnmodifiableObservableList();
     }
 
+    /** Returns the number of times the organization list has been modified. */
+    public int getOrganizationModificationCount() {
+        return organizations.getModificationCount();
+    }
+
     // ============================================================
     // Athlete-Level Operations
     // ============================================================
@@ -129,6 +146,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return athletes.contains(athlete);
     }
 
+    /** Returns the athlete with the given name and sport, if any. */
+    public Optional<Athlete> findAthlete(Name name, Sport sport) {
+        return athletes.find(name, sport);
+    }
+
     /** Adds an athlete to the address book. */
     public void addAthlete(Athlete athlete) {
         athletes.add(athlete);
@@ -144,6 +166,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return athletes.asUnmodifiableObservableList();
     }
 
+    /** Returns the number of times the athlete list has been modified. */
+    public int getAthleteModificationCount() {
+        return athletes.getModificationCount();
+    }
+
     // ============================================================
     // Contract-Level Operations
     // ============================================================
@@ -171,6 +198,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return contracts.asUnmodifiableObservableList();
     }
 
+    /** Returns the number of times the contract list has been modified. */
+    public int getContractModificationCount() {
+        return contracts.getModificationCount();
+    }
+
+    /** Returns the index of the contract list by athlete and by organization. */
+    public ContractAggregates getContractAggregates() {
+        return contractAggregates;
+    }
+
     // ============================================================
     // Utility Methods
     // ============================================================
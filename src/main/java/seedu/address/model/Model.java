@@ -1,16 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * The unified API of the Model component.
@@ -65,6 +71,9 @@ public interface Model {
     /** Returns true if an organization with the same identity exists. */
     boolean hasOrganization(Organization organization);
 
+    /** Returns the organization with the given name, if any. */
+    Optional<Organization> findOrganization(OrganizationName name);
+
     /** Deletes the given organization. */
     void deleteOrganization(Organization target);
 
@@ -80,6 +89,12 @@ public interface Model {
     /** Updates the filtered organization list using the given predicate. */
     void updateFilteredOrganizationList(Predicate<Organization> predicate);
 
+    /**
+     * Returns the number of times the organization list has been modified.
+     * The list is unchanged between two calls that return the same count.
+     */
+    int getOrganizationModificationCount();
+
     // ============================================================
     // Athlete Logic
     // ============================================================
@@ -90,6 +105,9 @@ public interface Model {
     /** Returns true if an athlete with the same identity exists. */
     boolean hasAthlete(Athlete athlete);
 
+    /** Returns the athlete with the given name and sport, if any. */
+    Optional<Athlete> findAthlete(Name name, Sport sport);
+
     /** Deletes the given athlete. */
     void deleteAthlete(Athlete target);
 
@@ -102,6 +120,12 @@ public interface Model {
     /** Updates the filtered athlete list using the given predicate. */
     void updateFilteredAthleteList(Predicate<Athlete> predicate);
 
+    /**
+     * Returns the number of times the athlete list has been modified.
+     * The list is unchanged between two calls that return the same count.
+     */
+    int getAthleteModificationCount();
+
     // ============================================================
     // Contract Logic
     // ============================================================
@@ -123,4 +147,35 @@ public interface Model {
 
     /** Updates the filtered contract list using the given predicate. */
     void updateFilteredContractList(Predicate<Contract> predicate);
+
+    /**
+     * Returns the number of times the contract list has been modified.
+     * The list is unchanged between two calls that return the same count.
+     */
+    int getContractModificationCount();
+
+    /**
+     * Returns the index of the contract list by athlete and by organization,
+     * which is kept up to date as contracts are added and deleted.
+     */
+    ContractAggregates getContractAggregates();
+
+    /**
+     * Returns the fuzzy search index over athletes, organizations and contracts,
+     * which is kept up to date as they are added and deleted.
+     */
+    SearchIndex getSearchIndex();
+
+    /**
+     * Stops the predicates given to the filtered lists from being applied until {@link #resumeFilterUpdates()} is
+     * called, so that a batch of changes that filters a list several times tests its elements only once.
+     * Changes to the data still show in the filtered lists at once.
+     */
+    void deferFilterUpdates();
+
+    /**
+     * Applies the latest predicate given to each filtered list since {@link #deferFilterUpdates()} was called, and
+     * applies predicates as soon as they are given again from then on.
+     */
+    void resumeFilterUpdates();
 }
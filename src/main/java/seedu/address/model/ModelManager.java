@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,13 +16,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * Represents the in-memory model of all app data using a single AddressBook:
@@ -32,24 +40,32 @@ public class ModelManager implements Model {
     // ---- Single AddressBook domain ----
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final AthleteList athleteList;
-    private final ContractList contractList;
-    private final OrganizationList organizationList;
-
-    // filtered views
+    // Read-only views of the address book's lists, where changes actually happen
+    private final ReadOnlyAthleteList athleteListView;
+    private final ReadOnlyContractList contractListView;
+    private final ReadOnlyOrganizationList organizationListView;
+    private final SearchIndex searchIndex;
+
+    // Filtered views. Each tests only the elements added to or replaced in its list, so its predicate is only
+    // tested against the whole list again when the predicate is replaced.
     private final FilteredList<Organization> filteredOrganizations; // placeholder until wired
     private final FilteredList<Contract> filteredContracts;
     private final FilteredList<Athlete> filteredAthletes;
     private Predicate<Organization> organizationPredicate = PREDICATE_SHOW_ALL_ORGANIZATIONS;
     private Predicate<Contract> contractPredicate = PREDICATE_SHOW_ALL_CONTRACTS;
     private Predicate<Athlete> athletePredicate = PREDICATE_SHOW_ALL_ATHLETES;
+    // While deferred, new predicates are only applied once the batch of changes is over
+    private boolean isFilterUpdateDeferred = false;
+    private boolean hasDeferredFilterUpdate = false;
 
     // =====================================================================================
     // Constructors
     // =====================================================================================
 
     /**
-     * Constructs a {@code ModelManager} with the given address book and user preferences.
+     * Constructs a {@code ModelManager} with the given address book and user preferences,
+     * along with the given athletes, contracts and organizations.
+     * The address book is the only copy of the data kept; the lists are added to it in bulk.
      *
      * @param addressBook the address book data to initialize from
      * @param userPrefs   the user preferences to initialize from
@@ -65,33 +81,25 @@ public class ModelManager implements Model {
         logger.fine("Initializing contract list: " + contractList);
         logger.fine("Initializing organization list: " + organizationList);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new AddressBook();
         this.userPrefs = new UserPrefs(userPrefs);
-        this.athleteList = new AthleteList(athleteList);
-        this.contractList = new ContractList(contractList);
-        this.organizationList = new OrganizationList(organizationList);
-
-        // Populate addressBook with the loaded athletes
-        for (Athlete athlete : athleteList.getAthleteList()) {
-            this.addressBook.addAthlete(athlete);
-        }
-
-        // Populate addressBook with the loaded contracts
-        for (Contract contract : contractList.getContractList()) {
-            this.addressBook.addContract(contract);
-        }
-
-        // Populate addressBook with the loaded organizations
-        for (Organization organization : organizationList.getOrganizationList()) {
-            this.addressBook.addOrganization(organization);
-        }
-
+        this.addressBook.setAthletes(concat(addressBook.getAthleteList(), athleteList.getAthleteList()));
+        this.addressBook.setContracts(concat(addressBook.getContractList(), contractList.getContractList()));
+        this.addressBook.setOrganizations(concat(addressBook.getOrganizationList(),
+                organizationList.getOrganizationList()));
+        this.athleteListView = this.addressBook::getAthleteList;
+        this.contractListView = this.addressBook::getContractList;
+        this.organizationListView = this.addressBook::getOrganizationList;
+
+        // Created before the filtered views, so that it is updated before they test its predicates
+        this.searchIndex = new SearchIndex(this.addressBook.getAthleteList(), this.addressBook.getOrganizationList(),
+                this.addressBook.getContractList(), this.userPrefs.getSearchCacheMemoryBudget());
         this.filteredContracts = new FilteredList<>(this.addressBook.getContractList());
         this.filteredOrganizations = new FilteredList<>(this.addressBook.getOrganizationList());
         this.filteredAthletes = new FilteredList<>(this.addressBook.getAthleteList());
-        reapplyPredicate(filteredContracts, contractPredicate);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
-        reapplyPredicate(filteredAthletes, athletePredicate);
+        applyPredicate(filteredContracts, contractPredicate);
+        applyPredicate(filteredOrganizations, organizationPredicate);
+        applyPredicate(filteredAthletes, athletePredicate);
     }
 
     /** Constructs a {@code ModelManager} with empty data. */
@@ -114,6 +122,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        searchIndex.setResultCacheMemoryBudget(this.userPrefs.getSearchCacheMemoryBudget());
     }
 
     /** Returns the GUI settings from user preferences. */
@@ -162,13 +171,7 @@ public class ModelManager implements Model {
 
     @Override
     public ReadOnlyContractList getContractList() {
-        // Return a read-only view of the addressBook's contract list (where changes actually happen)
-        return new ReadOnlyContractList() {
-            @Override
-            public ObservableList<Contract> getContractList() {
-                return addressBook.getContractList();
-            }
-        };
+        return contractListView;
     }
 
     /** Returns true if a contract with the same identity exists in the AddressBook. */
@@ -178,14 +181,11 @@ public class ModelManager implements Model {
         return addressBook.hasContract(contract);
     }
 
-    /** Adds a contract to the AddressBook. Updates filtered view. */
+    /** Adds a contract to the AddressBook. */
     @Override
     public void addContract(Contract contract) {
         requireNonNull(contract);
         addressBook.addContract(contract);
-        reapplyPredicate(filteredContracts, contractPredicate);
-        reapplyPredicate(filteredAthletes, athletePredicate);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
     }
 
     /** Deletes a contract from the AddressBook. */
@@ -193,9 +193,6 @@ public class ModelManager implements Model {
     public void deleteContract(Contract target) {
         requireNonNull(target);
         addressBook.removeContract(target);
-        reapplyPredicate(filteredContracts, contractPredicate);
-        reapplyPredicate(filteredAthletes, athletePredicate);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
     }
 
     /** Returns the filtered contract list. */
@@ -209,20 +206,29 @@ public class ModelManager implements Model {
     public void updateFilteredContractList(Predicate<Contract> predicate) {
         requireNonNull(predicate);
         contractPredicate = predicate;
-        reapplyPredicate(filteredContracts, contractPredicate);
+        applyPredicate(filteredContracts, contractPredicate);
+    }
+
+    @Override
+    public int getContractModificationCount() {
+        return addressBook.getContractModificationCount();
+    }
+
+    @Override
+    public ContractAggregates getContractAggregates() {
+        return addressBook.getContractAggregates();
+    }
+
+    @Override
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     // ---- Organizations ----
 
     @Override
     public ReadOnlyOrganizationList getOrganizationList() {
-        // Return a read-only view of the live organization list from addressBook
-        return new ReadOnlyOrganizationList() {
-            @Override
-            public ObservableList<Organization> getOrganizationList() {
-                return addressBook.getOrganizationList();
-            }
-        };
+        return organizationListView;
     }
 
     /** Returns true if an organization with the same identity exists in the AddressBook. */
@@ -232,6 +238,12 @@ public class ModelManager implements Model {
         return addressBook.hasOrganization(organization);
     }
 
+    @Override
+    public Optional<Organization> findOrganization(OrganizationName name) {
+        requireNonNull(name);
+        return addressBook.findOrganization(name);
+    }
+
     /** Deletes an organization from the AddressBook. */
     @Override
     public void deleteOrganization(Organization target) {
@@ -239,12 +251,11 @@ public class ModelManager implements Model {
         addressBook.removeOrganization(target);
     }
 
-    /** Adds an organization to the AddressBook and updates filtered view. */
+    /** Adds an organization to the AddressBook. */
     @Override
     public void addOrganization(Organization organization) {
         requireNonNull(organization);
         addressBook.addOrganization(organization);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
     }
 
     /** Replaces an existing organization with an edited organization. */
@@ -265,20 +276,19 @@ public class ModelManager implements Model {
     public void updateFilteredOrganizationList(Predicate<Organization> predicate) {
         requireNonNull(predicate);
         organizationPredicate = predicate;
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
+        applyPredicate(filteredOrganizations, organizationPredicate);
+    }
+
+    @Override
+    public int getOrganizationModificationCount() {
+        return addressBook.getOrganizationModificationCount();
     }
 
     // ---- Athletes ----
 
     @Override
     public ReadOnlyAthleteList getAthleteList() {
-        // Return a read-only view of the addressBook's athlete list (where changes actually happen)
-        return new ReadOnlyAthleteList() {
-            @Override
-            public ObservableList<Athlete> getAthleteList() {
-                return addressBook.getAthleteList();
-            }
-        };
+        return athleteListView;
     }
 
     /** Returns true if an athlete with the same identity exists in the AddressBook. */
@@ -288,17 +298,22 @@ public class ModelManager implements Model {
         return addressBook.hasAthlete(athlete);
     }
 
+    @Override
+    public Optional<Athlete> findAthlete(Name name, Sport sport) {
+        requireAllNonNull(name, sport);
+        return addressBook.findAthlete(name, sport);
+    }
+
     /** Deletes an athlete from the AddressBook. */
     @Override
     public void deleteAthlete(Athlete target) {
         addressBook.removeAthlete(target);
     }
 
-    /** Adds an athlete to the AddressBook and updates filtered view. */
+    /** Adds an athlete to the AddressBook. */
     @Override
     public void addAthlete(Athlete athlete) {
         addressBook.addAthlete(athlete);
-        reapplyPredicate(filteredAthletes, athletePredicate);
     }
 
     /** Returns the filtered athlete list. */
@@ -312,11 +327,47 @@ public class ModelManager implements Model {
     public void updateFilteredAthleteList(Predicate<Athlete> predicate) {
         requireNonNull(predicate);
         athletePredicate = predicate;
-        reapplyPredicate(filteredAthletes, athletePredicate);
+        applyPredicate(filteredAthletes, athletePredicate);
+    }
+
+    @Override
+    public int getAthleteModificationCount() {
+        return addressBook.getAthleteModificationCount();
+    }
+
+    private static <T> List<T> concat(List<? extends T> first, List<? extends T> second) {
+        List<T> concatenated = new ArrayList<>(first.size() + second.size());
+        concatenated.addAll(first);
+        concatenated.addAll(second);
+        return concatenated;
     }
 
-    private <T> void reapplyPredicate(FilteredList<T> list, Predicate<T> predicate) {
-        list.setPredicate(predicate == null ? null : predicate::test);
+    @Override
+    public void deferFilterUpdates() {
+        isFilterUpdateDeferred = true;
+    }
+
+    @Override
+    public void resumeFilterUpdates() {
+        isFilterUpdateDeferred = false;
+        if (hasDeferredFilterUpdate) {
+            hasDeferredFilterUpdate = false;
+            applyPredicate(filteredContracts, contractPredicate);
+            applyPredicate(filteredAthletes, athletePredicate);
+            applyPredicate(filteredOrganizations, organizationPredicate);
+        }
+    }
+
+    /**
+     * Sets the predicate of {@code list}, which tests every element of the list only if {@code predicate} is not
+     * already its predicate.
+     */
+    private <T> void applyPredicate(FilteredList<T> list, Predicate<T> predicate) {
+        if (isFilterUpdateDeferred) {
+            hasDeferredFilterUpdate = true;
+            return;
+        }
+        list.setPredicate(predicate);
     }
 
     // =====================================================================================
@@ -23,4 +23,18 @@ public interface ReadOnlyUserPrefs {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the data files are saved without indentation.
+     *
+     * @return whether the data files are compact.
+     */
+    boolean isCompactDataFiles();
+
+    /**
+     * Returns the number of bytes of memory that the results of recent searches may take up.
+     *
+     * @return the memory budget of the search results cache.
+     */
+    long getSearchCacheMemoryBudget();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,11 +14,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_NEGATIVE_SEARCH_CACHE_BUDGET =
+            "The memory budget of the search results cache cannot be negative.";
+    public static final long DEFAULT_SEARCH_CACHE_MEMORY_BUDGET = 4L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path athleteListFilePath = Paths.get("data", "athletelist.json");
     private Path contractListFilePath = Paths.get("data", "contractlist.json");
     private Path organizationListFilePath = Paths.get("data", "organizationlist.json");
+    private Path journalFilePath = Paths.get("data", "journal.jsonl");
+    // Saves the data files without indentation, which suits large datasets
+    private boolean compactDataFiles = false;
+    // Bytes of memory that the results of recent find commands may take up, so that repeating one is instant
+    private long searchCacheMemoryBudget = DEFAULT_SEARCH_CACHE_MEMORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +49,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactDataFiles(newUserPrefs.isCompactDataFiles());
+        setSearchCacheMemoryBudget(newUserPrefs.getSearchCacheMemoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -86,6 +98,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.organizationListFilePath = organizationListFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public boolean isCompactDataFiles() {
+        return compactDataFiles;
+    }
+
+    public void setCompactDataFiles(boolean compactDataFiles) {
+        this.compactDataFiles = compactDataFiles;
+    }
+
+    public long getSearchCacheMemoryBudget() {
+        return searchCacheMemoryBudget;
+    }
+
+    public void setSearchCacheMemoryBudget(long searchCacheMemoryBudget) {
+        checkArgument(searchCacheMemoryBudget >= 0, MESSAGE_NEGATIVE_SEARCH_CACHE_BUDGET);
+        this.searchCacheMemoryBudget = searchCacheMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -99,12 +137,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && compactDataFiles == otherUserPrefs.compactDataFiles;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, compactDataFiles);
     }
 
     @Override
@@ -2,6 +2,10 @@ package seedu.address.model.athlete;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.DIGIT;
+import static seedu.address.model.util.ValidationUtil.isWord;
+
+import seedu.address.model.util.ValidationUtil.CharPredicate;
 
 /**
  * Represents an Athlete's age in playbook.io.
@@ -13,6 +17,9 @@ public class Age {
             "Error: Ages should be a numeric integer between 1 and 99 (inclusive).";
     public static final String VALIDATION_REGEX = "^[1-9][0-9]?$";
 
+    private static final int MAX_LENGTH = 2;
+    private static final CharPredicate FIRST_DIGIT = c -> c >= '1' && c <= '9';
+
     public final String value;
 
     /**
@@ -30,7 +37,7 @@ public class Age {
      * Returns true if a given string is a valid age.
      */
     public static boolean isValidAge(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isWord(test, 1, MAX_LENGTH, FIRST_DIGIT, DIGIT);
     }
 
     @Override
@@ -2,7 +2,6 @@ package seedu.address.model.athlete;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -23,7 +22,8 @@ public class Athlete {
     private final Phone phone;
     private final Email email;
     private final Age age;
-
+    // Combines all five fields, none of which can change after construction
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -35,6 +35,7 @@ public class Athlete {
         this.age = age;
         this.phone = phone;
         this.email = email;
+        this.hash = computeHash();
     }
 
     public Name getName() {
@@ -109,7 +110,8 @@ public class Athlete {
         }
 
         Athlete otherAthlete = (Athlete) other;
-        return name.equals(otherAthlete.name)
+        return hash == otherAthlete.hash
+                && name.equals(otherAthlete.name)
                 && sport.equals(otherAthlete.sport)
                 && age.equals(otherAthlete.age)
                 && phone.equals(otherAthlete.phone)
@@ -118,8 +120,15 @@ public class Athlete {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, sport, age, phone, email);
+        return hash;
+    }
+
+    private int computeHash() {
+        int result = name.hashCode();
+        result = 31 * result + sport.hashCode();
+        result = 31 * result + age.hashCode();
+        result = 31 * result + phone.hashCode();
+        return 31 * result + email.hashCode();
     }
 
     @Override
@@ -2,9 +2,16 @@ package seedu.address.model.athlete;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.LETTER;
+import static seedu.address.model.util.ValidationUtil.isAsciiLetter;
+import static seedu.address.model.util.ValidationUtil.isWord;
+import static seedu.address.model.util.ValidationUtil.normalizeWhitespace;
 
 import java.util.Locale;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.ValidationUtil.CharPredicate;
+
 /**
  * Represents an Athlete's name in playbook.io.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,7 +28,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z][A-Za-z' -]*$";
 
+    private static final int MAX_LENGTH = 50;
+    private static final CharPredicate NAME_CHARACTER = c -> isAsciiLetter(c) || c == '\'' || c == ' ' || c == '-';
+
+    private static final Interner<Name> POOL = new Interner<>(name -> name.fullName);
+
     public final String fullName;
+    // Of the lowercased name, so names that differ only in case hash alike
+    private final int hash;
 
     /**
      * Constructs a {@code Name}.
@@ -31,14 +45,26 @@ public class Name {
     public Name(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = name.trim().replaceAll("\\s+", " ");
+        fullName = normalizeWhitespace(name);
+        hash = fullName.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code Name} for the given text, which is the same instance for every call with that text
+     * while the instance is still in use.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name, Name::new);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return isWord(normalizeWhitespace(test), 1, MAX_LENGTH, LETTER, NAME_CHARACTER);
     }
 
 
@@ -59,12 +85,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return hash == otherName.hash && fullName.equalsIgnoreCase(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase(Locale.ROOT).hashCode();
+        return hash;
     }
 
 }
@@ -2,9 +2,16 @@ package seedu.address.model.athlete;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.LETTER;
+import static seedu.address.model.util.ValidationUtil.isAsciiLetter;
+import static seedu.address.model.util.ValidationUtil.isWord;
+import static seedu.address.model.util.ValidationUtil.normalizeWhitespace;
 
 import java.util.Locale;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.ValidationUtil.CharPredicate;
+
 /**
  * Represents an Athlete's sport in playbook.io.
  * Guarantees: immutable; is valid as declared in {@link #isValidSport(String)}.
@@ -16,7 +23,13 @@ public class Sport {
                     + "should not be blank, and be at most 50 characters.";
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z][A-Za-z ]*$";
 
+    private static final int MAX_LENGTH = 50;
+    private static final CharPredicate SPORT_CHARACTER = c -> isAsciiLetter(c) || c == ' ';
+
+    private static final Interner<Sport> POOL = new Interner<>(sport -> sport.value);
+
     public final String value;
+    private final int hash;
 
     /**
      * Constructs a {@code Sport}.
@@ -26,14 +39,26 @@ public class Sport {
     public Sport(String sport) {
         requireNonNull(sport);
         checkArgument(isValidSport(sport), MESSAGE_CONSTRAINTS);
-        value = sport.trim().replaceAll("\\s+", " ");
+        value = normalizeWhitespace(sport);
+        hash = value.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code Sport} for the given text, which is the same instance for every call with that text
+     * while the instance is still in use.
+     *
+     * @param sport A valid sport name.
+     */
+    public static Sport of(String sport) {
+        requireNonNull(sport);
+        return POOL.intern(sport, Sport::new);
     }
 
     /**
      * Returns true if a given string is a valid sport name.
      */
     public static boolean isValidSport(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return isWord(normalizeWhitespace(test), 1, MAX_LENGTH, LETTER, SPORT_CHARACTER);
     }
 
     @Override
@@ -53,11 +78,11 @@ public class Sport {
         }
 
         Sport otherSport = (Sport) other;
-        return value.equalsIgnoreCase(otherSport.value);
+        return hash == otherSport.hash && value.equalsIgnoreCase(otherSport.value);
     }
 
     @Override
     public int hashCode() {
-        return value.toLowerCase(Locale.ROOT).hashCode();
+        return hash;
     }
 }
@@ -3,8 +3,11 @@ package seedu.address.model.athlete;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,13 +29,24 @@ public class UniqueAthleteList implements Iterable<Athlete> {
     private final ObservableList<Athlete> internalList = FXCollections.observableArrayList();
     private final ObservableList<Athlete> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Maps the identity of every athlete in internalList to that athlete, kept in sync with internalList
+    private final Map<List<Object>, Athlete> identityIndex = new HashMap<>();
+    private int modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent athlete as the given argument.
      */
     public boolean contains(Athlete toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAthlete);
+        return identityIndex.containsKey(identityOf(toCheck));
+    }
+
+    /**
+     * Returns the athlete in the list with the given name and sport, if any.
+     */
+    public Optional<Athlete> find(Name name, Sport sport) {
+        requireAllNonNull(name, sport);
+        return Optional.ofNullable(identityIndex.get(List.of(name, sport)));
     }
 
     /**
@@ -41,10 +55,11 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void add(Athlete toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (identityIndex.putIfAbsent(identityOf(toAdd), toAdd) != null) {
             throw new DuplicateAthleteException();
         }
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -53,9 +68,13 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void remove(Athlete toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        List<Object> identity = identityOf(toRemove);
+        if (!toRemove.equals(identityIndex.get(identity))) {
             throw new AthleteNotFoundException();
         }
+        internalList.remove(toRemove);
+        identityIndex.remove(identity);
+        modificationCount++;
     }
 
     /**
@@ -66,6 +85,9 @@ public class UniqueAthleteList implements Iterable<Athlete> {
     public void setAthletes(UniqueAthleteList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        modificationCount++;
     }
 
     /**
@@ -74,11 +96,11 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void setAthletes(List<Athlete> athletes) {
         requireAllNonNull(athletes);
-        if (!athletesAreUnique(athletes)) {
-            throw new DuplicateAthleteException();
-        }
-
+        Map<List<Object>, Athlete> replacementIndex = indexByIdentity(athletes);
         internalList.setAll(athletes);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        modificationCount++;
     }
 
     /**
@@ -88,6 +110,13 @@ public class UniqueAthleteList implements Iterable<Athlete> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of times this list has been modified. The count only ever increases.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Athlete> iterator() {
         return internalList.iterator();
@@ -119,16 +148,26 @@ public class UniqueAthleteList implements Iterable<Athlete> {
     }
 
     /**
-     * Returns true if {@code athletes} contains only unique athletes.
+     * Returns the identity of {@code athlete}, such that two athletes have the same identity exactly when
+     * {@code Athlete#isSameAthlete} holds between them.
+     */
+    private static List<Object> identityOf(Athlete athlete) {
+        // Must agree with the key built in find(Name, Sport)
+        return List.of(athlete.getName(), athlete.getSport());
+    }
+
+    /**
+     * Returns {@code athletes} indexed by identity.
+     *
+     * @throws DuplicateAthleteException if {@code athletes} contains duplicate athletes.
      */
-    private boolean athletesAreUnique(List<Athlete> athletes) {
-        for (int i = 0; i < athletes.size() - 1; i++) {
-            for (int j = i + 1; j < athletes.size(); j++) {
-                if (athletes.get(i).isSameAthlete(athletes.get(j))) {
-                    return false;
-                }
+    private static Map<List<Object>, Athlete> indexByIdentity(List<Athlete> athletes) {
+        Map<List<Object>, Athlete> index = new HashMap<>();
+        for (Athlete athlete : athletes) {
+            if (index.putIfAbsent(identityOf(athlete), athlete) != null) {
+                throw new DuplicateAthleteException();
             }
         }
-        return true;
+        return index;
     }
 }
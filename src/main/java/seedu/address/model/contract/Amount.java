@@ -1,7 +1,5 @@
 package seedu.address.model.contract;
 
-import java.util.Objects;
-
 /**
  * Represents a positive long integer amount in a Contract.
  * <p>
@@ -54,6 +52,6 @@ public class Amount {
         return o instanceof Amount && value == ((Amount) o).value;
     }
     @Override public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(value);
     }
 }
@@ -2,8 +2,6 @@ package seedu.address.model.contract;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.Sport;
@@ -26,6 +24,7 @@ public class Contract {
     private final Date8 startDate; // DDMMYYYY validator
     private final Date8 endDate; // DDMMYYYY validator
     private final Amount amount; // positive integer
+    private final int hash; // covers the whole athlete and organization, so it is kept
 
     /**
      * Constructs a {@code Contract} with all fields required.
@@ -51,6 +50,7 @@ public class Contract {
         this.startDate = startDate;
         this.endDate = endDate;
         this.amount = amount;
+        this.hash = computeHash();
     }
 
     public Athlete getAthlete() {
@@ -108,7 +108,8 @@ public class Contract {
         }
         Contract c = (Contract) o;
         // Strong equality (compare all fields deeply)
-        return athlete.equals(c.athlete)
+        return hash == c.hash
+                && athlete.equals(c.athlete)
                 && sport.equals(c.sport)
                 && organization.equals(c.organization)
                 && startDate.equals(c.startDate)
@@ -118,7 +119,16 @@ public class Contract {
 
     @Override
     public int hashCode() {
-        return Objects.hash(athlete, sport, organization, startDate, endDate, amount);
+        return hash;
+    }
+
+    private int computeHash() {
+        int result = athlete.hashCode();
+        result = 31 * result + sport.hashCode();
+        result = 31 * result + organization.hashCode();
+        result = 31 * result + startDate.hashCode();
+        result = 31 * result + endDate.hashCode();
+        return 31 * result + amount.hashCode();
     }
 
     @Override
@@ -0,0 +1,136 @@
+package seedu.address.model.contract;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
+
+/**
+ * Indexes a list of contracts by athlete and by organization, so that the contracts of any one of them, and their
+ * total amount and counterparts, can be looked up without going through the list.
+ * The index is updated incrementally whenever the list changes, after which its listeners are notified.
+ * <p>
+ * Athletes and organizations are matched by identity, as in {@link Athlete#isSameAthlete(Athlete)} and
+ * {@link Organization#isSameOrganization(Organization)}.
+ */
+public class ContractAggregates implements Observable {
+
+    private final Map<Object, ContractTally<Organization>> athleteTallies = new HashMap<>();
+    private final Map<Object, ContractTally<Athlete>> organizationTallies = new HashMap<>();
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates a {@code ContractAggregates} that summarises {@code contracts} and keeps up with its changes.
+     */
+    public ContractAggregates(ObservableList<Contract> contracts) {
+        requireNonNull(contracts);
+        contracts.forEach(this::count);
+        contracts.addListener(this::onContractsChanged);
+    }
+
+    /**
+     * Returns the contracts of {@code athlete}.
+     */
+    public ContractTally<Organization> getAthleteTally(Athlete athlete) {
+        requireNonNull(athlete);
+        return getAthleteTally(athlete.getName(), athlete.getSport());
+    }
+
+    /**
+     * Returns the contracts of the athlete with the given name and sport.
+     */
+    public ContractTally<Organization> getAthleteTally(Name name, Sport sport) {
+        requireAllNonNull(name, sport);
+        ContractTally<Organization> tally = athleteTallies.get(athleteIdentityOf(name, sport));
+        return tally == null ? new ContractTally<>() : tally;
+    }
+
+    /**
+     * Returns the contracts of {@code organization}.
+     */
+    public ContractTally<Athlete> getOrganizationTally(Organization organization) {
+        requireNonNull(organization);
+        return getOrganizationTally(organization.getName());
+    }
+
+    /**
+     * Returns the contracts of the organization with the given name.
+     */
+    public ContractTally<Athlete> getOrganizationTally(OrganizationName name) {
+        requireNonNull(name);
+        ContractTally<Athlete> tally = organizationTallies.get(name);
+        return tally == null ? new ContractTally<>() : tally;
+    }
+
+    /**
+     * Adds a listener that is notified after the tallies have been updated for a change to the contracts.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void onContractsChanged(ListChangeListener.Change<? extends Contract> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::uncount);
+            change.getAddedSubList().forEach(this::count);
+        }
+        new ArrayList<>(listeners).forEach(listener -> listener.invalidated(this));
+    }
+
+    private void count(Contract contract) {
+        Object athleteKey = identityOf(contract.getAthlete());
+        Object organizationKey = identityOf(contract.getOrganization());
+        athleteTallies.computeIfAbsent(athleteKey, key -> new ContractTally<>())
+                .add(contract, organizationKey, contract.getOrganization());
+        organizationTallies.computeIfAbsent(organizationKey, key -> new ContractTally<>())
+                .add(contract, athleteKey, contract.getAthlete());
+    }
+
+    private void uncount(Contract contract) {
+        Object athleteKey = identityOf(contract.getAthlete());
+        Object organizationKey = identityOf(contract.getOrganization());
+        uncount(athleteTallies, athleteKey, contract, organizationKey);
+        uncount(organizationTallies, organizationKey, contract, athleteKey);
+    }
+
+    private static void uncount(Map<Object, ? extends ContractTally<?>> tallies, Object key, Contract contract,
+            Object counterpartKey) {
+        ContractTally<?> tally = tallies.get(key);
+        tally.remove(contract, counterpartKey);
+        if (tally.isEmpty()) {
+            tallies.remove(key);
+        }
+    }
+
+    private static Object identityOf(Athlete athlete) {
+        return athleteIdentityOf(athlete.getName(), athlete.getSport());
+    }
+
+    private static Object identityOf(Organization organization) {
+        return organization.getName();
+    }
+
+    private static Object athleteIdentityOf(Name name, Sport sport) {
+        return List.of(name, sport);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.contract;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The contracts of a single athlete or organization, along with their total amount and
+ * the distinct counterparts they are signed with.
+ * Counterparts are athletes for an organization and organizations for an athlete, listed in the order they
+ * were first signed with.
+ *
+ * @param <T> The type of the counterparts.
+ */
+public class ContractTally<T> {
+
+    private final Set<Contract> contracts = new LinkedHashSet<>();
+    // The exact total is totalAmountHigh * 2^64 + totalAmountLow, with totalAmountLow read as unsigned
+    private long totalAmountLow = 0;
+    private long totalAmountHigh = 0;
+    // Maps the identity of each counterpart to the first instance seen, and to its number of contracts
+    private final Map<Object, T> counterparts = new LinkedHashMap<>();
+    private final Map<Object, Integer> counterpartContractCounts = new HashMap<>();
+
+    /**
+     * Returns the contracts, in the order they were added.
+     */
+    public Set<Contract> getContracts() {
+        return Collections.unmodifiableSet(contracts);
+    }
+
+    /**
+     * Returns the sum of the amounts of all contracts, or {@code Long.MAX_VALUE} if the sum does not fit
+     * in a {@code long}.
+     */
+    public long getTotalAmount() {
+        return totalAmountHigh == 0 && totalAmountLow >= 0 ? totalAmountLow : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of contracts.
+     */
+    public int getContractCount() {
+        return contracts.size();
+    }
+
+    /**
+     * Returns the distinct counterparts of all contracts.
+     */
+    public List<T> getCounterparts() {
+        return List.copyOf(counterparts.values());
+    }
+
+    /**
+     * Returns true if there are no contracts.
+     */
+    public boolean isEmpty() {
+        return contracts.isEmpty();
+    }
+
+    /**
+     * Adds {@code contract}, which is signed with {@code counterpart} whose identity is {@code counterpartKey}.
+     */
+    void add(Contract contract, Object counterpartKey, T counterpart) {
+        if (!contracts.add(contract)) {
+            return;
+        }
+        long amount = contract.getAmount().value;
+        long sum = totalAmountLow + amount;
+        if (Long.compareUnsigned(sum, totalAmountLow) < 0) {
+            totalAmountHigh++;
+        }
+        totalAmountLow = sum;
+        counterparts.putIfAbsent(counterpartKey, counterpart);
+        counterpartContractCounts.merge(counterpartKey, 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code contract}, which is signed with the counterpart whose identity is {@code counterpartKey}.
+     */
+    void remove(Contract contract, Object counterpartKey) {
+        if (!contracts.remove(contract)) {
+            return;
+        }
+        long amount = contract.getAmount().value;
+        long difference = totalAmountLow - amount;
+        if (Long.compareUnsigned(difference, totalAmountLow) > 0) {
+            totalAmountHigh--;
+        }
+        totalAmountLow = difference;
+        if (counterpartContractCounts.merge(counterpartKey, -1, Integer::sum) == 0) {
+            counterpartContractCounts.remove(counterpartKey);
+            counterparts.remove(counterpartKey);
+        }
+    }
+}
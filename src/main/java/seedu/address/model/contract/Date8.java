@@ -3,18 +3,21 @@ package seedu.address.model.contract;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
-import java.util.Objects;
 
-/** DDMMYYYY date with strict validation (e.g., 01012025). */
-public class Date8 {
+/**
+ * DDMMYYYY date with strict validation (e.g., 01012025).
+ * The date is held as its epoch day, so that comparing and ordering dates does not parse or allocate.
+ */
+public class Date8 implements Comparable<Date8> {
     public static final String MESSAGE_CONSTRAINTS =
             "Error: Date must be DDMMYYYY and a real calendar date (e.g., 01012025).";
-    private static final DateTimeFormatter FMT =
-            DateTimeFormatter.ofPattern("ddMMuuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    // Returned by parseEpochDay for text that is not a valid date; no DDMMYYYY date is this far from 1970
+    private static final int INVALID = Integer.MIN_VALUE;
+    private static final int DAYS_FROM_YEAR_0_TO_1970 = 719528;
 
     public final String value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date8} with the given date string.
@@ -26,15 +29,12 @@ public class Date8 {
     public Date8(String value) {
         requireNonNull(value);
         String v = value.trim();
-        if (v.length() != 8 || !v.chars().allMatch(Character::isDigit)) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-        try {
-            LocalDate.parse(v, FMT); // throws if invalid
-        } catch (Exception e) {
+        int parsed = parseEpochDay(v);
+        if (parsed == INVALID) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.value = v;
+        this.epochDay = parsed;
     }
 
     /**
@@ -44,19 +44,7 @@ public class Date8 {
      * @return true if valid, false otherwise.
      */
     public static boolean isValidDate8(String test) {
-        if (test == null) {
-            return false;
-        }
-        String t = test.trim();
-        if (t.length() != 8 || !t.chars().allMatch(Character::isDigit)) {
-            return false;
-        }
-        try {
-            LocalDate.parse(t, FMT);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return test != null && parseEpochDay(test.trim()) != INVALID;
     }
 
     /**
@@ -65,16 +53,104 @@ public class Date8 {
      * @return A LocalDate representing the same date as this Date8.
      */
     public LocalDate toLocalDate() {
-        return LocalDate.parse(value, FMT);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 1 January 1970 to this date, as in {@link LocalDate#toEpochDay()}.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns true if this date is after {@code other}.
+     */
+    public boolean isAfter(Date8 other) {
+        return epochDay > other.epochDay;
+    }
+
+    /**
+     * Returns true if this date is before {@code other}.
+     */
+    public boolean isBefore(Date8 other) {
+        return epochDay < other.epochDay;
+    }
+
+    @Override
+    public int compareTo(Date8 other) {
+        return Integer.compare(epochDay, other.epochDay);
+    }
+
+    /**
+     * Returns the epoch day of {@code text} if it is a DDMMYYYY date that exists in the calendar,
+     * or {@code INVALID} otherwise.
+     */
+    private static int parseEpochDay(String text) {
+        if (text.length() != 8) {
+            return INVALID;
+        }
+        for (int i = 0; i < 8; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+        }
+        int day = digitsAt(text, 0, 2);
+        int month = digitsAt(text, 2, 4);
+        int year = digitsAt(text, 4, 8);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(month, year)) {
+            return INVALID;
+        }
+        return toEpochDay(day, month, year);
+    }
+
+    private static int digitsAt(String text, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (text.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int month, int year) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Returns the epoch day of a valid date in a year from 0 to 9999, computed as in {@link LocalDate#toEpochDay()}.
+     */
+    private static int toEpochDay(int day, int month, int year) {
+        int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_FROM_YEAR_0_TO_1970;
     }
 
     @Override public String toString() {
         return value;
     }
     @Override public boolean equals(Object o) {
-        return o instanceof Date8 && value.equals(((Date8) o).value);
+        return o instanceof Date8 && epochDay == ((Date8) o).epochDay;
     }
     @Override public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(epochDay);
     }
 }
@@ -3,8 +3,10 @@ package seedu.address.model.contract;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,20 +24,24 @@ public class UniqueContractList implements Iterable<Contract> {
     private final ObservableList<Contract> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contract> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Maps the identity of every contract in internalList to that contract, kept in sync with internalList
+    private final Map<List<Object>, Contract> identityIndex = new HashMap<>();
+    private int modificationCount = 0;
 
     /** Returns true if the list contains an equivalent contract as the given argument. */
     public boolean contains(Contract toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContract);
+        return identityIndex.containsKey(identityOf(toCheck));
     }
 
     /** Adds a contract to the list. The contract must not already exist in the list. */
     public void add(Contract toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (identityIndex.putIfAbsent(identityOf(toAdd), toAdd) != null) {
             throw new DuplicateContractException();
         }
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -56,20 +62,30 @@ public class UniqueContractList implements Iterable<Contract> {
         }
 
         internalList.set(index, editedContract);
+        identityIndex.remove(identityOf(target));
+        identityIndex.put(identityOf(editedContract), editedContract);
+        modificationCount++;
     }
 
     /** Removes the equivalent contract from the list. The contract must exist in the list. */
     public void remove(Contract toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) { // uses equals
+        List<Object> identity = identityOf(toRemove);
+        if (!toRemove.equals(identityIndex.get(identity))) {
             throw new ContractNotFoundException();
         }
+        internalList.remove(toRemove);
+        identityIndex.remove(identity);
+        modificationCount++;
     }
 
     /** Replaces the contents of this list with {@code contracts}. */
     public void setContracts(UniqueContractList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        modificationCount++;
     }
 
     /**
@@ -78,10 +94,11 @@ public class UniqueContractList implements Iterable<Contract> {
      */
     public void setContracts(List<Contract> contracts) {
         requireAllNonNull(contracts);
-        if (!contractsAreUnique(contracts)) {
-            throw new DuplicateContractException();
-        }
+        Map<List<Object>, Contract> replacementIndex = indexByIdentity(contracts);
         internalList.setAll(contracts);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        modificationCount++;
     }
 
     /** Returns the backing list as an unmodifiable {@code ObservableList}. */
@@ -89,6 +106,11 @@ public class UniqueContractList implements Iterable<Contract> {
         return internalUnmodifiableList;
     }
 
+    /** Returns the number of times this list has been modified, which only ever increases. */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Contract> iterator() {
         return internalList.iterator();
@@ -116,15 +138,28 @@ public class UniqueContractList implements Iterable<Contract> {
         return internalList.toString();
     }
 
-    /** Returns true if {@code contracts} contains only unique contracts. */
-    private boolean contractsAreUnique(List<Contract> contracts) {
-        for (int i = 0; i < contracts.size() - 1; i++) {
-            for (int j = i + 1; j < contracts.size(); j++) {
-                if (contracts.get(i).isSameContract(contracts.get(j))) {
-                    return false;
-                }
+    /**
+     * Returns the identity of {@code contract}, such that two contracts have the same identity exactly when
+     * {@code Contract#isSameContract} holds between them.
+     */
+    private static List<Object> identityOf(Contract contract) {
+        return List.of(contract.getAthlete().getName(), contract.getAthlete().getSport(), contract.getSport(),
+                contract.getOrganization().getName(), contract.getStartDate(), contract.getEndDate(),
+                contract.getAmount());
+    }
+
+    /**
+     * Returns {@code contracts} indexed by identity.
+     *
+     * @throws DuplicateContractException if {@code contracts} contains duplicate contracts.
+     */
+    private static Map<List<Object>, Contract> indexByIdentity(List<Contract> contracts) {
+        Map<List<Object>, Contract> index = new HashMap<>();
+        for (Contract contract : contracts) {
+            if (index.putIfAbsent(identityOf(contract), contract) != null) {
+                throw new DuplicateContractException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -2,7 +2,6 @@ package seedu.address.model.organization;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -21,6 +20,7 @@ public class Organization {
     private final OrganizationName name;
     private final OrganizationPhone phone;
     private final OrganizationEmail email;
+    private final int hash; // of the name, phone and email
 
     /**
      * Every field must be present and not null.
@@ -30,6 +30,7 @@ public class Organization {
         this.name = name;
         this.phone = phone;
         this.email = email;
+        this.hash = computeHash();
     }
 
     public OrganizationName getName() {
@@ -105,14 +106,21 @@ public class Organization {
         }
 
         Organization otherOrg = (Organization) other;
-        return name.equals(otherOrg.name)
+        return hash == otherOrg.hash
+                && name.equals(otherOrg.name)
                 && phone.equals(otherOrg.phone)
                 && email.equals(otherOrg.email);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email);
+        return hash;
+    }
+
+    private int computeHash() {
+        int result = name.hashCode();
+        result = 31 * result + phone.hashCode();
+        return 31 * result + email.hashCode();
     }
 
     @Override
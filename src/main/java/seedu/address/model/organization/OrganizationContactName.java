@@ -2,6 +2,12 @@ package seedu.address.model.organization;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.LETTER;
+import static seedu.address.model.util.ValidationUtil.isAsciiLetter;
+import static seedu.address.model.util.ValidationUtil.isWord;
+import static seedu.address.model.util.ValidationUtil.normalizeWhitespace;
+
+import seedu.address.model.util.ValidationUtil.CharPredicate;
 
 /**
  * Represents an Organization's contact person's name in playbook.io.
@@ -19,6 +25,8 @@ public class OrganizationContactName {
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z][A-Za-z'\\- ]*[A-Za-z]$|^[A-Za-z]$";
 
+    private static final CharPredicate NAME_CHARACTER = c -> isAsciiLetter(c) || c == '\'' || c == '-' || c == ' ';
+
     public final String fullName;
 
     /**
@@ -28,7 +36,7 @@ public class OrganizationContactName {
      */
     public OrganizationContactName(String name) {
         requireNonNull(name);
-        String trimmed = name.trim().replaceAll("\\s+", " ");
+        String trimmed = normalizeWhitespace(name);
         checkArgument(isValidName(trimmed), MESSAGE_CONSTRAINTS);
         fullName = trimmed;
     }
@@ -37,7 +45,8 @@ public class OrganizationContactName {
      * Returns true if a given string is a valid contact name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isWord(test, 1, Integer.MAX_VALUE, LETTER, NAME_CHARACTER)
+                && isAsciiLetter(test.charAt(test.length() - 1));
     }
 
     @Override
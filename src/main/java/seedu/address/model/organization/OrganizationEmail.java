@@ -2,6 +2,7 @@ package seedu.address.model.organization;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.isEmail;
 
 /**
  * Represents an Organization's email in playbook.io.
@@ -31,6 +32,7 @@ public class OrganizationEmail {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final int MAX_LENGTH = 50;
 
     public final String value;
 
@@ -49,7 +51,7 @@ public class OrganizationEmail {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.length() <= 50 && test.matches(VALIDATION_REGEX);
+        return isEmail(test, MAX_LENGTH);
     }
 
     @Override
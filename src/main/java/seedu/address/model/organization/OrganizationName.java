@@ -2,9 +2,16 @@ package seedu.address.model.organization;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.LETTER_OR_DIGIT;
+import static seedu.address.model.util.ValidationUtil.isAsciiLetterOrDigit;
+import static seedu.address.model.util.ValidationUtil.isWord;
+import static seedu.address.model.util.ValidationUtil.normalizeWhitespace;
 
 import java.util.Locale;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.util.ValidationUtil.CharPredicate;
+
 /**
  * Represents an Organization's name in playbook.io.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}.
@@ -21,7 +28,15 @@ public class OrganizationName {
      */
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z0-9][A-Za-z0-9' &-]*$";
 
+    private static final int MAX_LENGTH = 50;
+    private static final CharPredicate NAME_CHARACTER =
+            c -> isAsciiLetterOrDigit(c) || c == '\'' || c == ' ' || c == '&' || c == '-';
+
+    private static final Interner<OrganizationName> POOL = new Interner<>(name -> name.fullOrganizationName);
+
     public final String fullOrganizationName;
+    // Ignores case, as equals does
+    private final int hash;
 
     /**
      * Constructs a {@code OrganizationName}.
@@ -31,14 +46,26 @@ public class OrganizationName {
     public OrganizationName(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullOrganizationName = name.trim().replaceAll("\\s+", " ");
+        fullOrganizationName = normalizeWhitespace(name);
+        hash = fullOrganizationName.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns a {@code OrganizationName} for the given text, which is the same instance for every call with that text
+     * while the instance is still in use.
+     *
+     * @param name A valid organization name.
+     */
+    public static OrganizationName of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name, OrganizationName::new);
     }
 
     /**
      * Returns true if a given string is a valid organization name.
      */
     public static boolean isValidName(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return isWord(normalizeWhitespace(test), 1, MAX_LENGTH, LETTER_OR_DIGIT, NAME_CHARACTER);
     }
 
     @Override
@@ -50,11 +77,12 @@ public class OrganizationName {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof OrganizationName
+                && hash == ((OrganizationName) other).hash
                 && fullOrganizationName.equalsIgnoreCase(((OrganizationName) other).fullOrganizationName));
     }
 
     @Override
     public int hashCode() {
-        return fullOrganizationName.toLowerCase(Locale.ROOT).hashCode();
+        return hash;
     }
 }
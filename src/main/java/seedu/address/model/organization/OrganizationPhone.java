@@ -2,6 +2,10 @@ package seedu.address.model.organization;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.ValidationUtil.DIGIT;
+import static seedu.address.model.util.ValidationUtil.isWord;
+
+import seedu.address.model.util.ValidationUtil.CharPredicate;
 
 /**
  * Represents an Organization's phone number in playbook.io.
@@ -14,6 +18,9 @@ public class OrganizationPhone {
                     + "and start with 6, 8, or 9.";
     public static final String VALIDATION_REGEX = "^[689]\\d{7}$";
 
+    private static final int LENGTH = 8;
+    private static final CharPredicate FIRST_DIGIT = c -> c == '6' || c == '8' || c == '9';
+
     public final String value;
 
     /**
@@ -31,7 +38,7 @@ public class OrganizationPhone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isWord(test, LENGTH, LENGTH, FIRST_DIGIT, DIGIT);
     }
 
     @Override
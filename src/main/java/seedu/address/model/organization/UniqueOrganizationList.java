@@ -3,8 +3,11 @@ package seedu.address.model.organization;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,13 +31,24 @@ public class UniqueOrganizationList implements Iterable<Organization> {
     private final ObservableList<Organization> internalList = FXCollections.observableArrayList();
     private final ObservableList<Organization> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Maps the identity of every organization in internalList to that organization, kept in sync with internalList
+    private final Map<List<Object>, Organization> identityIndex = new HashMap<>();
+    private int modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent Organization as the given argument.
      */
     public boolean contains(Organization toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrganization);
+        return identityIndex.containsKey(identityOf(toCheck));
+    }
+
+    /**
+     * Returns the Organization in the list with the given name, if any.
+     */
+    public Optional<Organization> find(OrganizationName name) {
+        requireNonNull(name);
+        return Optional.ofNullable(identityIndex.get(List.of(name)));
     }
 
     /**
@@ -43,10 +57,11 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void add(Organization toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (identityIndex.putIfAbsent(identityOf(toAdd), toAdd) != null) {
             throw new DuplicateOrganizationException();
         }
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -68,6 +83,9 @@ public class UniqueOrganizationList implements Iterable<Organization> {
         }
 
         internalList.set(index, editedOrganization);
+        identityIndex.remove(identityOf(target));
+        identityIndex.put(identityOf(editedOrganization), editedOrganization);
+        modificationCount++;
     }
 
     /**
@@ -76,9 +94,13 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void remove(Organization toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        List<Object> identity = identityOf(toRemove);
+        if (!toRemove.equals(identityIndex.get(identity))) {
             throw new OrganizationNotFoundException();
         }
+        internalList.remove(toRemove);
+        identityIndex.remove(identity);
+        modificationCount++;
     }
 
     /**
@@ -89,6 +111,9 @@ public class UniqueOrganizationList implements Iterable<Organization> {
     public void setOrganizations(UniqueOrganizationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        modificationCount++;
     }
 
     /**
@@ -97,11 +122,11 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void setOrganizations(List<Organization> organizations) {
         requireAllNonNull(organizations);
-        if (!organizationsAreUnique(organizations)) {
-            throw new DuplicateOrganizationException();
-        }
-
+        Map<List<Object>, Organization> replacementIndex = indexByIdentity(organizations);
         internalList.setAll(organizations);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        modificationCount++;
     }
 
     /**
@@ -111,6 +136,13 @@ public class UniqueOrganizationList implements Iterable<Organization> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of times this list has been modified. The count only ever increases.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Organization> iterator() {
         return internalList.iterator();
@@ -142,16 +174,26 @@ public class UniqueOrganizationList implements Iterable<Organization> {
     }
 
     /**
-     * Returns true if {@code Organizations} contains only unique Organizations.
+     * Returns the identity of {@code organization}, such that two organizations have the same identity exactly when
+     * {@code Organization#isSameOrganization} holds between them.
+     */
+    private static List<Object> identityOf(Organization organization) {
+        // Must agree with the key built in find(OrganizationName)
+        return List.of(organization.getName());
+    }
+
+    /**
+     * Returns {@code organizations} indexed by identity.
+     *
+     * @throws DuplicateOrganizationException if {@code organizations} contains duplicate organizations.
      */
-    private boolean organizationsAreUnique(List<Organization> organizations) {
-        for (int i = 0; i < organizations.size() - 1; i++) {
-            for (int j = i + 1; j < organizations.size(); j++) {
-                if (organizations.get(i).isSameOrganization(organizations.get(j))) {
-                    return false;
-                }
+    private static Map<List<Object>, Organization> indexByIdentity(List<Organization> organizations) {
+        Map<List<Object>, Organization> index = new HashMap<>();
+        for (Organization organization : organizations) {
+            if (index.putIfAbsent(identityOf(organization), organization) != null) {
+                throw new DuplicateOrganizationException();
             }
         }
-        return true;
+        return index;
     }
 }
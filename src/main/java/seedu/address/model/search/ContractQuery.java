@@ -0,0 +1,417 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.Date8;
+
+/**
+ * A query over contracts that combines terms on their text fields, dates and amounts with AND, OR and NOT.
+ * A query only describes what to match: it is bound to the indexes of a {@link SearchIndex}, and planned, when it
+ * is run with {@link SearchIndex#planContracts(ContractQuery, LocalDate)}.
+ * <p>
+ * Queries are immutable, and are written in the syntax of the {@code find} command by {@link #toString()}.
+ */
+public abstract class ContractQuery {
+
+    /**
+     * The text fields of a contract that can be fuzzy-matched.
+     */
+    public enum TextField {
+        ATHLETE_NAME("-ca"), ORGANIZATION_NAME("-co"), SPORT("-cs");
+
+        private final String flag;
+
+        TextField(String flag) {
+            this.flag = flag;
+        }
+    }
+
+    /**
+     * The dates of a contract that can be compared.
+     */
+    public enum DateField {
+        START_DATE("sd", Contract::getStartDate), END_DATE("ed", Contract::getEndDate);
+
+        private final String prefix;
+        private final Function<Contract, Date8> dateOf;
+
+        DateField(String prefix, Function<Contract, Date8> dateOf) {
+            this.prefix = prefix;
+            this.dateOf = dateOf;
+        }
+    }
+
+    /**
+     * The ways a field can be compared with a value.
+     */
+    public enum Comparison {
+        LESS("<"), LESS_OR_EQUAL("<="), EQUAL("="), GREATER_OR_EQUAL(">="), GREATER(">");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the comparison written as {@code symbol}, or null if there is none.
+         */
+        public static Comparison fromSymbol(String symbol) {
+            for (Comparison comparison : values()) {
+                if (comparison.symbol.equals(symbol)) {
+                    return comparison;
+                }
+            }
+            return null;
+        }
+
+        boolean test(long field, long value) {
+            switch (this) {
+            case LESS:
+                return field < value;
+            case LESS_OR_EQUAL:
+                return field <= value;
+            case EQUAL:
+                return field == value;
+            case GREATER_OR_EQUAL:
+                return field >= value;
+            case GREATER:
+                return field > value;
+            default:
+                throw new AssertionError(this);
+            }
+        }
+    }
+
+    /**
+     * Returns a query for the contracts whose {@code field} fuzzy-matches {@code keyword}, ignoring case.
+     */
+    public static ContractQuery matching(TextField field, String keyword) {
+        return new TextTerm(field, keyword);
+    }
+
+    /**
+     * Returns a query for the contracts that have started and not yet ended on {@code date}.
+     */
+    public static ContractQuery activeOn(Date8 date) {
+        return new ActiveTerm(date);
+    }
+
+    /**
+     * Returns a query for the contracts that end from the day it is run to {@code days} days after.
+     */
+    public static ContractQuery expiringWithin(int days) {
+        return new ExpiringTerm(days);
+    }
+
+    /**
+     * Returns a query for the contracts whose amount compares with {@code amount} by {@code comparison}.
+     */
+    public static ContractQuery amount(Comparison comparison, long amount) {
+        return new AmountTerm(comparison, amount);
+    }
+
+    /**
+     * Returns a query for the contracts whose {@code field} compares with {@code date} by {@code comparison}.
+     */
+    public static ContractQuery date(DateField field, Comparison comparison, Date8 date) {
+        return new DateTerm(field, comparison, date);
+    }
+
+    /**
+     * Returns a query for the contracts matching all of {@code queries}, of which there must be at least two.
+     */
+    public static ContractQuery and(List<ContractQuery> queries) {
+        return new Combination(true, queries);
+    }
+
+    /**
+     * Returns a query for the contracts matching any of {@code queries}, of which there must be at least two.
+     */
+    public static ContractQuery or(List<ContractQuery> queries) {
+        return new Combination(false, queries);
+    }
+
+    /**
+     * Returns a query for the contracts not matching {@code query}.
+     */
+    public static ContractQuery not(ContractQuery query) {
+        return new Negation(query);
+    }
+
+    /**
+     * Returns this query as a node over the contracts of {@code index}, taking today's date to be {@code today}.
+     */
+    abstract QueryNode<Contract> bind(SearchIndex index, LocalDate today);
+
+    private static class TextTerm extends ContractQuery {
+        private final TextField field;
+        private final String keywordLower;
+
+        TextTerm(TextField field, String keyword) {
+            requireNonNull(field);
+            requireNonNull(keyword);
+            this.field = field;
+            this.keywordLower = FuzzyIndex.toLowerCase(keyword);
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            FuzzyIndex<Contract> texts = index.getContractTextIndex(field);
+            return QueryNode.indexed(toString(), true, () -> texts.estimateCandidates(keywordLower), () ->
+                    texts.findCandidates(keywordLower), contract -> texts.recordMatches(contract, keywordLower));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof TextTerm && field == ((TextTerm) other).field
+                    && keywordLower.equals(((TextTerm) other).keywordLower));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, keywordLower);
+        }
+
+        @Override
+        public String toString() {
+            return field.flag + " \"" + keywordLower + "\"";
+        }
+    }
+
+    private static class ActiveTerm extends ContractQuery {
+        private final Date8 date;
+
+        ActiveTerm(Date8 date) {
+            this.date = requireNonNull(date);
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            DateIntervalIndex<Contract> dates = index.getContractDateIndex();
+            int day = date.getEpochDay();
+            return QueryNode.indexed(toString(), false, () -> dates.estimateActiveOn(day), () ->
+                    dates.findActiveOn(day), contract -> contract.getStartDate().getEpochDay() <= day
+                    && day <= contract.getEndDate().getEpochDay());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof ActiveTerm && date.equals(((ActiveTerm) other).date));
+        }
+
+        @Override
+        public int hashCode() {
+            return date.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "-active " + date;
+        }
+    }
+
+    private static class ExpiringTerm extends ContractQuery {
+        private final int days;
+
+        ExpiringTerm(int days) {
+            assert days >= 0;
+            this.days = days;
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            int from = Math.toIntExact(today.toEpochDay());
+            return endingBetween(index, toString(), from, from + days);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof ExpiringTerm && days == ((ExpiringTerm) other).days);
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(days);
+        }
+
+        @Override
+        public String toString() {
+            return "-expiring " + days;
+        }
+    }
+
+    private static class AmountTerm extends ContractQuery {
+        private final Comparison comparison;
+        private final long amount;
+
+        AmountTerm(Comparison comparison, long amount) {
+            this.comparison = requireNonNull(comparison);
+            this.amount = amount;
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            // Amounts are not indexed, so they can only be compared contract by contract
+            return QueryNode.condition(toString(), contract ->
+                    comparison.test(contract.getAmount().value, amount));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof AmountTerm && comparison == ((AmountTerm) other).comparison
+                    && amount == ((AmountTerm) other).amount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(comparison, amount);
+        }
+
+        @Override
+        public String toString() {
+            return "am" + comparison.symbol + amount;
+        }
+    }
+
+    private static class DateTerm extends ContractQuery {
+        private final DateField field;
+        private final Comparison comparison;
+        private final Date8 date;
+
+        DateTerm(DateField field, Comparison comparison, Date8 date) {
+            requireNonNull(field);
+            requireNonNull(comparison);
+            requireNonNull(date);
+            this.field = field;
+            this.comparison = comparison;
+            this.date = date;
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            int day = date.getEpochDay();
+            if (field == DateField.END_DATE) {
+                // End dates are indexed, so a comparison with one is a range of end dates
+                switch (comparison) {
+                case LESS:
+                    return endingBetween(index, toString(), Integer.MIN_VALUE, day - 1);
+                case LESS_OR_EQUAL:
+                    return endingBetween(index, toString(), Integer.MIN_VALUE, day);
+                case EQUAL:
+                    return endingBetween(index, toString(), day, day);
+                case GREATER_OR_EQUAL:
+                    return endingBetween(index, toString(), day, Integer.MAX_VALUE);
+                case GREATER:
+                    return endingBetween(index, toString(), day + 1, Integer.MAX_VALUE);
+                default:
+                    throw new AssertionError(comparison);
+                }
+            }
+            return QueryNode.condition(toString(), contract ->
+                    comparison.test(field.dateOf.apply(contract).getEpochDay(), day));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof DateTerm)) {
+                return false;
+            }
+            DateTerm otherTerm = (DateTerm) other;
+            return field == otherTerm.field && comparison == otherTerm.comparison && date.equals(otherTerm.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, comparison, date);
+        }
+
+        @Override
+        public String toString() {
+            return field.prefix + comparison.symbol + date;
+        }
+    }
+
+    private static class Combination extends ContractQuery {
+        private final boolean isAnd;
+        private final List<ContractQuery> queries;
+
+        Combination(boolean isAnd, List<ContractQuery> queries) {
+            requireNonNull(queries);
+            assert queries.size() >= 2;
+            this.isAnd = isAnd;
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            List<QueryNode<Contract>> nodes = queries.stream().map(query -> query.bind(index, today))
+                    .collect(Collectors.toList());
+            return isAnd ? QueryNode.and(nodes) : QueryNode.or(nodes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Combination && isAnd == ((Combination) other).isAnd
+                    && queries.equals(((Combination) other).queries));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isAnd, queries);
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream().map(ContractQuery::toString)
+                    .collect(Collectors.joining(isAnd ? " AND " : " OR ", "(", ")"));
+        }
+    }
+
+    private static class Negation extends ContractQuery {
+        private final ContractQuery query;
+
+        Negation(ContractQuery query) {
+            this.query = requireNonNull(query);
+        }
+
+        @Override
+        QueryNode<Contract> bind(SearchIndex index, LocalDate today) {
+            return QueryNode.not(query.bind(index, today));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Negation && query.equals(((Negation) other).query));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~query.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + query;
+        }
+    }
+
+    private static QueryNode<Contract> endingBetween(SearchIndex index, String description, int from, int to) {
+        DateIntervalIndex<Contract> dates = index.getContractDateIndex();
+        return QueryNode.indexed(description, false, () -> dates.countEndingBetween(from, to), () ->
+                dates.findEndingBetween(from, to), contract -> {
+                    int end = contract.getEndDate().getEpochDay();
+                    return from <= end && end <= to;
+                });
+    }
+}
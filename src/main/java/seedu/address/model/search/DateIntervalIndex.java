@@ -0,0 +1,327 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.contract.Date8;
+
+/**
+ * Finds the records of a list whose date interval, from a start date to an end date inclusive, contains a given day
+ * or ends within a given range of days, without checking every record. The index is updated incrementally
+ * whenever the list changes.
+ * <p>
+ * Intervals are kept in a treap ordered by start day, where each node also holds the latest end day in its subtree,
+ * so subtrees that end before a day can be skipped. Records are also kept in a map ordered by end day.
+ *
+ * @param <T> The type of the records.
+ */
+public class DateIntervalIndex<T> {
+
+    private final Function<? super T, Date8> startOf;
+    private final Function<? super T, Date8> endOf;
+    // The node of each record, compared by reference
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    // Maps each end day to the records ending on it, compared by reference
+    private final NavigableMap<Integer, Set<T>> recordsByEnd = new TreeMap<>();
+    private Node<T> root;
+    private long nextId = 0;
+    private int modificationCount = 0;
+
+    /**
+     * Creates a {@code DateIntervalIndex} over the intervals from {@code startOf} to {@code endOf} each record in
+     * {@code records}, which keeps up with the changes to {@code records}.
+     * The index should be created before any other listener of {@code records} that tests its predicates.
+     */
+    public DateIntervalIndex(ObservableList<? extends T> records, Function<? super T, Date8> startOf,
+            Function<? super T, Date8> endOf) {
+        requireNonNull(records);
+        requireNonNull(startOf);
+        requireNonNull(endOf);
+        this.startOf = startOf;
+        this.endOf = endOf;
+        records.forEach(this::add);
+        records.addListener(this::onRecordsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the records in the list whose interval contains {@code epochDay}.
+     * The predicate follows later changes to the list.
+     */
+    public Predicate<T> activeOn(int epochDay) {
+        return activeOn(epochDay, findActiveOn(epochDay));
+    }
+
+    /**
+     * Returns a predicate like {@link #activeOn(int)}, given the records {@code found} by
+     * {@link #findActiveOn(int)} since the list last changed. The predicate may add to {@code found}.
+     */
+    public Predicate<T> activeOn(int epochDay, Set<T> found) {
+        return following(found, record -> startOf.apply(record).getEpochDay() <= epochDay
+                && endOf.apply(record).getEpochDay() >= epochDay);
+    }
+
+    /**
+     * Returns a predicate that is true for the records in the list whose interval ends from {@code fromEpochDay}
+     * to {@code toEpochDay} inclusive. The predicate follows later changes to the list.
+     */
+    public Predicate<T> endingBetween(int fromEpochDay, int toEpochDay) {
+        return endingBetween(fromEpochDay, toEpochDay, findEndingBetween(fromEpochDay, toEpochDay));
+    }
+
+    /**
+     * Returns a predicate like {@link #endingBetween(int, int)}, given the records {@code found} by
+     * {@link #findEndingBetween(int, int)} since the list last changed. The predicate may add to {@code found}.
+     */
+    public Predicate<T> endingBetween(int fromEpochDay, int toEpochDay, Set<T> found) {
+        return following(found, record -> {
+            int end = endOf.apply(record).getEpochDay();
+            return fromEpochDay <= end && end <= toEpochDay;
+        });
+    }
+
+    /**
+     * Returns the records in the list whose interval contains {@code epochDay}, compared by reference.
+     */
+    public Set<T> findActiveOn(int epochDay) {
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectActiveOn(root, epochDay, found);
+        return found;
+    }
+
+    /**
+     * Returns the records in the list whose interval ends from {@code fromEpochDay} to {@code toEpochDay} inclusive,
+     * compared by reference.
+     */
+    public Set<T> findEndingBetween(int fromEpochDay, int toEpochDay) {
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (fromEpochDay <= toEpochDay) {
+            recordsByEnd.subMap(fromEpochDay, true, toEpochDay, true).values().forEach(found::addAll);
+        }
+        return found;
+    }
+
+    /**
+     * Returns an upper bound on the number of records whose interval contains {@code epochDay}: the number that
+     * end on or after it.
+     */
+    public int estimateActiveOn(int epochDay) {
+        return countIn(recordsByEnd.tailMap(epochDay, true));
+    }
+
+    /**
+     * Returns the number of records whose interval ends from {@code fromEpochDay} to {@code toEpochDay} inclusive.
+     */
+    public int countEndingBetween(int fromEpochDay, int toEpochDay) {
+        return fromEpochDay <= toEpochDay ? countIn(recordsByEnd.subMap(fromEpochDay, true, toEpochDay, true)) : 0;
+    }
+
+    private static <T> int countIn(Map<Integer, Set<T>> recordsByDay) {
+        long count = 0;
+        for (Set<T> records : recordsByDay.values()) {
+            count += records.size();
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a predicate that is true for the records {@code found} by searching the index, until the list
+     * changes. After that, a record in the list that was not found is checked by itself with {@code check}.
+     */
+    private Predicate<T> following(Set<T> found, Predicate<T> check) {
+        requireNonNull(found);
+        int searchedModificationCount = modificationCount;
+        return record -> {
+            if (searchedModificationCount == modificationCount) {
+                return found.contains(record);
+            }
+            // Records are immutable, so only the records added since the search can have become matches
+            if (!nodes.containsKey(record)) {
+                return false;
+            }
+            if (found.contains(record)) {
+                return true;
+            }
+            if (check.test(record)) {
+                found.add(record);
+                return true;
+            }
+            return false;
+        };
+    }
+
+    private static <T> void collectActiveOn(Node<T> node, int epochDay, Set<T> found) {
+        // Walks down the right spine iteratively, so only left subtrees are visited recursively
+        while (node != null && node.maxEnd >= epochDay) {
+            collectActiveOn(node.left, epochDay, found);
+            if (node.start > epochDay) {
+                return; // every later node starts after the day too
+            }
+            if (node.end >= epochDay) {
+                found.add(node.record);
+            }
+            node = node.right;
+        }
+    }
+
+    private void onRecordsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        modificationCount++;
+    }
+
+    private void add(T record) {
+        Node<T> node = nodes.get(record);
+        if (node != null) {
+            node.count++;
+            return;
+        }
+        node = new Node<>(record, startOf.apply(record).getEpochDay(), endOf.apply(record).getEpochDay(), nextId++);
+        nodes.put(record, node);
+        root = insert(root, node);
+        recordsByEnd.computeIfAbsent(node.end, end -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(record);
+    }
+
+    private void remove(T record) {
+        Node<T> node = nodes.get(record);
+        if (--node.count > 0) {
+            return;
+        }
+        nodes.remove(record);
+        root = delete(root, node);
+        Set<T> ending = recordsByEnd.get(node.end);
+        ending.remove(record);
+        if (ending.isEmpty()) {
+            recordsByEnd.remove(node.end);
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private static <T> Node<T> delete(Node<T> subtree, Node<T> node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Merges two treaps, where every node of {@code left} is before every node of {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        return pivot;
+    }
+
+    /**
+     * A record's interval in the treap, ordered by start day and then by the order the records were added.
+     */
+    private static class Node<T> {
+        private final T record;
+        private final int start;
+        private final int end;
+        private final long id;
+        // Pseudo-random, from the id, so that the treap is balanced whatever order the intervals are added in
+        private final int priority;
+        private int count = 1;
+        private int maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T record, int start, int end, long id) {
+            this.record = record;
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.priority = priorityOf(id);
+            this.maxEnd = end;
+        }
+
+        /**
+         * Scrambles {@code id} with the SplitMix64 finalizer.
+         */
+        private static int priorityOf(long id) {
+            long z = id + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return (int) (z ^ (z >>> 31));
+        }
+
+        boolean isBefore(Node<T> other) {
+            return start < other.start || (start == other.start && id < other.id);
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.EditDistanceUtil.isWithinLevenshteinDistance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Finds the records of a list whose text field fuzzy-matches a keyword, without comparing the keyword against
+ * every record. The index is updated incrementally whenever the list changes.
+ * <p>
+ * A lowercase keyword matches a text if the lowercased text contains the keyword, or if the keyword is long
+ * enough to allow edits and is within {@link #allowableDistance(int)} edits of the lowercased text or of one of
+ * its words. See {@link #matches(String, String)}. Texts and keywords are lowercased with
+ * {@link #toLowerCase(String)}, so that they match the same way whatever the default locale.
+ * <p>
+ * Candidates are found with an n-gram index: a text within {@code k} edits of the keyword must contain one of
+ * {@code k + 1} disjoint pieces of the keyword unchanged. Each candidate is then checked exactly.
+ *
+ * @param <T> The type of the records.
+ */
+public class FuzzyIndex<T> {
+
+    private static final Pattern WORD_PATTERN = Pattern.compile("[\\p{Alnum}]+");
+
+    private final Function<? super T, String> textOf;
+    // Maps each lowercased text to the records with that text, and the number of times each is in the list
+    private final Map<String, Map<T, Integer>> recordsByText = new HashMap<>();
+    // Maps each word of the lowercased texts to the texts containing it
+    private final Map<String, Set<String>> textsByWord = new HashMap<>();
+    private final NGramIndex textIndex = new NGramIndex();
+    private final NGramIndex wordIndex = new NGramIndex();
+    private int modificationCount = 0;
+    private int recordCount = 0;
+
+    /**
+     * Creates a {@code FuzzyIndex} over the text {@code textOf} each record in {@code records},
+     * which keeps up with the changes to {@code records}.
+     * The index should be created before any other listener of {@code records} that tests its predicates.
+     */
+    public FuzzyIndex(ObservableList<? extends T> records, Function<? super T, String> textOf) {
+        requireNonNull(records);
+        requireNonNull(textOf);
+        this.textOf = textOf;
+        records.forEach(this::add);
+        records.addListener(this::onRecordsChanged);
+    }
+
+    /**
+     * Returns {@code text} in lowercase, as texts and keywords are compared by the index.
+     */
+    public static String toLowerCase(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a predicate that is true for the records in the list whose text fuzzy-matches {@code keywordLower}.
+     * The predicate follows later changes to the list.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public Predicate<T> matching(String keywordLower) {
+        requireNonNull(keywordLower);
+        return matching(keywordLower, find(keywordLower));
+    }
+
+    /**
+     * Returns a predicate like {@link #matching(String)}, given the records {@code found} by
+     * {@link #find(String)} for {@code keywordLower} since the list last changed. The predicate may add to
+     * {@code found}.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public Predicate<T> matching(String keywordLower, Set<T> found) {
+        requireNonNull(keywordLower);
+        requireNonNull(found);
+        int searchedModificationCount = modificationCount;
+        return record -> {
+            if (searchedModificationCount == modificationCount) {
+                return found.contains(record);
+            }
+            // Records are immutable, so only the records added since the search can have become matches, and
+            // each of those is checked by itself rather than by searching the whole index again
+            String text = textOf.apply(record);
+            Map<T, Integer> records = recordsByText.get(toLowerCase(text));
+            if (records == null || !records.containsKey(record)) {
+                return false;
+            }
+            if (found.contains(record)) {
+                return true;
+            }
+            if (matches(text, keywordLower)) {
+                found.add(record);
+                return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the records in the list whose text fuzzy-matches {@code keywordLower}, compared by reference.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public Set<T> find(String keywordLower) {
+        requireNonNull(keywordLower);
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        findTexts(keywordLower).forEach(text -> found.addAll(recordsByText.get(text).keySet()));
+        return found;
+    }
+
+    /**
+     * Returns the records in the list whose text contains one of the pieces of {@code keywordLower} that every
+     * fuzzy-matching text contains unchanged, compared by reference. These include every record found by
+     * {@link #find(String)}, and each is confirmed with {@link #recordMatches(Object, String)}.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public Set<T> findCandidates(String keywordLower) {
+        requireNonNull(keywordLower);
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String piece : piecesOf(keywordLower)) {
+            for (String text : textIndex.candidatesContaining(piece)) {
+                if (text.contains(piece)) {
+                    candidates.addAll(recordsByText.get(text).keySet());
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound on the number of records {@link #findCandidates(String)} finds for
+     * {@code keywordLower}, counted from the texts that may contain each of its pieces without comparing any text.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public int estimateCandidates(String keywordLower) {
+        requireNonNull(keywordLower);
+        long count = 0;
+        for (String piece : piecesOf(keywordLower)) {
+            for (String text : textIndex.candidatesContaining(piece)) {
+                count += recordsByText.get(text).size();
+                if (count >= recordCount) {
+                    return recordCount;
+                }
+            }
+        }
+        return (int) count;
+    }
+
+    /**
+     * Returns true if {@code keywordLower} fuzzy-matches the text of {@code record}.
+     *
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public boolean recordMatches(T record, String keywordLower) {
+        return matches(textOf.apply(record), keywordLower);
+    }
+
+    /**
+     * Returns true if {@code keywordLower} fuzzy-matches {@code text}, by the same rules as the index.
+     * This checks a single text, and is the reference the index is tested against.
+     *
+     * @param text The text to search in.
+     * @param keywordLower The keyword, in lowercase.
+     */
+    public static boolean matches(String text, String keywordLower) {
+        String textLower = toLowerCase(text);
+
+        // Tier 1: Exact substring match (fastest)
+        if (textLower.contains(keywordLower)) {
+            return true;
+        }
+
+        // Calculate allowed edit distance based on keyword length
+        int allowedDistance = allowableDistance(keywordLower.length());
+        if (allowedDistance == 0) {
+            return false; // Too short for fuzzy matching
+        }
+
+        // Tier 2: Full text Levenshtein distance match
+        if (isWithinLevenshteinDistance(textLower, keywordLower, allowedDistance)) {
+            return true;
+        }
+
+        // Tier 3: Word-by-word Levenshtein distance match
+        Matcher matcher = WORD_PATTERN.matcher(textLower);
+        while (matcher.find()) {
+            if (isWithinLevenshteinDistance(matcher.group(), keywordLower, allowedDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> findTexts(String keywordLower) {
+        Set<String> texts = new HashSet<>();
+        for (String text : textIndex.candidatesContaining(keywordLower)) {
+            if (text.contains(keywordLower)) {
+                texts.add(text);
+            }
+        }
+
+        int allowedDistance = allowableDistance(keywordLower.length());
+        if (allowedDistance == 0) {
+            return texts;
+        }
+
+        List<String> pieces = split(keywordLower, allowedDistance + 1);
+        Set<String> checkedTexts = new HashSet<>(texts);
+        Set<String> checkedWords = new HashSet<>();
+        for (String piece : pieces) {
+            for (String text : textIndex.candidatesContaining(piece)) {
+                if (text.contains(piece) && checkedTexts.add(text)
+                        && isWithinLevenshteinDistance(text, keywordLower, allowedDistance)) {
+                    texts.add(text);
+                }
+            }
+            for (String word : wordIndex.candidatesContaining(piece)) {
+                if (word.contains(piece) && checkedWords.add(word)
+                        && isWithinLevenshteinDistance(word, keywordLower, allowedDistance)) {
+                    texts.addAll(textsByWord.get(word));
+                }
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * Returns the pieces of {@code keywordLower} of which a fuzzy-matching text contains at least one unchanged.
+     */
+    private static List<String> piecesOf(String keywordLower) {
+        int allowedDistance = allowableDistance(keywordLower.length());
+        return allowedDistance == 0 ? List.of(keywordLower) : split(keywordLower, allowedDistance + 1);
+    }
+
+    /**
+     * Splits {@code text} into {@code count} consecutive pieces whose lengths differ by at most one.
+     * {@code text} must have at least {@code count} characters.
+     */
+    private static List<String> split(String text, int count) {
+        assert text.length() >= count;
+        List<String> pieces = new ArrayList<>(count);
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int length = text.length() / count + (i < text.length() % count ? 1 : 0);
+            pieces.add(text.substring(start, start + length));
+            start += length;
+        }
+        return pieces;
+    }
+
+    private void onRecordsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        modificationCount++;
+    }
+
+    private void add(T record) {
+        String text = toLowerCase(textOf.apply(record));
+        Map<T, Integer> records = recordsByText.get(text);
+        if (records == null) {
+            records = new IdentityHashMap<>();
+            recordsByText.put(text, records);
+            textIndex.add(text);
+            for (String word : wordsOf(text)) {
+                textsByWord.computeIfAbsent(word, key -> new HashSet<>()).add(text);
+                wordIndex.add(word);
+            }
+        }
+        records.merge(record, 1, Integer::sum);
+        recordCount++;
+    }
+
+    private void remove(T record) {
+        String text = toLowerCase(textOf.apply(record));
+        Map<T, Integer> records = recordsByText.get(text);
+        recordCount--;
+        if (records.merge(record, -1, Integer::sum) == 0) {
+            records.remove(record);
+        }
+        if (!records.isEmpty()) {
+            return;
+        }
+        recordsByText.remove(text);
+        textIndex.remove(text);
+        for (String word : wordsOf(text)) {
+            Set<String> texts = textsByWord.get(word);
+            texts.remove(text);
+            if (texts.isEmpty()) {
+                textsByWord.remove(word);
+            }
+            wordIndex.remove(word);
+        }
+    }
+
+    private static Set<String> wordsOf(String textLower) {
+        Set<String> words = new LinkedHashSet<>();
+        Matcher matcher = WORD_PATTERN.matcher(textLower);
+        while (matcher.find()) {
+            words.add(matcher.group());
+        }
+        return words;
+    }
+
+    /**
+     * Calculates the maximum allowed Levenshtein distance for fuzzy matching
+     * based on the keyword length. Shorter keywords require exact matches,
+     * while longer keywords allow more edits.
+     *
+     * @param length the length of the search keyword
+     * @return the maximum allowed edit distance
+     */
+    static int allowableDistance(int length) {
+        if (length <= 2) {
+            return 0; // 1-2 chars: exact match only
+        }
+        if (length <= 4) {
+            return 1; // 3-4 chars: 1 edit allowed
+        }
+        if (length <= 7) {
+            return 2; // 5-7 chars: 2 edits allowed
+        }
+        if (length <= 11) {
+            return 3; // 8-11 chars: 3 edits allowed
+        }
+        return 4; // 12+ chars: 4 edits allowed
+    }
+}
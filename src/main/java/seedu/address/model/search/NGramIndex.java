@@ -0,0 +1,82 @@
+package seedu.address.model.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the 1-grams and 2-grams of a multiset of strings to the strings containing them.
+ */
+class NGramIndex {
+
+    // Number of times each string has been added and not yet removed
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    /**
+     * Adds an occurrence of {@code text}.
+     */
+    void add(String text) {
+        if (counts.merge(text, 1, Integer::sum) > 1) {
+            return;
+        }
+        for (String gram : gramsOf(text)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(text);
+        }
+    }
+
+    /**
+     * Removes an occurrence of {@code text}, which must have been added.
+     */
+    void remove(String text) {
+        Integer count = counts.get(text);
+        assert count != null;
+        if (count > 1) {
+            counts.put(text, count - 1);
+            return;
+        }
+        counts.remove(text);
+        for (String gram : gramsOf(text)) {
+            Set<String> posting = postings.get(gram);
+            posting.remove(text);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the strings that may contain {@code piece}, which include every string that does.
+     * Strings that do not contain {@code piece} may be returned if it is longer than a single character.
+     */
+    Collection<String> candidatesContaining(String piece) {
+        if (piece.isEmpty()) {
+            return counts.keySet();
+        }
+        if (piece.length() == 1) {
+            return postings.getOrDefault(piece, Set.of());
+        }
+        // Every string containing the piece is in the posting of each of its 2-grams, so use the shortest one
+        Set<String> shortest = null;
+        for (int i = 0; i + 2 <= piece.length(); i++) {
+            Set<String> posting = postings.getOrDefault(piece.substring(i, i + 2), Set.of());
+            if (shortest == null || posting.size() < shortest.size()) {
+                shortest = posting;
+            }
+        }
+        return shortest;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A part of a query over the records of a list, bound to the indexes that can find its candidates.
+ * <p>
+ * An indexed node can find its candidates: a set of records that includes every record it matches, and that may
+ * include others. Every node can check whether a single record matches it exactly.
+ *
+ * @param <T> The type of the records.
+ */
+abstract class QueryNode<T> {
+
+    /**
+     * The largest number of times more candidates than are left that a term may have and still be intersected
+     * with them, rather than checked against each of them.
+     */
+    static final int MAX_INTERSECTION_RATIO = 4;
+
+    /** Returns true if the candidates of this node can be found with an index. */
+    abstract boolean isIndexed();
+
+    /** Returns true if checking a record against this node compares text, which is slower than comparing numbers. */
+    abstract boolean isFuzzy();
+
+    /**
+     * Returns an upper bound on the number of candidates of this node, found without finding them.
+     * Only called on indexed nodes, which override it.
+     */
+    int estimate() {
+        throw new AssertionError("Not an indexed node: " + this);
+    }
+
+    /**
+     * Returns the candidates of this node, compared by reference, and adds the choices made to {@code plan}.
+     * Only called on indexed nodes, which override it.
+     */
+    Set<T> candidates(QueryPlan<T> plan, int depth) {
+        throw new AssertionError("Not an indexed node: " + this);
+    }
+
+    /** Returns true if {@code record} matches this node. */
+    abstract boolean test(T record);
+
+    /**
+     * Returns a node whose candidates are found by {@code find}, of which there are at most {@code estimate}.
+     */
+    static <T> QueryNode<T> indexed(String description, boolean isFuzzy, IntSupplier estimate,
+            Supplier<Set<T>> find, Predicate<T> test) {
+        return new Term<>(description, isFuzzy, estimate, find, test);
+    }
+
+    /**
+     * Returns a node that can only be checked record by record.
+     */
+    static <T> QueryNode<T> condition(String description, Predicate<T> test) {
+        return new Term<>(description, false, null, null, test);
+    }
+
+    /** Returns a node that matches the records matching all of {@code children}. */
+    static <T> QueryNode<T> and(List<QueryNode<T>> children) {
+        return new And<>(children);
+    }
+
+    /** Returns a node that matches the records matching any of {@code children}. */
+    static <T> QueryNode<T> or(List<QueryNode<T>> children) {
+        return new Or<>(children);
+    }
+
+    /** Returns a node that matches the records not matching {@code child}. */
+    static <T> QueryNode<T> not(QueryNode<T> child) {
+        return new Not<>(child);
+    }
+
+    /**
+     * Returns the records in {@code left} that are also in {@code right}, by looking up each record of the smaller
+     * set in the larger one.
+     */
+    static <T> Set<T> intersect(Set<T> left, Set<T> right) {
+        Set<T> smaller = left.size() <= right.size() ? left : right;
+        Set<T> larger = smaller == left ? right : left;
+        Set<T> both = Collections.newSetFromMap(new IdentityHashMap<>(smaller.size()));
+        for (T record : smaller) {
+            if (larger.contains(record)) {
+                both.add(record);
+            }
+        }
+        return both;
+    }
+
+    /**
+     * A single term of a query.
+     */
+    private static class Term<T> extends QueryNode<T> {
+        private final String description;
+        private final boolean isFuzzy;
+        private final IntSupplier estimate;
+        private final Supplier<Set<T>> find;
+        private final Predicate<T> test;
+
+        Term(String description, boolean isFuzzy, IntSupplier estimate, Supplier<Set<T>> find,
+                Predicate<T> test) {
+            requireNonNull(description);
+            requireNonNull(test);
+            this.description = description;
+            this.isFuzzy = isFuzzy;
+            this.estimate = estimate;
+            this.find = find;
+            this.test = test;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return find != null;
+        }
+
+        @Override
+        boolean isFuzzy() {
+            return isFuzzy;
+        }
+
+        @Override
+        int estimate() {
+            return estimate.getAsInt();
+        }
+
+        @Override
+        Set<T> candidates(QueryPlan<T> plan, int depth) {
+            return find.get();
+        }
+
+        @Override
+        boolean test(T record) {
+            return test.test(record);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Records matching all of several nodes. The candidates of the indexed nodes are intersected from the fewest
+     * estimated upwards, and nodes whose candidates are too many to be worth finding are left to be checked.
+     */
+    private static class And<T> extends QueryNode<T> {
+        private final List<QueryNode<T>> children;
+
+        And(List<QueryNode<T>> children) {
+            assert children.size() >= 2;
+            // Numbers are compared before text, so that a record is rarely compared by text only to be rejected
+            this.children = children.stream().sorted(Comparator.comparing(QueryNode::isFuzzy))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        boolean isIndexed() {
+            return children.stream().anyMatch(QueryNode::isIndexed);
+        }
+
+        @Override
+        boolean isFuzzy() {
+            return children.stream().anyMatch(QueryNode::isFuzzy);
+        }
+
+        @Override
+        int estimate() {
+            return children.stream().filter(QueryNode::isIndexed).mapToInt(QueryNode::estimate).min()
+                    .orElseThrow();
+        }
+
+        @Override
+        Set<T> candidates(QueryPlan<T> plan, int depth) {
+            Map<QueryNode<T>, Integer> estimates = new IdentityHashMap<>();
+            List<QueryNode<T>> indexed = new ArrayList<>();
+            for (QueryNode<T> child : children) {
+                if (child.isIndexed()) {
+                    estimates.put(child, child.estimate());
+                    indexed.add(child);
+                }
+            }
+            indexed.sort(Comparator.comparing(estimates::get));
+
+            Set<T> found = null;
+            for (QueryNode<T> child : indexed) {
+                int estimate = estimates.get(child);
+                if (found == null) {
+                    plan.addStep(depth, "find %s: at most %d candidates", child, estimate);
+                    found = child.candidates(plan, depth + 1);
+                    plan.addStep(depth, "  %d found", found.size());
+                } else if (found.isEmpty()) {
+                    plan.addStep(depth, "skip %s: no candidates left", child);
+                } else if (estimate > (long) found.size() * MAX_INTERSECTION_RATIO) {
+                    plan.addStep(depth, "check %s on each candidate: at most %d candidates, %d left", child,
+                            estimate, found.size());
+                } else {
+                    plan.addStep(depth, "intersect %s: at most %d candidates", child, estimate);
+                    found = intersect(found, child.candidates(plan, depth + 1));
+                    plan.addStep(depth, "  %d left", found.size());
+                }
+            }
+            return found;
+        }
+
+        @Override
+        boolean test(T record) {
+            for (QueryNode<T> child : children) {
+                if (!child.test(record)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(QueryNode::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Records matching any of several nodes. The candidates are the union of those of the nodes, so they can
+     * only be found if every node is indexed.
+     */
+    private static class Or<T> extends QueryNode<T> {
+        private final List<QueryNode<T>> children;
+
+        Or(List<QueryNode<T>> children) {
+            assert children.size() >= 2;
+            this.children = List.copyOf(children);
+        }
+
+        @Override
+        boolean isIndexed() {
+            return children.stream().allMatch(QueryNode::isIndexed);
+        }
+
+        @Override
+        boolean isFuzzy() {
+            return children.stream().anyMatch(QueryNode::isFuzzy);
+        }
+
+        @Override
+        int estimate() {
+            long sum = children.stream().mapToLong(QueryNode::estimate).sum();
+            return (int) Math.min(sum, Integer.MAX_VALUE);
+        }
+
+        @Override
+        Set<T> candidates(QueryPlan<T> plan, int depth) {
+            Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (QueryNode<T> child : children) {
+                plan.addStep(depth, "add %s: at most %d candidates", child, child.estimate());
+                found.addAll(child.candidates(plan, depth + 1));
+            }
+            plan.addStep(depth, "  %d found", found.size());
+            return found;
+        }
+
+        @Override
+        boolean test(T record) {
+            for (QueryNode<T> child : children) {
+                if (child.test(record)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return children.stream().map(QueryNode::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Records not matching a node. Its candidates cannot be found with an index.
+     */
+    private static class Not<T> extends QueryNode<T> {
+        private final QueryNode<T> child;
+
+        Not(QueryNode<T> child) {
+            this.child = requireNonNull(child);
+        }
+
+        @Override
+        boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        boolean isFuzzy() {
+            return child.isFuzzy();
+        }
+
+        @Override
+        boolean test(T record) {
+            return !child.test(record);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Finds the records of a list that match a query, using the indexes where they help.
+ * <p>
+ * The candidates of the query are found first: terms combined with AND are found from the one with the fewest
+ * candidates upwards, each intersected with the candidates left, and terms combined with OR are found and joined.
+ * Only the candidates left are then checked against the whole query, so that text is only fuzzy-matched, and
+ * numbers compared, for records that can still match. A query that cannot be narrowed with an index, such as one
+ * made only of amount conditions, is checked against every record.
+ * <p>
+ * The choices made while finding the records are kept as steps, to be shown to the user.
+ *
+ * @param <T> The type of the records.
+ */
+public class QueryPlan<T> {
+
+    private final QueryNode<T> root;
+    private final List<? extends T> records;
+    private final String noun;
+    private final IntSupplier listVersion;
+    private final List<String> steps = new ArrayList<>();
+
+    /**
+     * Creates a {@code QueryPlan} for the records of {@code records} matching {@code root}, where
+     * {@code listVersion} changes with every change to {@code records}, and the records are called {@code noun}.
+     */
+    QueryPlan(QueryNode<T> root, List<? extends T> records, String noun, IntSupplier listVersion) {
+        requireAllNonNull(root, records, noun, listVersion);
+        this.root = root;
+        this.records = records;
+        this.noun = noun;
+        this.listVersion = listVersion;
+    }
+
+    /**
+     * Finds the records matching the query, and returns a predicate that is true for them.
+     * The predicate follows later changes to the list, by checking the records added since by themselves.
+     */
+    public Predicate<T> execute() {
+        steps.clear();
+        Collection<? extends T> candidates;
+        if (root.isIndexed()) {
+            candidates = root.candidates(this, 0);
+        } else {
+            addStep(0, "scan all %d %s: no term narrows them down with an index", records.size(), noun);
+            candidates = records;
+        }
+
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidates) {
+            if (root.test(candidate)) {
+                found.add(candidate);
+            }
+        }
+        addStep(0, "check %s on %d candidates: %d match", root, candidates.size(), found.size());
+
+        int searchedVersion = listVersion.getAsInt();
+        // Records are immutable, so a record that was in the list when it was searched cannot have become a match
+        return record -> found.contains(record)
+                || (listVersion.getAsInt() != searchedVersion && root.test(record));
+    }
+
+    /**
+     * Returns the choices made by the last {@link #execute()}, one step per line, indented under the step they
+     * are part of.
+     */
+    public List<String> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    void addStep(int depth, String format, Object... args) {
+        steps.add("  ".repeat(depth) + String.format(format, args));
+    }
+}
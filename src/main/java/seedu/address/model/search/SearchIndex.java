@@ -0,0 +1,181 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+
+/**
+ * The fuzzy search indexes over the text fields of athletes, organizations and contracts that can be searched,
+ * and the index over the dates of contracts. Each index keeps up with the changes to its list.
+ * <p>
+ * The results of recent searches are kept, so that repeating a search while its list is unchanged does not search
+ * the index again. Each list has a version that changes with every change to the list, and a result is only used
+ * while its list is at the version it was found at.
+ */
+public class SearchIndex {
+
+    public static final String MESSAGE_NEGATIVE_MEMORY_BUDGET = "The memory budget cannot be negative.";
+
+    /**
+     * The searches whose results are kept, each made with an argument such as a keyword.
+     */
+    private enum Query {
+        ATHLETE_NAME, ATHLETE_SPORT, ORGANIZATION_NAME, CONTRACT_ATHLETE_NAME, CONTRACT_ORGANIZATION_NAME,
+        CONTRACT_SPORT, CONTRACT_ACTIVE_ON, CONTRACT_ENDING_BETWEEN
+    }
+
+    private final ObservableList<Athlete> athletes;
+    private final ObservableList<Organization> organizations;
+    private final ObservableList<Contract> contracts;
+    private final FuzzyIndex<Athlete> athleteNames;
+    private final FuzzyIndex<Athlete> athleteSports;
+    private final FuzzyIndex<Organization> organizationNames;
+    private final FuzzyIndex<Contract> contractAthleteNames;
+    private final FuzzyIndex<Contract> contractOrganizationNames;
+    private final FuzzyIndex<Contract> contractSports;
+    private final DateIntervalIndex<Contract> contractDates;
+    private final SearchResultCache resultCache;
+    private int athleteVersion = 0;
+    private int organizationVersion = 0;
+    private int contractVersion = 0;
+
+    /**
+     * Creates a {@code SearchIndex} over the given lists, which keeps the results of recent searches in at most
+     * {@code resultCacheMemoryBudget} bytes.
+     * It should be created before any other listener of the lists that tests its predicates.
+     */
+    public SearchIndex(ObservableList<Athlete> athletes, ObservableList<Organization> organizations,
+            ObservableList<Contract> contracts, long resultCacheMemoryBudget) {
+        requireAllNonNull(athletes, organizations, contracts);
+        checkArgument(resultCacheMemoryBudget >= 0, MESSAGE_NEGATIVE_MEMORY_BUDGET);
+        this.athletes = athletes;
+        this.organizations = organizations;
+        this.contracts = contracts;
+        athleteNames = new FuzzyIndex<>(athletes, athlete -> athlete.getName().toString());
+        athleteSports = new FuzzyIndex<>(athletes, athlete -> athlete.getSport().toString());
+        organizationNames = new FuzzyIndex<>(organizations, organization -> organization.getName().toString());
+        contractAthleteNames = new FuzzyIndex<>(contracts, contract -> contract.getAthlete().getName().toString());
+        contractOrganizationNames = new FuzzyIndex<>(contracts,
+                contract -> contract.getOrganization().getName().toString());
+        contractSports = new FuzzyIndex<>(contracts, contract -> contract.getSport().toString());
+        contractDates = new DateIntervalIndex<>(contracts, Contract::getStartDate, Contract::getEndDate);
+        resultCache = new SearchResultCache(resultCacheMemoryBudget);
+        athletes.addListener((ListChangeListener<Athlete>) change -> athleteVersion++);
+        organizations.addListener((ListChangeListener<Organization>) change -> organizationVersion++);
+        contracts.addListener((ListChangeListener<Contract>) change -> contractVersion++);
+    }
+
+    /**
+     * Keeps the results of recent searches in at most {@code resultCacheMemoryBudget} bytes from now on.
+     */
+    public void setResultCacheMemoryBudget(long resultCacheMemoryBudget) {
+        checkArgument(resultCacheMemoryBudget >= 0, MESSAGE_NEGATIVE_MEMORY_BUDGET);
+        resultCache.setMemoryBudget(resultCacheMemoryBudget);
+    }
+
+    /**
+     * Returns a predicate that is true for athletes whose name fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Athlete> athletesMatchingName(String keywordLower) {
+        return athleteNames.matching(keywordLower, resultCache.find(List.of(Query.ATHLETE_NAME, keywordLower),
+                athletes, athleteVersion, () -> athleteNames.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for athletes whose sport fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Athlete> athletesMatchingSport(String keywordLower) {
+        return athleteSports.matching(keywordLower, resultCache.find(List.of(Query.ATHLETE_SPORT, keywordLower),
+                athletes, athleteVersion, () -> athleteSports.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for organizations whose name fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Organization> organizationsMatchingName(String keywordLower) {
+        return organizationNames.matching(keywordLower, resultCache.find(
+                List.of(Query.ORGANIZATION_NAME, keywordLower), organizations, organizationVersion, () ->
+                        organizationNames.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for contracts whose athlete's name fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Contract> contractsMatchingAthleteName(String keywordLower) {
+        return contractAthleteNames.matching(keywordLower, resultCache.find(
+                List.of(Query.CONTRACT_ATHLETE_NAME, keywordLower), contracts, contractVersion, () ->
+                        contractAthleteNames.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for contracts whose organization's name fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Contract> contractsMatchingOrganizationName(String keywordLower) {
+        return contractOrganizationNames.matching(keywordLower, resultCache.find(
+                List.of(Query.CONTRACT_ORGANIZATION_NAME, keywordLower), contracts, contractVersion, () ->
+                        contractOrganizationNames.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for contracts whose sport fuzzy-matches {@code keywordLower}.
+     */
+    public Predicate<Contract> contractsMatchingSport(String keywordLower) {
+        return contractSports.matching(keywordLower, resultCache.find(List.of(Query.CONTRACT_SPORT, keywordLower),
+                contracts, contractVersion, () -> contractSports.find(keywordLower)));
+    }
+
+    /**
+     * Returns a predicate that is true for contracts that have started and not yet ended on {@code date}.
+     */
+    public Predicate<Contract> contractsActiveOn(LocalDate date) {
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        return contractDates.activeOn(epochDay, resultCache.find(List.of(Query.CONTRACT_ACTIVE_ON, epochDay),
+                contracts, contractVersion, () -> contractDates.findActiveOn(epochDay)));
+    }
+
+    /**
+     * Returns a predicate that is true for contracts that end from {@code from} to {@code to} inclusive.
+     */
+    public Predicate<Contract> contractsEndingBetween(LocalDate from, LocalDate to) {
+        int fromEpochDay = Math.toIntExact(from.toEpochDay());
+        int toEpochDay = Math.toIntExact(to.toEpochDay());
+        return contractDates.endingBetween(fromEpochDay, toEpochDay, resultCache.find(
+                List.of(Query.CONTRACT_ENDING_BETWEEN, fromEpochDay, toEpochDay), contracts, contractVersion, () ->
+                        contractDates.findEndingBetween(fromEpochDay, toEpochDay)));
+    }
+
+    /**
+     * Returns a plan for finding the contracts matching {@code query}, taking today's date to be {@code today}.
+     * Unlike the results of the single searches above, the contracts it finds are not kept.
+     */
+    public QueryPlan<Contract> planContracts(ContractQuery query, LocalDate today) {
+        requireAllNonNull(query, today);
+        return new QueryPlan<>(query.bind(this, today), contracts, "contracts", () -> contractVersion);
+    }
+
+    FuzzyIndex<Contract> getContractTextIndex(ContractQuery.TextField field) {
+        switch (field) {
+        case ATHLETE_NAME:
+            return contractAthleteNames;
+        case ORGANIZATION_NAME:
+            return contractOrganizationNames;
+        case SPORT:
+            return contractSports;
+        default:
+            throw new AssertionError(field);
+        }
+    }
+
+    DateIntervalIndex<Contract> getContractDateIndex() {
+        return contractDates;
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The results of recent searches, each stored as the set of positions in the searched list of the records found.
+ * A result is only used while the list is at the version it was found at, and the least recently used results are
+ * dropped once the results take up more than the memory budget.
+ */
+class SearchResultCache {
+
+    // Rough size of an entry apart from its positions: the entry, its key, its map node and the bit set
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Keyed by the list itself, as each list searched has versions of its own
+    private final Map<List<?>, RecordPositions> recordPositions = new IdentityHashMap<>();
+    private long memoryBudget;
+    private long usedBytes = 0;
+
+    /**
+     * Creates an empty {@code SearchResultCache} that keeps results taking up at most {@code memoryBudget} bytes.
+     */
+    SearchResultCache(long memoryBudget) {
+        assert memoryBudget >= 0;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Returns the records of {@code records} found by the search identified by {@code key}.
+     * The stored result is used if the search was last made when {@code records} was at {@code version};
+     * otherwise the records are found with {@code search} and the result is stored.
+     * The returned set compares records by reference, and may be changed by the caller.
+     */
+    <T> Set<T> find(Object key, List<? extends T> records, int version, Supplier<Set<T>> search) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version == version) {
+            return entry.recordsIn(records);
+        }
+
+        Set<T> found = search.get();
+        if (entry != null) {
+            remove(key);
+        }
+        Entry newEntry = new Entry(version, positionsOf(found, records, version));
+        if (newEntry.sizeInBytes() <= memoryBudget) {
+            entries.put(key, newEntry);
+            usedBytes += newEntry.sizeInBytes();
+            evictUntilWithinBudget();
+        }
+        return found;
+    }
+
+    /**
+     * Sets the memory budget to {@code memoryBudget} bytes, dropping the least recently used results that no
+     * longer fit in it.
+     */
+    void setMemoryBudget(long memoryBudget) {
+        assert memoryBudget >= 0;
+        this.memoryBudget = memoryBudget;
+        evictUntilWithinBudget();
+    }
+
+    /** Returns the number of results stored. */
+    int size() {
+        return entries.size();
+    }
+
+    /** Returns the rough number of bytes taken up by the results stored. */
+    long getUsedBytes() {
+        return usedBytes;
+    }
+
+    private void remove(Object key) {
+        usedBytes -= entries.remove(key).sizeInBytes();
+    }
+
+    private void evictUntilWithinBudget() {
+        Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (usedBytes > memoryBudget) {
+            usedBytes -= leastRecentlyUsed.next().sizeInBytes();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Returns the positions in {@code records} of the records {@code found}. The position of every record is only
+     * worked out again once {@code records} is at a new version, so a search finding few records stays cheap.
+     */
+    private <T> BitSet positionsOf(Set<T> found, List<? extends T> records, int version) {
+        RecordPositions positionsInRecords = recordPositions.get(records);
+        if (positionsInRecords == null || positionsInRecords.version != version) {
+            positionsInRecords = new RecordPositions(version, records);
+            recordPositions.put(records, positionsInRecords);
+        }
+        BitSet positions = new BitSet();
+        for (T record : found) {
+            positions.set(positionsInRecords.of(record));
+        }
+        // Trimmed to the last position found, so that a result with few matches early in the list stays small
+        return BitSet.valueOf(positions.toLongArray());
+    }
+
+    /**
+     * The position of each record of a list, compared by reference, at one version of the list.
+     */
+    private static class RecordPositions {
+        private final int version;
+        private final Map<Object, Integer> positions;
+
+        RecordPositions(int version, List<?> records) {
+            this.version = version;
+            positions = new IdentityHashMap<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                positions.put(records.get(i), i);
+            }
+        }
+
+        int of(Object record) {
+            Integer position = positions.get(record);
+            assert position != null : "A record found must be in the list searched";
+            return position;
+        }
+    }
+
+    /**
+     * The positions of the records found by a search, and the version of the list they are positions in.
+     */
+    private static class Entry {
+        private final int version;
+        private final BitSet positions;
+
+        Entry(int version, BitSet positions) {
+            this.version = version;
+            this.positions = positions;
+        }
+
+        long sizeInBytes() {
+            return ENTRY_OVERHEAD_BYTES + positions.size() / Byte.SIZE;
+        }
+
+        <T> Set<T> recordsIn(List<? extends T> records) {
+            Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>(positions.cardinality()));
+            for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+                found.add(records.get(i));
+            }
+            return found;
+        }
+    }
+}
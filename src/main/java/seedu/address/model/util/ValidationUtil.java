@@ -0,0 +1,183 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for the text fields of the model.
+ * Each check accepts exactly the strings accepted by the {@code VALIDATION_REGEX} of the field that uses it, but
+ * scans the string once without compiling or running a regular expression, since every field of every record is
+ * checked when the data files are loaded.
+ */
+public class ValidationUtil {
+
+    /**
+     * Tests a single character, without boxing it.
+     */
+    @FunctionalInterface
+    public interface CharPredicate {
+        boolean test(char c);
+    }
+
+    /** Matches {@code [A-Za-z]}. */
+    public static final CharPredicate LETTER = ValidationUtil::isAsciiLetter;
+    /** Matches {@code [0-9]}, which is also what {@code \d} matches. */
+    public static final CharPredicate DIGIT = ValidationUtil::isAsciiDigit;
+    /** Matches {@code [A-Za-z0-9]}, which is also what {@code [^\W_]} matches. */
+    public static final CharPredicate LETTER_OR_DIGIT = ValidationUtil::isAsciiLetterOrDigit;
+
+    private static final String EMAIL_LOCAL_PART_SEPARATORS = "+_.-";
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns {@code text} with leading and trailing whitespace removed and each run of whitespace inside it
+     * replaced by a single space, as {@code text.trim().replaceAll("\\s+", " ")} does.
+     * The trimmed string itself is returned when it has nothing to replace, which is the usual case.
+     */
+    public static String normalizeWhitespace(String text) {
+        requireNonNull(text);
+        String trimmed = text.trim();
+        int length = trimmed.length();
+        for (int i = 0; i < length; i++) {
+            char c = trimmed.charAt(i);
+            if (isRegexWhitespace(c) && (c != ' ' || isRegexWhitespace(trimmed.charAt(i + 1)))) {
+                // trimmed strings end in a non-whitespace character, so i + 1 is in range
+                return collapseWhitespace(trimmed, i);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * Returns true if {@code test} has between {@code minLength} and {@code maxLength} characters, its first
+     * character satisfies {@code first} and every other character satisfies {@code rest}.
+     * This is the check made by a regex of the form {@code ^(?=.{min,max}$)[first][rest]*$}.
+     */
+    public static boolean isWord(String test, int minLength, int maxLength, CharPredicate first,
+            CharPredicate rest) {
+        int length = test.length();
+        if (length < Math.max(minLength, 1) || length > maxLength || !first.test(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (!rest.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} has at most {@code maxLength} characters and is a valid email address, as
+     * matched by the {@code VALIDATION_REGEX} of the email fields: a local part of letters and digits with single
+     * {@code +_.-} characters between them, an {@code @}, and one or more domain labels separated by periods.
+     * Each label is letters and digits with single hyphens between them, and the last label must contain two
+     * letters or digits next to each other.
+     */
+    public static boolean isEmail(String test, int maxLength) {
+        int length = test.length();
+        if (length > maxLength) {
+            return false;
+        }
+
+        int at = test.indexOf('@');
+        if (at < 0 || !isSeparatedWord(test, 0, at, EMAIL_LOCAL_PART_SEPARATORS)) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        while (true) {
+            int labelEnd = test.indexOf('.', labelStart);
+            if (labelEnd < 0) {
+                return isSeparatedWord(test, labelStart, length, "-") && hasAdjacentLettersOrDigits(test,
+                        labelStart, length);
+            }
+            if (!isSeparatedWord(test, labelStart, labelEnd, "-")) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+        }
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is one or more runs of letters and digits, with a single character
+     * from {@code separators} between consecutive runs.
+     */
+    private static boolean isSeparatedWord(String test, int start, int end, String separators) {
+        if (start >= end || !isAsciiLetterOrDigit(test.charAt(start))
+                || !isAsciiLetterOrDigit(test.charAt(end - 1))) {
+            return false;
+        }
+        boolean isAfterSeparator = false;
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                isAfterSeparator = false;
+            } else if (!isAfterSeparator && separators.indexOf(c) >= 0) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if two letters or digits are next to each other in {@code test[start, end)}, which is what lets
+     * a label be split into the two or more parts required of the last domain label.
+     */
+    private static boolean hasAdjacentLettersOrDigits(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAsciiLetterOrDigit(test.charAt(i - 1)) && isAsciiLetterOrDigit(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns {@code trimmed} with each run of whitespace replaced by a single space, given that the first
+     * character that needs replacing is at {@code from}.
+     */
+    private static String collapseWhitespace(String trimmed, int from) {
+        StringBuilder collapsed = new StringBuilder(trimmed.length()).append(trimmed, 0, from);
+        boolean isInWhitespace = false;
+        for (int i = from; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!isRegexWhitespace(c)) {
+                collapsed.append(c);
+                isInWhitespace = false;
+            } else if (!isInWhitespace) {
+                collapsed.append(' ');
+                isInWhitespace = true;
+            }
+        }
+        return collapsed.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.Age;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.Email;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Phone;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
+
+/**
+ * A class to access athlete list data kept both in the data files of another {@code AthleteListStorage}, such as
+ * the JSON files, and in binary snapshot files beside them, which load faster.
+ * <p>
+ * Every save writes both files. A read uses the snapshot if it is intact and was saved from the data file as it is
+ * now, with the same size and last modified time, and the data file otherwise, so that a data file that was edited
+ * or imported is never shadowed by an old snapshot.
+ */
+public class BinaryAthleteListStorage implements AthleteListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAthleteListStorage.class);
+
+    private final AthleteListStorage dataFileStorage;
+
+    /**
+     * Constructs a {@code BinaryAthleteListStorage} that keeps a snapshot beside each data file of
+     * {@code dataFileStorage}.
+     */
+    public BinaryAthleteListStorage(AthleteListStorage dataFileStorage) {
+        requireNonNull(dataFileStorage);
+        this.dataFileStorage = dataFileStorage;
+    }
+
+    /**
+     * Returns the file path of the data file, beside which the snapshot is kept.
+     */
+    @Override
+    public Path getAthleteListFilePath() {
+        return dataFileStorage.getAthleteListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAthleteList> readAthleteList() throws DataLoadingException {
+        return readAthleteList(getAthleteListFilePath());
+    }
+
+    /**
+     * Reads the athlete list from the snapshot beside {@code filePath} if it is usable, or else from the data file
+     * at {@code filePath}.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the data file failed.
+     */
+    @Override
+    public Optional<ReadOnlyAthleteList> readAthleteList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path snapshotPath = BinarySnapshotFile.snapshotPathOf(filePath);
+        if (BinarySnapshotFile.isUpToDate(snapshotPath, filePath)) {
+            try {
+                return readSnapshot(snapshotPath);
+            } catch (DataLoadingException e) {
+                logger.warning("Snapshot file " + snapshotPath + " could not be loaded, reading " + filePath
+                        + " instead: " + e.getMessage());
+            }
+        }
+        return dataFileStorage.readAthleteList(filePath);
+    }
+
+    @Override
+    public void saveAthleteList(ReadOnlyAthleteList athletes) throws IOException {
+        saveAthleteList(athletes, getAthleteListFilePath());
+    }
+
+    /**
+     * Saves the given athlete list data to the data file at {@code filePath}, then to the snapshot beside it.
+     *
+     * @param athletes The athlete list data to save. Cannot be null.
+     * @param filePath The location of the data file. Cannot be null.
+     * @throws IOException if there was a problem writing to either file.
+     */
+    @Override
+    public void saveAthleteList(ReadOnlyAthleteList athletes, Path filePath) throws IOException {
+        requireNonNull(athletes);
+        requireNonNull(filePath);
+        dataFileStorage.saveAthleteList(athletes, filePath);
+        saveSnapshot(athletes, filePath);
+    }
+
+    /**
+     * Reads the athlete list from the snapshot file at {@code snapshotPath}.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read, is corrupted or holds invalid athletes.
+     */
+    static Optional<ReadOnlyAthleteList> readSnapshot(Path snapshotPath) throws DataLoadingException {
+        Optional<BinarySnapshotFile.Reader> snapshot =
+                BinarySnapshotFile.read(snapshotPath, BinarySnapshotFile.Kind.ATHLETES);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        BinarySnapshotFile.Reader reader = snapshot.get();
+        AthleteList athletes = new AthleteList();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                JsonSerializableAthleteList.addAthlete(athletes, readAthlete(reader));
+            }
+            reader.finish();
+        } catch (IllegalValueException ive) {
+            logger.info(String.format("Illegal values found in %s: %s", snapshotPath, ive.getMessage()));
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(athletes);
+    }
+
+    /**
+     * Saves the athlete list to the snapshot file beside the data file at {@code dataFilePath}, which must have been
+     * saved already.
+     */
+    static void saveSnapshot(ReadOnlyAthleteList athletes, Path dataFilePath) throws IOException {
+        BinarySnapshotFile.Writer writer = new BinarySnapshotFile.Writer(BinarySnapshotFile.Kind.ATHLETES);
+        for (Athlete athlete : athletes.getAthleteList()) {
+            writer.writeString(athlete.getName().fullName);
+            writer.writeString(athlete.getSport().value);
+            writer.writeString(athlete.getAge().value);
+            writer.writeString(athlete.getPhone().value);
+            writer.writeString(athlete.getEmail().value);
+            writer.endRecord();
+        }
+        writer.save(BinarySnapshotFile.snapshotPathOf(dataFilePath), dataFilePath);
+    }
+
+    private static Athlete readAthlete(BinarySnapshotFile.Reader reader) throws IllegalValueException {
+        String name = reader.readString();
+        String sport = reader.readString();
+        String age = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString();
+        try {
+            return new Athlete(Name.of(name), Sport.of(sport), new Age(age), new Phone(phone), new Email(email));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+
+/**
+ * A class to access contract list data kept both in the data files of another {@code ContractListStorage}, such as
+ * the JSON files, and in binary snapshot files beside them, which load faster.
+ * <p>
+ * Every save writes both files. A read uses the snapshot if it is intact and was saved from the data file as it is
+ * now, with the same size and last modified time, and the data file otherwise. Like the normalized JSON format,
+ * the snapshot refers to each contract's athlete and organization by key, so it can only be read along with the
+ * athlete and organization lists.
+ */
+public class BinaryContractListStorage implements ContractListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryContractListStorage.class);
+
+    private final ContractListStorage dataFileStorage;
+
+    /**
+     * Constructs a {@code BinaryContractListStorage} that keeps a snapshot beside each data file of
+     * {@code dataFileStorage}.
+     */
+    public BinaryContractListStorage(ContractListStorage dataFileStorage) {
+        requireNonNull(dataFileStorage);
+        this.dataFileStorage = dataFileStorage;
+    }
+
+    /**
+     * Returns the file path of the data file, beside which the snapshot is kept.
+     */
+    @Override
+    public Path getContractListFilePath() {
+        return dataFileStorage.getContractListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList() throws DataLoadingException {
+        return readContractList(getContractListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException {
+        return readContractList(filePath, new AthleteList(), new OrganizationList());
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        return readContractList(getContractListFilePath(), athletes, organizations);
+    }
+
+    /**
+     * Reads the contract list from the snapshot beside {@code filePath} if it is usable, or else from the data file
+     * at {@code filePath}, resolving each contract's athlete and organization against {@code athletes} and
+     * {@code organizations}.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the data file failed.
+     */
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(athletes);
+        requireNonNull(organizations);
+        Path snapshotPath = BinarySnapshotFile.snapshotPathOf(filePath);
+        if (BinarySnapshotFile.isUpToDate(snapshotPath, filePath)) {
+            try {
+                return readSnapshot(snapshotPath, athletes, organizations);
+            } catch (DataLoadingException e) {
+                logger.warning("Snapshot file " + snapshotPath + " could not be loaded, reading " + filePath
+                        + " instead: " + e.getMessage());
+            }
+        }
+        return dataFileStorage.readContractList(filePath, athletes, organizations);
+    }
+
+    @Override
+    public void saveContractList(ReadOnlyContractList contracts) throws IOException {
+        saveContractList(contracts, getContractListFilePath());
+    }
+
+    /**
+     * Saves the given contract list data to the data file at {@code filePath}, then to the snapshot beside it.
+     *
+     * @param contracts The contract list data to save. Cannot be null.
+     * @param filePath The location of the data file. Cannot be null.
+     * @throws IOException if there was a problem writing to either file.
+     */
+    @Override
+    public void saveContractList(ReadOnlyContractList contracts, Path filePath) throws IOException {
+        requireNonNull(contracts);
+        requireNonNull(filePath);
+        dataFileStorage.saveContractList(contracts, filePath);
+        saveSnapshot(contracts, filePath);
+    }
+
+    /**
+     * Reads the contract list from the snapshot file at {@code snapshotPath}, resolving each contract's athlete and
+     * organization against {@code athletes} and {@code organizations}.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read, is corrupted, holds invalid contracts or refers
+     *     to an athlete or organization that is not in the given lists.
+     */
+    static Optional<ReadOnlyContractList> readSnapshot(Path snapshotPath, ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        Optional<BinarySnapshotFile.Reader> snapshot =
+                BinarySnapshotFile.read(snapshotPath, BinarySnapshotFile.Kind.CONTRACTS);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        BinarySnapshotFile.Reader reader = snapshot.get();
+        ContractReferences references = new ContractReferences(athletes, organizations);
+        ContractList contracts = new ContractList();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                JsonSerializableContractList.addContract(contracts, readContract(reader, references));
+            }
+            reader.finish();
+        } catch (IllegalValueException ive) {
+            logger.info(String.format("Illegal values found in %s: %s", snapshotPath, ive.getMessage()));
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(contracts);
+    }
+
+    /**
+     * Saves the contract list to the snapshot file beside the data file at {@code dataFilePath}, which must have
+     * been saved already.
+     */
+    static void saveSnapshot(ReadOnlyContractList contracts, Path dataFilePath) throws IOException {
+        BinarySnapshotFile.Writer writer = new BinarySnapshotFile.Writer(BinarySnapshotFile.Kind.CONTRACTS);
+        for (Contract contract : contracts.getContractList()) {
+            writer.writeString(contract.getAthlete().getName().fullName);
+            writer.writeString(contract.getAthlete().getSport().value);
+            writer.writeString(contract.getSport().value);
+            writer.writeString(contract.getOrganization().getName().fullOrganizationName);
+            writer.writeString(contract.getStartDate().value);
+            writer.writeString(contract.getEndDate().value);
+            writer.writeLong(contract.getAmount().value);
+            writer.endRecord();
+        }
+        writer.save(BinarySnapshotFile.snapshotPathOf(dataFilePath), dataFilePath);
+    }
+
+    private static Contract readContract(BinarySnapshotFile.Reader reader, ContractReferences references)
+            throws IllegalValueException {
+        String athleteName = reader.readString();
+        String athleteSport = reader.readString();
+        String sport = reader.readString();
+        String organizationName = reader.readString();
+        String startDate = reader.readString();
+        String endDate = reader.readString();
+        long amount = reader.readLong();
+        try {
+            Athlete athlete = references.findAthlete(Name.of(athleteName), Sport.of(athleteSport))
+                    .orElseThrow(() -> new IllegalValueException(String.format(
+                            JsonAdaptedContract.UNKNOWN_ATHLETE_MESSAGE_FORMAT, athleteName, athleteSport)));
+            Organization organization = references.findOrganization(OrganizationName.of(organizationName))
+                    .orElseThrow(() -> new IllegalValueException(String.format(
+                            JsonAdaptedContract.UNKNOWN_ORGANIZATION_MESSAGE_FORMAT, organizationName)));
+            return new Contract(athlete, Sport.of(sport), organization, new Date8(startDate), new Date8(endDate),
+                    new Amount(amount));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationEmail;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.OrganizationPhone;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+
+/**
+ * A class to access organization list data kept both in the data files of another
+ * {@code OrganizationListStorage}, such as the JSON files, and in binary snapshot files beside them, which load
+ * faster.
+ * <p>
+ * Every save writes both files. A read uses the snapshot if it is intact and was saved from the data file as it is
+ * now, with the same size and last modified time, and the data file otherwise, so that a data file that was edited
+ * or imported is never shadowed by an old snapshot.
+ */
+public class BinaryOrganizationListStorage implements OrganizationListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryOrganizationListStorage.class);
+
+    private final OrganizationListStorage dataFileStorage;
+
+    /**
+     * Constructs a {@code BinaryOrganizationListStorage} that keeps a snapshot beside each data file of
+     * {@code dataFileStorage}.
+     */
+    public BinaryOrganizationListStorage(OrganizationListStorage dataFileStorage) {
+        requireNonNull(dataFileStorage);
+        this.dataFileStorage = dataFileStorage;
+    }
+
+    /**
+     * Returns the file path of the data file, beside which the snapshot is kept.
+     */
+    @Override
+    public Path getOrganizationListFilePath() {
+        return dataFileStorage.getOrganizationListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrganizationList> readOrganizationList() throws DataLoadingException {
+        return readOrganizationList(getOrganizationListFilePath());
+    }
+
+    /**
+     * Reads the organization list from the snapshot beside {@code filePath} if it is usable, or else from the data file
+     * at {@code filePath}.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the data file failed.
+     */
+    @Override
+    public Optional<ReadOnlyOrganizationList> readOrganizationList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path snapshotPath = BinarySnapshotFile.snapshotPathOf(filePath);
+        if (BinarySnapshotFile.isUpToDate(snapshotPath, filePath)) {
+            try {
+                return readSnapshot(snapshotPath);
+            } catch (DataLoadingException e) {
+                logger.warning("Snapshot file " + snapshotPath + " could not be loaded, reading " + filePath
+                        + " instead: " + e.getMessage());
+            }
+        }
+        return dataFileStorage.readOrganizationList(filePath);
+    }
+
+    @Override
+    public void saveOrganizationList(ReadOnlyOrganizationList organizations) throws IOException {
+        saveOrganizationList(organizations, getOrganizationListFilePath());
+    }
+
+    /**
+     * Saves the given organization list data to the data file at {@code filePath}, then to the snapshot beside it.
+     *
+     * @param organizations The organization list data to save. Cannot be null.
+     * @param filePath The location of the data file. Cannot be null.
+     * @throws IOException if there was a problem writing to either file.
+     */
+    @Override
+    public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) throws IOException {
+        requireNonNull(organizations);
+        requireNonNull(filePath);
+        dataFileStorage.saveOrganizationList(organizations, filePath);
+        saveSnapshot(organizations, filePath);
+    }
+
+    /**
+     * Reads the organization list from the snapshot file at {@code snapshotPath}.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read, is corrupted or holds invalid organizations.
+     */
+    static Optional<ReadOnlyOrganizationList> readSnapshot(Path snapshotPath) throws DataLoadingException {
+        Optional<BinarySnapshotFile.Reader> snapshot =
+                BinarySnapshotFile.read(snapshotPath, BinarySnapshotFile.Kind.ORGANIZATIONS);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        BinarySnapshotFile.Reader reader = snapshot.get();
+        OrganizationList organizations = new OrganizationList();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                JsonSerializableOrganizationList.addOrganization(organizations, readOrganization(reader));
+            }
+            reader.finish();
+        } catch (IllegalValueException ive) {
+            logger.info(String.format("Illegal values found in %s: %s", snapshotPath, ive.getMessage()));
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(organizations);
+    }
+
+    /**
+     * Saves the organization list to the snapshot file beside the data file at {@code dataFilePath}, which must
+     * have been saved already.
+     */
+    static void saveSnapshot(ReadOnlyOrganizationList organizations, Path dataFilePath) throws IOException {
+        BinarySnapshotFile.Writer writer = new BinarySnapshotFile.Writer(BinarySnapshotFile.Kind.ORGANIZATIONS);
+        for (Organization organization : organizations.getOrganizationList()) {
+            writer.writeString(organization.getName().fullOrganizationName);
+            writer.writeString(organization.getPhone().value);
+            writer.writeString(organization.getEmail().value);
+            writer.endRecord();
+        }
+        writer.save(BinarySnapshotFile.snapshotPathOf(dataFilePath), dataFilePath);
+    }
+
+    private static Organization readOrganization(BinarySnapshotFile.Reader reader) throws IllegalValueException {
+        String name = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString();
+        try {
+            return new Organization(OrganizationName.of(name), new OrganizationPhone(phone),
+                    new OrganizationEmail(email));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
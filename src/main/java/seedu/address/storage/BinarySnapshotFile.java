@@ -0,0 +1,347 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the binary snapshot files of the athlete, organization and contract lists, which load much
+ * faster than the JSON data files.
+ * <p>
+ * A snapshot file starts with a magic number, the format version, the kind of list it holds, and the size and
+ * last modified time in nanoseconds that the data file it was saved from had at the time. Two sections
+ * follow, each made of its length in bytes, the CRC-32 of its contents and then its contents: a table of the
+ * distinct strings in the list, and the records. Each section's contents start with its number of entries.
+ * A record field is either the index of a string in the table or a 64-bit number. Numbers are big-endian.
+ */
+class BinarySnapshotFile {
+
+    static final int MAGIC = 0x50424B53; // "PBKS"
+    static final int FORMAT_VERSION = 2;
+    static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+    static final String MESSAGE_CORRUPTED = "Snapshot file is corrupted: %s";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot file has an unsupported format version: %d";
+
+    private static final int DATA_FILE_SIZE_OFFSET = 3 * Integer.BYTES;
+    private static final int DATA_FILE_TIME_OFFSET = DATA_FILE_SIZE_OFFSET + Long.BYTES;
+    private static final int HEADER_SIZE = DATA_FILE_TIME_OFFSET + Long.BYTES;
+    private static final int SECTION_HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * The kinds of list a snapshot file can hold.
+     */
+    enum Kind {
+        ATHLETES, ORGANIZATIONS, CONTRACTS
+    }
+
+    /**
+     * Returns the path of the snapshot file kept beside the data file at {@code dataFilePath}, which has the same
+     * name with its extension replaced.
+     */
+    static Path snapshotPathOf(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if there is a snapshot file at {@code snapshotPath} that was saved from the data file at
+     * {@code dataFilePath} as it is now, which has the size and last modified time recorded in the snapshot.
+     * A data file that was edited, or replaced by another one, even an older one, thus never matches.
+     */
+    static boolean isUpToDate(Path snapshotPath, Path dataFilePath) {
+        if (!Files.exists(snapshotPath) || !Files.exists(dataFilePath)) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            int readCount;
+            do {
+                readCount = channel.read(header);
+            } while (readCount >= 0 && header.hasRemaining());
+            return !header.hasRemaining() && header.getInt(0) == MAGIC
+                    && header.getInt(Integer.BYTES) == FORMAT_VERSION
+                    && header.getLong(DATA_FILE_SIZE_OFFSET) == Files.size(dataFilePath)
+                    && header.getLong(DATA_FILE_TIME_OFFSET) == lastModifiedTimeOf(dataFilePath);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long lastModifiedTimeOf(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).to(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reads the snapshot file at {@code filePath} into memory with a single read and checks that it holds a list
+     * of the given kind and is intact. Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read, or is not an intact snapshot of that kind.
+     */
+    static Optional<Reader> read(Path filePath, Kind kind) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(kind);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer contents;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new DataLoadingException(corrupted("file is too large"));
+            }
+            contents = ByteBuffer.allocate((int) size);
+            // A read may return fewer bytes than asked for, so it is repeated until the buffer is full
+            int readCount;
+            do {
+                readCount = channel.read(contents);
+            } while (readCount >= 0 && contents.hasRemaining());
+            contents.flip();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            return Optional.of(new Reader(contents, kind));
+        } catch (IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static IllegalValueException corrupted(String reason) {
+        return new IllegalValueException(String.format(MESSAGE_CORRUPTED, reason));
+    }
+
+    /**
+     * Reads the records of a snapshot file, one field at a time, in the order they were written.
+     */
+    static class Reader {
+        private final String[] strings;
+        private final ByteBuffer records;
+        private final int recordCount;
+
+        private Reader(ByteBuffer contents, Kind kind) throws IllegalValueException {
+            if (contents.remaining() < HEADER_SIZE || contents.getInt() != MAGIC) {
+                throw corrupted("not a snapshot file");
+            }
+            int version = contents.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            if (contents.getInt() != kind.ordinal()) {
+                throw corrupted("it holds another kind of list");
+            }
+            // The size and time of the data file are only needed to choose between it and the snapshot
+            contents.position(HEADER_SIZE);
+
+            ByteBuffer stringSection = nextSection(contents);
+            strings = new String[checkedCount(stringSection)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = nextString(stringSection);
+            }
+            if (stringSection.hasRemaining()) {
+                throw corrupted("unexpected bytes after the string table");
+            }
+
+            records = nextSection(contents);
+            recordCount = checkedCount(records);
+            if (contents.hasRemaining()) {
+                throw corrupted("unexpected bytes after the records");
+            }
+        }
+
+        /**
+         * Returns the number of records.
+         */
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Reads the next field as a string.
+         */
+        String readString() throws IllegalValueException {
+            if (records.remaining() < Integer.BYTES) {
+                throw corrupted("records end early");
+            }
+            int index = records.getInt();
+            if (index < 0 || index >= strings.length) {
+                throw corrupted("string index out of range");
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads the next field as a number.
+         */
+        long readLong() throws IllegalValueException {
+            if (records.remaining() < Long.BYTES) {
+                throw corrupted("records end early");
+            }
+            return records.getLong();
+        }
+
+        /**
+         * Checks that every field has been read.
+         */
+        void finish() throws IllegalValueException {
+            if (records.hasRemaining()) {
+                throw corrupted("unexpected bytes after the last record");
+            }
+        }
+
+        /**
+         * Returns the contents of the section starting at the position of {@code contents}, after checking them
+         * against their checksum, and moves {@code contents} past the section.
+         */
+        private static ByteBuffer nextSection(ByteBuffer contents) throws IllegalValueException {
+            if (contents.remaining() < SECTION_HEADER_SIZE) {
+                throw corrupted("file ends early");
+            }
+            int length = contents.getInt();
+            int checksum = contents.getInt();
+            if (length < Integer.BYTES || length > contents.remaining()) {
+                throw corrupted("file ends early");
+            }
+            ByteBuffer section = contents.slice(contents.position(), length);
+            contents.position(contents.position() + length);
+
+            CRC32 crc = new CRC32();
+            crc.update(section.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw corrupted("checksum mismatch");
+            }
+            return section;
+        }
+
+        /**
+         * Reads the number of entries at the start of {@code section}, which take at least 4 bytes each.
+         */
+        private static int checkedCount(ByteBuffer section) throws IllegalValueException {
+            int count = section.getInt();
+            if (count < 0 || count > section.remaining() / Integer.BYTES) {
+                throw corrupted("entry count out of range");
+            }
+            return count;
+        }
+
+        private static String nextString(ByteBuffer section) throws IllegalValueException {
+            if (section.remaining() < Integer.BYTES) {
+                throw corrupted("string table ends early");
+            }
+            int length = section.getInt();
+            if (length < 0 || length > section.remaining()) {
+                throw corrupted("string table ends early");
+            }
+            String string = new String(section.array(), section.arrayOffset() + section.position(), length,
+                    StandardCharsets.UTF_8);
+            section.position(section.position() + length);
+            return string;
+        }
+    }
+
+    /**
+     * Collects the records of a list in memory, then writes them to a snapshot file.
+     */
+    static class Writer {
+        private final Kind kind;
+        // Index of each string in the table, in the order the strings were first written
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        private final DataOutputStream strings = new DataOutputStream(stringBytes);
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        private final DataOutputStream records = new DataOutputStream(recordBytes);
+        private int recordCount = 0;
+
+        Writer(Kind kind) {
+            requireNonNull(kind);
+            this.kind = kind;
+        }
+
+        /**
+         * Writes {@code string} as the next field of the current record.
+         */
+        void writeString(String string) throws IOException {
+            Integer index = stringIndexes.get(string);
+            if (index == null) {
+                index = stringIndexes.size();
+                stringIndexes.put(string, index);
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                strings.writeInt(bytes.length);
+                strings.write(bytes);
+            }
+            records.writeInt(index);
+        }
+
+        /**
+         * Writes {@code number} as the next field of the current record.
+         */
+        void writeLong(long number) throws IOException {
+            records.writeLong(number);
+        }
+
+        /**
+         * Ends the current record, so that the next field starts a new one.
+         */
+        void endRecord() {
+            recordCount++;
+        }
+
+        /**
+         * Writes the records so far to {@code filePath}, replacing the file atomically, as a snapshot of the data
+         * file at {@code dataFilePath}, which must have been saved already.
+         */
+        void save(Path filePath, Path dataFilePath) throws IOException {
+            requireNonNull(filePath);
+            requireNonNull(dataFilePath);
+            long dataFileSize = Files.size(dataFilePath);
+            long dataFileTime = lastModifiedTimeOf(dataFilePath);
+            FileUtil.writeToFileAtomically(filePath, out -> {
+                DataOutputStream file = new DataOutputStream(new BufferedOutputStream(out));
+                file.writeInt(MAGIC);
+                file.writeInt(FORMAT_VERSION);
+                file.writeInt(kind.ordinal());
+                file.writeLong(dataFileSize);
+                file.writeLong(dataFileTime);
+                writeSection(file, stringIndexes.size(), stringBytes);
+                writeSection(file, recordCount, recordBytes);
+                file.flush();
+            });
+        }
+
+        private static void writeSection(DataOutputStream file, int count, ByteArrayOutputStream entries)
+                throws IOException {
+            byte[] countBytes = ByteBuffer.allocate(Integer.BYTES).putInt(count).array();
+            CheckedOutputStream checksummed = new CheckedOutputStream(OutputStream.nullOutputStream(), new CRC32());
+            checksummed.write(countBytes);
+            entries.writeTo(checksummed);
+
+            file.writeInt(countBytes.length + entries.size());
+            file.writeInt((int) checksummed.getChecksum().getValue());
+            file.write(countBytes);
+            entries.writeTo(file);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
  * Represents a storage for a list of {@link seedu.address.model.contract.Contract}.
@@ -28,6 +30,23 @@ public interface ContractListStorage {
      */
     Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns contract list data as a {@code ReadOnlyContractList}, with each contract's athlete and
+     * organization resolved against {@code athletes} and {@code organizations}.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed, or a contract refers to an
+     *     athlete or organization that is not in the given lists.
+     */
+    Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException;
+
+    /**
+     * @see #readContractList(ReadOnlyAthleteList, ReadOnlyOrganizationList)
+     */
+    Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException;
+
     /**
      * Saves the given list of contracts to the storage.
      * @param contracts cannot be null.
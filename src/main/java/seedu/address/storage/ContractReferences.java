@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+
+/**
+ * Resolves the athlete and organization keys stored in contract records to the loaded model objects,
+ * so that every contract of an athlete or organization shares a single instance.
+ * Athletes and organizations embedded in full in older records are shared the same way, among themselves
+ * if they are not loaded.
+ * Keys follow the identity rules of {@link Athlete#isSameAthlete} and {@link Organization#isSameOrganization}.
+ * It can be used from several threads at once.
+ */
+class ContractReferences {
+
+    private final Map<Name, Map<Sport, Athlete>> athletes = new HashMap<>();
+    private final Map<OrganizationName, Organization> organizations = new HashMap<>();
+    // Shared by the threads converting contracts in parallel
+    private final Map<Athlete, Athlete> embeddedAthletes = new ConcurrentHashMap<>();
+    private final Map<Organization, Organization> embeddedOrganizations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code ContractReferences} that resolves keys against {@code athletes} and {@code organizations}.
+     */
+    ContractReferences(ReadOnlyAthleteList athletes, ReadOnlyOrganizationList organizations) {
+        requireNonNull(athletes);
+        requireNonNull(organizations);
+        for (Athlete athlete : athletes.getAthleteList()) {
+            this.athletes.computeIfAbsent(athlete.getName(), name -> new HashMap<>())
+                    .put(athlete.getSport(), athlete);
+        }
+        for (Organization organization : organizations.getOrganizationList()) {
+            this.organizations.put(organization.getName(), organization);
+        }
+    }
+
+    /**
+     * Returns a {@code ContractReferences} that resolves no keys.
+     */
+    static ContractReferences none() {
+        return new ContractReferences(new AthleteList(), new OrganizationList());
+    }
+
+    /**
+     * Returns the athlete with the given name and sport, if any.
+     */
+    Optional<Athlete> findAthlete(Name name, Sport sport) {
+        return Optional.ofNullable(athletes.getOrDefault(name, Map.of()).get(sport));
+    }
+
+    /**
+     * Returns the organization with the given name, if any.
+     */
+    Optional<Organization> findOrganization(OrganizationName name) {
+        return Optional.ofNullable(organizations.get(name));
+    }
+
+    /**
+     * Returns the loaded athlete equal to {@code athlete} if there is one, or else the first athlete equal to it
+     * that was passed to this method.
+     */
+    Athlete share(Athlete athlete) {
+        return findAthlete(athlete.getName(), athlete.getSport())
+                .filter(athlete::equals)
+                .orElseGet(() -> embeddedAthletes.computeIfAbsent(athlete, unused -> athlete));
+    }
+
+    /**
+     * Returns the loaded organization equal to {@code organization} if there is one, or else the first
+     * organization equal to it that was passed to this method.
+     */
+    Organization share(Organization organization) {
+        return findOrganization(organization.getName())
+                .filter(organization::equals)
+                .orElseGet(() -> embeddedOrganizations.computeIfAbsent(organization, unused -> organization));
+    }
+}
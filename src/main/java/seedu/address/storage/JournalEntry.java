@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+
+/**
+ * Represents a single mutation recorded in the write-ahead journal.
+ * Exactly one of the athlete, organization or contract fields is present.
+ */
+public class JournalEntry {
+
+    /**
+     * Kinds of mutation that can be recorded in the journal.
+     */
+    public enum Operation {
+        ADD, DELETE
+    }
+
+    private final Operation operation;
+    private final Athlete athlete;
+    private final Organization organization;
+    private final Contract contract;
+
+    private JournalEntry(Operation operation, Athlete athlete, Organization organization, Contract contract) {
+        requireNonNull(operation);
+        this.operation = operation;
+        this.athlete = athlete;
+        this.organization = organization;
+        this.contract = contract;
+    }
+
+    /** Returns an entry that records {@code operation} being applied to {@code athlete}. */
+    public static JournalEntry ofAthlete(Operation operation, Athlete athlete) {
+        requireNonNull(athlete);
+        return new JournalEntry(operation, athlete, null, null);
+    }
+
+    /** Returns an entry that records {@code operation} being applied to {@code organization}. */
+    public static JournalEntry ofOrganization(Operation operation, Organization organization) {
+        requireNonNull(organization);
+        return new JournalEntry(operation, null, organization, null);
+    }
+
+    /** Returns an entry that records {@code operation} being applied to {@code contract}. */
+    public static JournalEntry ofContract(Operation operation, Contract contract) {
+        requireNonNull(contract);
+        return new JournalEntry(operation, null, null, contract);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Athlete getAthlete() {
+        return athlete;
+    }
+
+    public Organization getOrganization() {
+        return organization;
+    }
+
+    public Contract getContract() {
+        return contract;
+    }
+
+    /**
+     * Replays {@code entries} on top of the given lists, in order.
+     * <p>
+     * Replay is tolerant so that a journal can be safely replayed over a snapshot that already contains
+     * some of its mutations: adding an entity whose identity is already present and deleting an entity
+     * that is absent are both ignored.
+     * The contracts added share the athlete and organization instances of the lists, as loaded contracts do.
+     */
+    public static void replay(List<JournalEntry> entries, AthleteList athletes, ContractList contracts,
+                              OrganizationList organizations) {
+        requireNonNull(entries);
+        requireNonNull(athletes);
+        requireNonNull(contracts);
+        requireNonNull(organizations);
+
+        ContractReferences references = new ContractReferences(athletes, organizations);
+        for (JournalEntry entry : entries) {
+            entry.applyTo(athletes, contracts, organizations, references);
+        }
+    }
+
+    /**
+     * Replays this entry on top of the given lists. Athletes and organizations added are shared through
+     * {@code references}, so that the contracts added later resolve to them.
+     */
+    private void applyTo(AthleteList athletes, ContractList contracts, OrganizationList organizations,
+                         ContractReferences references) {
+        if (athlete != null) {
+            Athlete shared = references.share(athlete);
+            if (operation == Operation.ADD && !athletes.hasAthlete(shared)) {
+                athletes.addAthlete(shared);
+            } else if (operation == Operation.DELETE && athletes.getAthleteList().contains(shared)) {
+                athletes.removeAthlete(shared);
+            }
+        } else if (organization != null) {
+            Organization shared = references.share(organization);
+            if (operation == Operation.ADD && !organizations.hasOrganization(shared)) {
+                organizations.addOrganization(shared);
+            } else if (operation == Operation.DELETE
+                    && organizations.getOrganizationList().contains(shared)) {
+                organizations.removeOrganization(shared);
+            }
+        } else if (contract != null) {
+            if (operation == Operation.ADD && !contracts.hasContract(contract)) {
+                contracts.addContract(new Contract(references.share(contract.getAthlete()), contract.getSport(),
+                        references.share(contract.getOrganization()), contract.getStartDate(),
+                        contract.getEndDate(), contract.getAmount()));
+            } else if (operation == Operation.DELETE && contracts.getContractList().contains(contract)) {
+                contracts.removeContract(contract);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalEntry)) {
+            return false;
+        }
+
+        JournalEntry otherEntry = (JournalEntry) other;
+        return operation == otherEntry.operation
+                && Objects.equals(athlete, otherEntry.athlete)
+                && Objects.equals(organization, otherEntry.organization)
+                && Objects.equals(contract, otherEntry.contract);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operation, athlete, organization, contract);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operation", operation)
+                .add("athlete", athlete)
+                .add("organization", organization)
+                .add("contract", contract)
+                .toString();
+    }
+}
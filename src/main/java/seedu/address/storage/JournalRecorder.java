@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+import seedu.address.storage.JournalEntry.Operation;
+
+/**
+ * Observes the model's lists and buffers every addition and removal as a {@link JournalEntry}
+ * until the entries are drained and written to a {@link JournalStorage}.
+ */
+public class JournalRecorder {
+
+    private final List<JournalEntry> pendingEntries = new ArrayList<>();
+
+    /**
+     * Creates a {@code JournalRecorder} that records changes made to the given lists.
+     */
+    public JournalRecorder(ObservableList<Athlete> athletes, ObservableList<Contract> contracts,
+                           ObservableList<Organization> organizations) {
+        athletes.addListener(recordChanges(JournalEntry::ofAthlete));
+        contracts.addListener(recordChanges(JournalEntry::ofContract));
+        organizations.addListener(recordChanges(JournalEntry::ofOrganization));
+    }
+
+    /**
+     * Returns the entries recorded since the last call and clears the buffer.
+     */
+    public List<JournalEntry> drainEntries() {
+        List<JournalEntry> entries = new ArrayList<>(pendingEntries);
+        pendingEntries.clear();
+        return entries;
+    }
+
+    /**
+     * Returns true if there are recorded entries that have not been drained yet.
+     */
+    public boolean hasPendingEntries() {
+        return !pendingEntries.isEmpty();
+    }
+
+    private <T> ListChangeListener<T> recordChanges(BiFunction<Operation, T, JournalEntry> toEntry) {
+        return change -> {
+            while (change.next()) {
+                // Reordering or in-place updates do not change which entities exist
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                for (T removed : change.getRemoved()) {
+                    pendingEntries.add(toEntry.apply(Operation.DELETE, removed));
+                }
+                for (T added : change.getAddedSubList()) {
+                    pendingEntries.add(toEntry.apply(Operation.ADD, added));
+                }
+            }
+        };
+    }
+}
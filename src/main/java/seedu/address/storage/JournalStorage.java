@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents an append-only journal of mutations made since the last full snapshot was saved.
+ */
+public interface JournalStorage {
+
+    /** Returns the file path of the journal file. */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the entries recorded in the journal, in the order they were appended.
+     * Returns an empty list if the journal file is not found.
+     *
+     * @throws DataLoadingException if loading the journal from storage failed.
+     */
+    List<JournalEntry> readJournal() throws DataLoadingException;
+
+    /**
+     * Appends the given entries to the end of the journal.
+     * @param entries cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<JournalEntry> entries) throws IOException;
+
+    /**
+     * Discards every entry in the journal. Should only be called once the entries are covered by a snapshot.
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearJournal() throws IOException;
+}
@@ -52,7 +52,7 @@ class JsonAdaptedAthlete {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (sport == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Sport.class.getSimpleName()));
@@ -60,7 +60,7 @@ class JsonAdaptedAthlete {
         if (!Sport.isValidSport(sport)) {
             throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
         }
-        final Sport modelSport = new Sport(sport);
+        final Sport modelSport = Sport.of(sport);
 
         if (age == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Age.class.getSimpleName()));
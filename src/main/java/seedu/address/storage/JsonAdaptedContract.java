@@ -1,59 +1,119 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.Date8;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 
-/** Jackson-friendly version of {@link Contract}. */
+/**
+ * Jackson-friendly version of {@link Contract}.
+ * <p>
+ * Contracts are saved with only the key of their athlete (name and sport) and organization (name), which are
+ * resolved against the loaded athlete and organization lists. Contracts saved by older versions embed the full
+ * athlete and organization instead; these are still read, and are rewritten with keys on the next save.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedContract {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contract's %s field is missing!";
+    public static final String UNKNOWN_ATHLETE_MESSAGE_FORMAT = "Contract refers to unknown athlete: %s - %s";
+    public static final String UNKNOWN_ORGANIZATION_MESSAGE_FORMAT = "Contract refers to unknown organization: %s";
 
+    private final String athleteName;
+    private final String athleteSport;
     private final JsonAdaptedAthlete athlete;
     private final String sport;
+    private final String organizationName;
     private final JsonAdaptedOrganization organization;
     private final String startDate;
     private final String endDate;
     private final String amount;
 
+    /**
+     * Constructs a {@code JsonAdaptedContract} with the given contract details, in either storage format.
+     */
     @JsonCreator
-    public JsonAdaptedContract(@JsonProperty("athlete") JsonAdaptedAthlete athlete,
+    public JsonAdaptedContract(@JsonProperty("athleteName") String athleteName,
+                               @JsonProperty("athleteSport") String athleteSport,
+                               @JsonProperty("athlete") JsonAdaptedAthlete athlete,
                                @JsonProperty("sport") String sport,
+                               @JsonProperty("organizationName") String organizationName,
                                @JsonProperty("organization") JsonAdaptedOrganization organization,
                                @JsonProperty("startDate") String startDate,
                                @JsonProperty("endDate") String endDate,
                                @JsonProperty("amount") String amount) {
+        this.athleteName = athleteName;
+        this.athleteSport = athleteSport;
         this.athlete = athlete;
         this.sport = sport;
+        this.organizationName = organizationName;
         this.organization = organization;
         this.startDate = startDate;
         this.endDate = endDate;
         this.amount = amount;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedContract} in the older format that embeds the full athlete and organization.
+     */
+    public JsonAdaptedContract(JsonAdaptedAthlete athlete, String sport, JsonAdaptedOrganization organization,
+                               String startDate, String endDate, String amount) {
+        this(null, null, athlete, sport, null, organization, startDate, endDate, amount);
+    }
+
     /** Converts a given {@code Contract} into this class for Jackson use. */
     public JsonAdaptedContract(Contract source) {
-        this.athlete = new JsonAdaptedAthlete(source.getAthlete());
+        this.athleteName = source.getAthlete().getName().fullName;
         this.sport = source.getSport().value;
-        this.organization = new JsonAdaptedOrganization(source.getOrganization());
+        // The athlete's sport is only stored when it differs from the contract's, which is the usual case
+        this.athleteSport = source.getAthlete().getSport().equals(source.getSport())
+                ? null : source.getAthlete().getSport().value;
+        this.athlete = null;
+        this.organizationName = source.getOrganization().getName().fullOrganizationName;
+        this.organization = null;
         this.startDate = source.getStartDate().value;
         this.endDate = source.getEndDate().value;
         this.amount = String.valueOf(source.getAmount().value);
     }
 
-    /** Converts this Jackson-friendly adapted object into the model's {@code Contract}. */
+    /**
+     * Converts a given {@code Contract} into this class with its athlete and organization embedded in full,
+     * for records that must be readable on their own, such as journal entries.
+     */
+    public static JsonAdaptedContract withEmbeddedReferences(Contract source) {
+        return new JsonAdaptedContract(new JsonAdaptedAthlete(source.getAthlete()), source.getSport().value,
+                new JsonAdaptedOrganization(source.getOrganization()), source.getStartDate().value,
+                source.getEndDate().value, String.valueOf(source.getAmount().value));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code Contract},
+     * without any athletes or organizations to resolve keys against.
+     */
     public Contract toModelType() throws IllegalValueException {
-        if (athlete == null) {
+        return toModelType(ContractReferences.none());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code Contract},
+     * resolving the athlete and organization through {@code references}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or a key could not be resolved.
+     */
+    public Contract toModelType(ContractReferences references) throws IllegalValueException {
+        if (athleteName == null && athlete == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Athlete"));
         }
-        final Athlete modelAthlete = athlete.toModelType();
+        final Athlete embeddedAthlete = athlete == null ? null : athlete.toModelType();
 
         if (sport == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Sport.class.getSimpleName()));
@@ -61,12 +121,20 @@ class JsonAdaptedContract {
         if (!Sport.isValidSport(sport)) {
             throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
         }
-        final Sport modelSport = new Sport(sport);
+        final Sport modelSport = Sport.of(sport);
+        final Athlete modelAthlete = embeddedAthlete == null
+                ? resolveAthlete(references)
+                : references.share(embeddedAthlete);
 
-        if (organization == null) {
+        if (organizationName == null && organization == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Organization"));
         }
-        final Organization modelOrganization = organization.toModelType();
+        final Organization modelOrganization;
+        if (organization == null) {
+            modelOrganization = resolveOrganization(references);
+        } else {
+            modelOrganization = references.share(organization.toModelType());
+        }
 
         if (startDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "StartDate"));
@@ -94,5 +162,24 @@ class JsonAdaptedContract {
 
         return new Contract(modelAthlete, modelSport, modelOrganization, modelStartDate, modelEndDate, modelAmount);
     }
-}
 
+    private Athlete resolveAthlete(ContractReferences references) throws IllegalValueException {
+        if (!Name.isValidName(athleteName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String keySport = athleteSport == null ? sport : athleteSport;
+        if (!Sport.isValidSport(keySport)) {
+            throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
+        }
+        return references.findAthlete(Name.of(athleteName), Sport.of(keySport)).orElseThrow(() ->
+                new IllegalValueException(String.format(UNKNOWN_ATHLETE_MESSAGE_FORMAT, athleteName, keySport)));
+    }
+
+    private Organization resolveOrganization(ContractReferences references) throws IllegalValueException {
+        if (!OrganizationName.isValidName(organizationName)) {
+            throw new IllegalValueException(OrganizationName.MESSAGE_CONSTRAINTS);
+        }
+        return references.findOrganization(OrganizationName.of(organizationName)).orElseThrow(() ->
+                new IllegalValueException(String.format(UNKNOWN_ORGANIZATION_MESSAGE_FORMAT, organizationName)));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.JournalEntry.Operation;
+
+/** Jackson-friendly version of {@link JournalEntry}. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_OPERATION_MESSAGE = "Journal entry's operation field is missing!";
+    public static final String INVALID_OPERATION_MESSAGE = "Journal entry's operation must be ADD or DELETE.";
+    public static final String INVALID_PAYLOAD_MESSAGE =
+            "Journal entry must contain exactly one of athlete, organization or contract.";
+
+    private final String operation;
+    private final JsonAdaptedAthlete athlete;
+    private final JsonAdaptedOrganization organization;
+    private final JsonAdaptedContract contract;
+
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("athlete") JsonAdaptedAthlete athlete,
+                                   @JsonProperty("organization") JsonAdaptedOrganization organization,
+                                   @JsonProperty("contract") JsonAdaptedContract contract) {
+        this.operation = operation;
+        this.athlete = athlete;
+        this.organization = organization;
+        this.contract = contract;
+    }
+
+    /** Converts a given {@code JournalEntry} into this class for Jackson use. */
+    public JsonAdaptedJournalEntry(JournalEntry source) {
+        this.operation = source.getOperation().name();
+        this.athlete = source.getAthlete() == null ? null : new JsonAdaptedAthlete(source.getAthlete());
+        this.organization = source.getOrganization() == null
+                ? null : new JsonAdaptedOrganization(source.getOrganization());
+        this.contract = source.getContract() == null
+                ? null : JsonAdaptedContract.withEmbeddedReferences(source.getContract());
+    }
+
+    /** Converts this Jackson-friendly adapted object into the model's {@code JournalEntry}. */
+    public JournalEntry toModelType() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(MISSING_OPERATION_MESSAGE);
+        }
+        final Operation modelOperation;
+        try {
+            modelOperation = Operation.valueOf(operation);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(INVALID_OPERATION_MESSAGE);
+        }
+
+        int payloadCount = (athlete == null ? 0 : 1) + (organization == null ? 0 : 1) + (contract == null ? 0 : 1);
+        if (payloadCount != 1) {
+            throw new IllegalValueException(INVALID_PAYLOAD_MESSAGE);
+        }
+
+        if (athlete != null) {
+            return JournalEntry.ofAthlete(modelOperation, athlete.toModelType());
+        }
+        if (organization != null) {
+            return JournalEntry.ofOrganization(modelOperation, organization.toModelType());
+        }
+        return JournalEntry.ofContract(modelOperation, contract.toModelType());
+    }
+}
@@ -50,7 +50,7 @@ class JsonAdaptedOrganization {
         if (!OrganizationName.isValidName(name)) {
             throw new IllegalValueException(OrganizationName.MESSAGE_CONSTRAINTS);
         }
-        final OrganizationName modelName = new OrganizationName(name);
+        final OrganizationName modelName = OrganizationName.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(
@@ -7,11 +7,14 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 
 /**
@@ -22,6 +25,7 @@ public class JsonAthleteListStorage implements AthleteListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAthleteListStorage.class);
 
     private final Path filePath;
+    private final boolean isCompact;
 
     /**
      * Constructs a {@code JsonAthleteListStorage} with the specified file path.
@@ -29,7 +33,19 @@ public class JsonAthleteListStorage implements AthleteListStorage {
      * @param filePath The path to the JSON file.
      */
     public JsonAthleteListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAthleteListStorage} with the specified file path, which saves the file without
+     * indentation if {@code isCompact}.
+     *
+     * @param filePath The path to the JSON file.
+     * @param isCompact Whether to save the file without whitespace.
+     */
+    public JsonAthleteListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     /**
@@ -64,18 +80,22 @@ public class JsonAthleteListStorage implements AthleteListStorage {
     public Optional<ReadOnlyAthleteList> readAthleteList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAthleteList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAthleteList.class);
-        if (!json.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Athletes are validated in parallel as they are read, and added to the list in file order
+        AthleteList athletes = new AthleteList();
+        ParallelRecordConverter<JsonAdaptedAthlete, Athlete> converter = new ParallelRecordConverter<>(
+                JsonAdaptedAthlete::toModelType, athlete -> JsonSerializableAthleteList.addAthlete(athletes, athlete));
         try {
-            return Optional.of(json.get().toModelType());
+            Optional<ObjectNode> json = JsonUtil.streamJsonFile(filePath, JsonSerializableAthleteList.ATHLETES_FIELD,
+                    JsonAdaptedAthlete.class, converter::add);
+            if (!json.isPresent()) {
+                return Optional.empty();
+            }
+            converter.finish();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(athletes);
     }
 
     /**
@@ -101,7 +121,6 @@ public class JsonAthleteListStorage implements AthleteListStorage {
     public void saveAthleteList(ReadOnlyAthleteList athletes, Path filePath) throws IOException {
         requireNonNull(athletes);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAthleteList(athletes), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAthleteList(athletes), filePath, isCompact);
     }
 }
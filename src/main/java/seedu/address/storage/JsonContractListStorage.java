@@ -7,12 +7,19 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
  * A class to access contract list data stored as a json file on the hard disk.
@@ -22,6 +29,7 @@ public class JsonContractListStorage implements ContractListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonContractListStorage.class);
 
     private final Path filePath;
+    private final boolean isCompact;
 
     /**
      * Constructs a {@code JsonContractListStorage} with the specified file path.
@@ -29,7 +37,19 @@ public class JsonContractListStorage implements ContractListStorage {
      * @param filePath The path to the JSON file.
      */
     public JsonContractListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonContractListStorage} with the specified file path, which saves the file without
+     * indentation if {@code isCompact}.
+     *
+     * @param filePath The path to the JSON file.
+     * @param isCompact Whether to save the file without whitespace.
+     */
+    public JsonContractListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     /**
@@ -44,6 +64,8 @@ public class JsonContractListStorage implements ContractListStorage {
 
     /**
      * Reads the contract list data from the default JSON file path.
+     * Only contracts saved in the legacy format, which embed their athlete and organization, can be read
+     * without the athlete and organization lists.
      *
      * @return An {@code Optional} containing the contract list if the file exists.
      * @throws DataLoadingException if there were errors loading the data
@@ -62,20 +84,55 @@ public class JsonContractListStorage implements ContractListStorage {
      */
     @Override
     public Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        return readContractList(filePath, new AthleteList(), new OrganizationList());
+    }
 
-        Optional<JsonSerializableContractList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableContractList.class);
-        if (!json.isPresent()) {
-            return Optional.empty();
-        }
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        return readContractList(filePath, athletes, organizations);
+    }
 
+    /**
+     * Reads the contract list data from {@code filePath}, resolving each contract's athlete and organization
+     * against {@code athletes} and {@code organizations}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(athletes);
+        requireNonNull(organizations);
+
+        // Contracts are validated in parallel as they are read, and added to the list in file order
+        ContractReferences references = new ContractReferences(athletes, organizations);
+        ContractList contracts = new ContractList();
+        ParallelRecordConverter<JsonAdaptedContract, Contract> converter = new ParallelRecordConverter<>(
+                jsonContract -> jsonContract.toModelType(references),
+                contract -> JsonSerializableContractList.addContract(contracts, contract));
+        Optional<ObjectNode> json;
         try {
-            return Optional.of(json.get().toModelType());
+            json = JsonUtil.streamJsonFile(filePath, JsonSerializableContractList.CONTRACTS_FIELD,
+                    JsonAdaptedContract.class, converter::add);
+            if (!json.isPresent()) {
+                return Optional.empty();
+            }
+            converter.finish();
         } catch (IllegalValueException ive) {
             logger.info(String.format("Illegal values found in %s: %s", filePath, ive.getMessage()));
             throw new DataLoadingException(ive);
         }
+
+        int version = json.get().path(JsonSerializableContractList.VERSION_FIELD)
+                .asInt(JsonSerializableContractList.LEGACY_FORMAT_VERSION);
+        if (version < JsonSerializableContractList.NORMALIZED_FORMAT_VERSION) {
+            logger.info(String.format("%s uses an older storage format and will be migrated on the next save.",
+                    filePath));
+        }
+        return Optional.of(contracts);
     }
 
     /**
@@ -101,7 +158,6 @@ public class JsonContractListStorage implements ContractListStorage {
     public void saveContractList(ReadOnlyContractList contracts, Path filePath) throws IOException {
         requireNonNull(contracts);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableContractList(contracts), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableContractList(contracts), filePath, isCompact);
     }
 }
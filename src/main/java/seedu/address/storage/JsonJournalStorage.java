@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A class to access the mutation journal stored on the hard disk as JSON lines, one entry per line.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Constructs a {@code JsonJournalStorage} with the specified file path.
+     *
+     * @param filePath The path to the journal file.
+     */
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads every entry in the journal.
+     * A malformed final line is treated as a write that was interrupted part-way and is discarded;
+     * malformed lines anywhere else mean the journal is corrupted.
+     *
+     * @throws DataLoadingException if the journal could not be read or is corrupted.
+     */
+    @Override
+    public List<JournalEntry> readJournal() throws DataLoadingException {
+        List<JournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Discarding incomplete last entry of journal " + filePath + ": " + e);
+                    break;
+                }
+                logger.info(String.format("Illegal entry found in %s at line %d: %s", filePath, i + 1, e.getMessage()));
+                throw new DataLoadingException(e);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void appendToJournal(List<JournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(entry))).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+}
@@ -7,11 +7,14 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
@@ -22,6 +25,7 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonOrganizationListStorage.class);
 
     private final Path filePath;
+    private final boolean isCompact;
 
     /**
      * Constructs a {@code JsonOrganizationListStorage} with the specified file path.
@@ -29,7 +33,19 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
      * @param filePath The path to the JSON file.
      */
     public JsonOrganizationListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonOrganizationListStorage} with the specified file path, which saves the file without
+     * indentation if {@code isCompact}.
+     *
+     * @param filePath The path to the JSON file.
+     * @param isCompact Whether to save the file without whitespace.
+     */
+    public JsonOrganizationListStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     /**
@@ -64,18 +80,24 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
     public Optional<ReadOnlyOrganizationList> readOrganizationList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableOrganizationList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableOrganizationList.class);
-        if (!json.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Organizations are validated in parallel as they are read, and added to the list in file order
+        OrganizationList organizations = new OrganizationList();
+        ParallelRecordConverter<JsonAdaptedOrganization, Organization> converter = new ParallelRecordConverter<>(
+                JsonAdaptedOrganization::toModelType,
+                organization -> JsonSerializableOrganizationList.addOrganization(organizations, organization));
         try {
-            return Optional.of(json.get().toModelType());
+            Optional<ObjectNode> json = JsonUtil.streamJsonFile(filePath,
+                    JsonSerializableOrganizationList.ORGANIZATIONS_FIELD, JsonAdaptedOrganization.class,
+                    converter::add);
+            if (!json.isPresent()) {
+                return Optional.empty();
+            }
+            converter.finish();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(organizations);
     }
 
     /**
@@ -101,7 +123,6 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
     public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) throws IOException {
         requireNonNull(organizations);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableOrganizationList(organizations), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableOrganizationList(organizations), filePath, isCompact);
     }
 }
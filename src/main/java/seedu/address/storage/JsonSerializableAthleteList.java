@@ -21,6 +21,9 @@ class JsonSerializableAthleteList {
 
     public static final String MESSAGE_DUPLICATE_ATHLETE = "Athletes list contains duplicate athlete(s).";
 
+    /** Name of the field holding the athletes. */
+    static final String ATHLETES_FIELD = "athletes";
+
     private final List<JsonAdaptedAthlete> athletes = new ArrayList<>();
 
     /**
@@ -48,12 +51,19 @@ class JsonSerializableAthleteList {
     public AthleteList toModelType() throws IllegalValueException {
         AthleteList list = new AthleteList();
         for (JsonAdaptedAthlete jsonAthlete : athletes) {
-            Athlete athlete = jsonAthlete.toModelType();
-            if (list.hasAthlete(athlete)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATHLETE);
-            }
-            list.addAthlete(athlete);
+            addAthlete(list, jsonAthlete.toModelType());
         }
         return list;
     }
+
+    /**
+     * Adds an athlete read from storage to {@code list}.
+     * @throws IllegalValueException if {@code list} already has the athlete.
+     */
+    static void addAthlete(AthleteList list, Athlete athlete) throws IllegalValueException {
+        if (list.hasAthlete(athlete)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATHLETE);
+        }
+        list.addAthlete(athlete);
+    }
 }
@@ -9,9 +9,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
  * An Immutable ContractList that is serializable to JSON format.
@@ -21,13 +23,28 @@ class JsonSerializableContractList {
 
     public static final String MESSAGE_DUPLICATE_CONTRACT = "Contracts list contains duplicate contract(s).";
 
+    /** Version of the storage format in which contracts reference athletes and organizations by key. */
+    public static final int NORMALIZED_FORMAT_VERSION = 2;
+
+    /** Version assumed for files saved before the format was versioned, which embed full records. */
+    public static final int LEGACY_FORMAT_VERSION = 1;
+
+    /** Name of the field holding the storage format version. */
+    static final String VERSION_FIELD = "version";
+
+    /** Name of the field holding the contracts. */
+    static final String CONTRACTS_FIELD = "contracts";
+
+    private final int version;
     private final List<JsonAdaptedContract> contracts = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableContractList} with the given contracts.
+     * Constructs a {@code JsonSerializableContractList} with the given format version and contracts.
      */
     @JsonCreator
-    public JsonSerializableContractList(@JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+    public JsonSerializableContractList(@JsonProperty("version") Integer version,
+                                        @JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+        this.version = version == null ? LEGACY_FORMAT_VERSION : version;
         this.contracts.addAll(contracts);
     }
 
@@ -36,24 +53,53 @@ class JsonSerializableContractList {
      * @param source future changes to this will not affect the created {@code JsonSerializableContractList}.
      */
     public JsonSerializableContractList(ReadOnlyContractList source) {
+        version = NORMALIZED_FORMAT_VERSION;
         contracts.addAll(source.getContractList().stream()
                 .map(JsonAdaptedContract::new)
                 .collect(Collectors.toList()));
     }
 
+    /** Returns the storage format version this list was saved in. */
+    public int getVersion() {
+        return version;
+    }
+
     /**
-     * Converts this list into the model's {@code ContractList} object.
+     * Converts this list into the model's {@code ContractList} object, without any athletes or organizations
+     * to resolve contract keys against.
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ContractList toModelType() throws IllegalValueException {
+        return toModelType(ContractReferences.none());
+    }
+
+    /**
+     * Converts this list into the model's {@code ContractList} object, resolving each contract's athlete and
+     * organization against {@code athletes} and {@code organizations}.
+     * @throws IllegalValueException if there were any data constraints violated or a contract refers to an
+     *     athlete or organization that does not exist.
+     */
+    public ContractList toModelType(ReadOnlyAthleteList athletes, ReadOnlyOrganizationList organizations)
+            throws IllegalValueException {
+        return toModelType(new ContractReferences(athletes, organizations));
+    }
+
+    private ContractList toModelType(ContractReferences references) throws IllegalValueException {
         ContractList list = new ContractList();
         for (JsonAdaptedContract jsonContract : contracts) {
-            Contract contract = jsonContract.toModelType();
-            if (list.hasContract(contract)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTRACT);
-            }
-            list.addContract(contract);
+            addContract(list, jsonContract.toModelType(references));
         }
         return list;
     }
+
+    /**
+     * Adds a contract read from storage to {@code list}.
+     * @throws IllegalValueException if {@code list} already has the contract.
+     */
+    static void addContract(ContractList list, Contract contract) throws IllegalValueException {
+        if (list.hasContract(contract)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONTRACT);
+        }
+        list.addContract(contract);
+    }
 }
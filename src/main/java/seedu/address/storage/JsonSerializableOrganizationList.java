@@ -22,6 +22,9 @@ class JsonSerializableOrganizationList {
     public static final String MESSAGE_DUPLICATE_ORGANIZATION =
         "Organizations list contains duplicate organization(s).";
 
+    /** Name of the field holding the organizations. */
+    static final String ORGANIZATIONS_FIELD = "organizations";
+
     private final List<JsonAdaptedOrganization> organizations = new ArrayList<>();
 
     /**
@@ -50,12 +53,19 @@ class JsonSerializableOrganizationList {
     public OrganizationList toModelType() throws IllegalValueException {
         OrganizationList list = new OrganizationList();
         for (JsonAdaptedOrganization jsonOrganization : organizations) {
-            Organization organization = jsonOrganization.toModelType();
-            if (list.hasOrganization(organization)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORGANIZATION);
-            }
-            list.addOrganization(organization);
+            addOrganization(list, jsonOrganization.toModelType());
         }
         return list;
     }
+
+    /**
+     * Adds an organization read from storage to {@code list}.
+     * @throws IllegalValueException if {@code list} already has the organization.
+     */
+    static void addOrganization(OrganizationList list, Organization organization) throws IllegalValueException {
+        if (list.hasOrganization(organization)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORGANIZATION);
+        }
+        list.addOrganization(organization);
+    }
 }
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the records read from storage into model objects in batches on a fork-join pool, and passes the
+ * converted objects on to a consumer in the order the records were given, on the thread that gave them.
+ * <p>
+ * The outcome is the same as converting and consuming each record in turn: the consumer receives every object
+ * before the first record that fails to convert, and then the failure is thrown. Only a few batches are
+ * converted ahead of the consumer, so that records read from a large file are not all held at once.
+ *
+ * @param <J> The type of the records read from storage.
+ * @param <M> The type of the model objects.
+ */
+class ParallelRecordConverter<J, M> {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final Conversion<? super J, ? extends M> conversion;
+    private final Consumer<? super M> consumer;
+    private final ForkJoinPool pool;
+    private final int maxPendingBatches;
+    private final Deque<ForkJoinTask<ConvertedBatch<M>>> pendingBatches = new ArrayDeque<>();
+    private List<J> records = new ArrayList<>();
+
+    /**
+     * Creates a {@code ParallelRecordConverter} that converts records with {@code conversion} on the common pool
+     * and passes them to {@code consumer}.
+     */
+    ParallelRecordConverter(Conversion<? super J, ? extends M> conversion, Consumer<? super M> consumer) {
+        this(conversion, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@code ParallelRecordConverter} that converts records with {@code conversion} on {@code pool}
+     * and passes them to {@code consumer}.
+     */
+    ParallelRecordConverter(Conversion<? super J, ? extends M> conversion, Consumer<? super M> consumer,
+            ForkJoinPool pool) {
+        requireNonNull(conversion);
+        requireNonNull(consumer);
+        requireNonNull(pool);
+        this.conversion = conversion;
+        this.consumer = consumer;
+        this.pool = pool;
+        this.maxPendingBatches = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Adds the next record to convert.
+     *
+     * @throws IllegalValueException if an earlier record failed to convert, or the consumer rejected its object.
+     */
+    void add(J record) throws IllegalValueException {
+        records.add(record);
+        if (records.size() == BATCH_SIZE) {
+            submitBatch();
+        }
+    }
+
+    /**
+     * Converts the remaining records, and waits until every object has been passed to the consumer.
+     *
+     * @throws IllegalValueException if a record failed to convert, or the consumer rejected its object.
+     */
+    void finish() throws IllegalValueException {
+        if (pendingBatches.isEmpty()) {
+            // Too few records to be worth handing to the pool
+            consume(convert(records));
+        } else {
+            submitBatch();
+            while (!pendingBatches.isEmpty()) {
+                consumeOldestBatch();
+            }
+        }
+        records = new ArrayList<>();
+    }
+
+    private void submitBatch() throws IllegalValueException {
+        List<J> batch = records;
+        records = new ArrayList<>();
+        pendingBatches.add(pool.submit(() -> convert(batch)));
+        while (pendingBatches.size() > maxPendingBatches) {
+            consumeOldestBatch();
+        }
+    }
+
+    private void consumeOldestBatch() throws IllegalValueException {
+        try {
+            consume(pendingBatches.remove().join());
+        } catch (IllegalValueException | RuntimeException e) {
+            pendingBatches.forEach(batch -> batch.cancel(false));
+            pendingBatches.clear();
+            throw e;
+        }
+    }
+
+    private void consume(ConvertedBatch<M> batch) throws IllegalValueException {
+        for (M object : batch.objects) {
+            consumer.accept(object);
+        }
+        if (batch.failure != null) {
+            throw batch.failure;
+        }
+    }
+
+    private ConvertedBatch<M> convert(List<J> batch) {
+        List<M> objects = new ArrayList<>(batch.size());
+        for (J record : batch) {
+            try {
+                objects.add(conversion.convert(record));
+            } catch (IllegalValueException e) {
+                return new ConvertedBatch<>(objects, e);
+            }
+        }
+        return new ConvertedBatch<>(objects, null);
+    }
+
+    /**
+     * The objects converted from a batch of records, up to the first record that failed to convert, if any.
+     */
+    private static class ConvertedBatch<M> {
+        private final List<M> objects;
+        private final IllegalValueException failure;
+
+        ConvertedBatch(List<M> objects, IllegalValueException failure) {
+            this.objects = objects;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Converts a record into a model object. It may be called from several threads at once.
+     */
+    @FunctionalInterface
+    interface Conversion<J, M> {
+        M convert(J record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives the converted model objects, one at a time.
+     */
+    @FunctionalInterface
+    interface Consumer<M> {
+        void accept(M object) throws IllegalValueException;
+    }
+}
@@ -8,12 +8,15 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
  * API of the Storage component
  */
 public interface Storage extends AddressBookStorage, UserPrefsStorage, AthleteListStorage,
-        ContractListStorage, OrganizationListStorage {
+        ContractListStorage, OrganizationListStorage, JournalStorage {
 
     /**
      * Reads the user preferences from storage.
@@ -59,4 +62,22 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, AthleteLi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the given lists as the new snapshot, then clears the journal.
+     * Contracts refer to athletes and organizations by key, so the lists are replaced all together or not at all.
+     * A null list has not changed since its last snapshot and is not saved again.
+     *
+     * @throws IOException if there was an error writing to the files.
+     */
+    void saveSnapshot(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+            ReadOnlyOrganizationList organizations) throws IOException;
+
+    /**
+     * Finishes replacing the lists of a snapshot whose save was interrupted after all of its files were written,
+     * or discards the files of one that was interrupted before that. Must be called before the lists are read.
+     *
+     * @throws IOException if there was an error moving or deleting the files.
+     */
+    void recoverSnapshot() throws IOException;
+
 }
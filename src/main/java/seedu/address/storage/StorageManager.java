@@ -1,17 +1,22 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
@@ -19,28 +24,52 @@ import seedu.address.model.organization.ReadOnlyOrganizationList;
  */
 public class StorageManager implements Storage {
 
+    public static final String DEFAULT_JOURNAL_FILE_NAME = "journal.jsonl";
+
+    /** Name of the file kept beside the journal while the files of a snapshot are moved into place. */
+    public static final String SNAPSHOT_COMMIT_FILE_NAME = "snapshot.commit";
+
+    /** Prefix of the name of each file of a snapshot, before it is moved over the data file it replaces. */
+    public static final String STAGED_FILE_PREFIX = "staged-";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private AthleteListStorage athleteListStorage;
     private ContractListStorage contractListStorage;
     private OrganizationListStorage organizationListStorage;
+    private JournalStorage journalStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
-     * {@code UserPrefStorage}, {@code AthleteListStorage}, {@code ContractListStorage}
-     * and {@code OrganizationListStorage}.
+     * {@code UserPrefStorage}, {@code AthleteListStorage}, {@code ContractListStorage},
+     * {@code OrganizationListStorage} and {@code JournalStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage,
                           UserPrefsStorage userPrefsStorage,
                           AthleteListStorage athleteListStorage,
                           ContractListStorage contractListStorage,
-                          OrganizationListStorage organizationListStorage) {
+                          OrganizationListStorage organizationListStorage,
+                          JournalStorage journalStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.athleteListStorage = athleteListStorage;
         this.contractListStorage = contractListStorage;
         this.organizationListStorage = organizationListStorage;
+        this.journalStorage = journalStorage;
+    }
+
+    /**
+     * Creates a {@code StorageManager} whose journal is kept next to the contract list file.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+                          UserPrefsStorage userPrefsStorage,
+                          AthleteListStorage athleteListStorage,
+                          ContractListStorage contractListStorage,
+                          OrganizationListStorage organizationListStorage) {
+        this(addressBookStorage, userPrefsStorage, athleteListStorage, contractListStorage,
+                organizationListStorage, new JsonJournalStorage(
+                        contractListStorage.getContractListFilePath().resolveSibling(DEFAULT_JOURNAL_FILE_NAME)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -131,10 +160,29 @@ public class StorageManager implements Storage {
         return readContractList(contractListStorage.getContractListFilePath());
     }
 
+    /**
+     * Reads the contract list at {@code filePath}, resolving contracts against the athlete and organization lists
+     * read from this storage. Prefer {@link #readContractList(ReadOnlyAthleteList, ReadOnlyOrganizationList)}
+     * when those lists have already been loaded.
+     */
     @Override
     public Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException {
+        ReadOnlyAthleteList athletes = readAthleteList().orElseGet(AthleteList::new);
+        ReadOnlyOrganizationList organizations = readOrganizationList().orElseGet(OrganizationList::new);
+        return readContractList(filePath, athletes, organizations);
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
+        return readContractList(contractListStorage.getContractListFilePath(), athletes, organizations);
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+            ReadOnlyOrganizationList organizations) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return contractListStorage.readContractList(filePath);
+        return contractListStorage.readContractList(filePath, athletes, organizations);
     }
 
     @Override
@@ -177,4 +225,119 @@ public class StorageManager implements Storage {
         organizationListStorage.saveOrganizationList(organizations, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public List<JournalEntry> readJournal() throws DataLoadingException {
+        logger.fine("Attempting to read journal: " + journalStorage.getJournalFilePath());
+        return journalStorage.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(List<JournalEntry> entries) throws IOException {
+        logger.fine("Attempting to append " + entries.size() + " entries to journal: "
+                + journalStorage.getJournalFilePath());
+        journalStorage.appendToJournal(entries);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        logger.fine("Attempting to clear journal: " + journalStorage.getJournalFilePath());
+        journalStorage.clearJournal();
+    }
+
+    // ================ Snapshot methods ==============================
+
+    /**
+     * Saves every given list beside its data file first, and only moves them over the data files once all of them
+     * are written, so that a failed save leaves the data files as they were. The commit file marks that all of them
+     * were written, so that {@link #recoverSnapshot()} can finish moving them if this is interrupted. Athletes and
+     * organizations are moved before the contracts that refer to them.
+     */
+    @Override
+    public void saveSnapshot(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+            ReadOnlyOrganizationList organizations) throws IOException {
+        Path commitFilePath = getSnapshotCommitFilePath();
+        logger.fine("Attempting to save snapshot, committed by: " + commitFilePath);
+        // The files of an earlier snapshot that was never committed are not part of this one
+        Files.deleteIfExists(commitFilePath);
+        discardStagedFiles();
+
+        if (athletes != null) {
+            saveAthleteList(athletes, stagedPathOf(getAthleteListFilePath()));
+        }
+        if (organizations != null) {
+            saveOrganizationList(organizations, stagedPathOf(getOrganizationListFilePath()));
+        }
+        if (contracts != null) {
+            saveContractList(contracts, stagedPathOf(getContractListFilePath()));
+        }
+        FileUtil.writeToFileAtomically(commitFilePath, out -> { });
+
+        commitStagedFiles();
+        clearJournal();
+        Files.delete(commitFilePath);
+    }
+
+    @Override
+    public void recoverSnapshot() throws IOException {
+        Path commitFilePath = getSnapshotCommitFilePath();
+        if (!Files.exists(commitFilePath)) {
+            discardStagedFiles();
+            return;
+        }
+
+        logger.info("Finishing the snapshot that was being saved when the application last stopped.");
+        commitStagedFiles();
+        // The journal may hold changes that are already in the snapshot, which are skipped when it is replayed
+        Files.delete(commitFilePath);
+    }
+
+    private Path getSnapshotCommitFilePath() {
+        return journalStorage.getJournalFilePath().resolveSibling(SNAPSHOT_COMMIT_FILE_NAME);
+    }
+
+    private List<Path> getDataFilePaths() {
+        return List.of(getAthleteListFilePath(), getOrganizationListFilePath(), getContractListFilePath());
+    }
+
+    /**
+     * Moves each staged file, and the binary snapshot saved beside it if any, over the file it replaces.
+     */
+    private void commitStagedFiles() throws IOException {
+        for (Path dataFilePath : getDataFilePaths()) {
+            Path stagedPath = stagedPathOf(dataFilePath);
+            moveIfExists(stagedPath, dataFilePath);
+            moveIfExists(BinarySnapshotFile.snapshotPathOf(stagedPath),
+                    BinarySnapshotFile.snapshotPathOf(dataFilePath));
+        }
+    }
+
+    private void discardStagedFiles() throws IOException {
+        for (Path dataFilePath : getDataFilePaths()) {
+            Path stagedPath = stagedPathOf(dataFilePath);
+            Files.deleteIfExists(stagedPath);
+            Files.deleteIfExists(BinarySnapshotFile.snapshotPathOf(stagedPath));
+        }
+    }
+
+    private static void moveIfExists(Path source, Path target) throws IOException {
+        if (Files.exists(source)) {
+            FileUtil.moveReplacing(source, target);
+        }
+    }
+
+    /**
+     * Returns the path that the new contents of the data file at {@code dataFilePath} are saved to until the
+     * snapshot is committed.
+     */
+    static Path stagedPathOf(Path dataFilePath) {
+        return dataFilePath.resolveSibling(STAGED_FILE_PREFIX + dataFilePath.getFileName());
+    }
+
 }
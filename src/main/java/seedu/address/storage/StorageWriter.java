@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+
+/**
+ * Writes journal entries and snapshots to a {@link Storage} on a given {@link Executor}.
+ * <p>
+ * Writes submitted while an earlier write is still in progress are coalesced: the journal entries are appended
+ * in one batch, and a snapshot replaces any older snapshot of the same list along with every journal entry
+ * submitted before it. Everything submitted must be immutable, or at least never modified afterwards.
+ * <p>
+ * Failed writes cannot be reported to the caller that submitted them, so the first failure is kept until it is
+ * collected with {@link #takeFailure()}.
+ */
+public class StorageWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageWriter.class);
+
+    private final Storage storage;
+    private final Executor executor;
+
+    // Guarded by this
+    private final List<JournalEntry> pendingEntries = new ArrayList<>();
+    private ReadOnlyAthleteList pendingAthletes;
+    private ReadOnlyContractList pendingContracts;
+    private ReadOnlyOrganizationList pendingOrganizations;
+    private boolean isSnapshotPending = false;
+    private boolean isWriteScheduled = false;
+    private IOException failure;
+
+    /**
+     * Creates a {@code StorageWriter} that writes to {@code storage} using {@code executor}.
+     * The executor must run tasks one at a time, in the order they are submitted.
+     */
+    public StorageWriter(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a {@code StorageWriter} that writes to {@code storage} on a dedicated background thread.
+     * The thread does not keep the application alive, so {@link #flush(long)} must be called before exiting.
+     */
+    public static StorageWriter inBackground(Storage storage) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new StorageWriter(storage, executor);
+    }
+
+    /**
+     * Queues {@code entries} to be appended to the journal.
+     */
+    public synchronized void submitJournalEntries(List<JournalEntry> entries) {
+        requireNonNull(entries);
+        pendingEntries.addAll(entries);
+        scheduleWrite();
+    }
+
+    /**
+     * Queues a snapshot to be saved, after which the journal is cleared.
+     * A null list has not changed since its last snapshot and is not saved again.
+     */
+    public synchronized void submitSnapshot(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+            ReadOnlyOrganizationList organizations) {
+        pendingAthletes = athletes == null ? pendingAthletes : athletes;
+        pendingContracts = contracts == null ? pendingContracts : contracts;
+        pendingOrganizations = organizations == null ? pendingOrganizations : organizations;
+        isSnapshotPending = true;
+        // The snapshot already contains these mutations, and the journal is cleared once it is written
+        pendingEntries.clear();
+        scheduleWrite();
+    }
+
+    /**
+     * Returns the first write failure since the last call and clears it, or null if every write succeeded.
+     */
+    public synchronized IOException takeFailure() {
+        IOException taken = failure;
+        failure = null;
+        return taken;
+    }
+
+    /**
+     * Waits at most {@code timeoutMillis} milliseconds for all queued writes to finish.
+     *
+     * @return true if every queued write finished in time.
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            CompletableFuture.runAsync(() -> { }, executor).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes everything queued so far in a single batch.
+     */
+    private void writePending() {
+        List<JournalEntry> entries;
+        ReadOnlyAthleteList athletes;
+        ReadOnlyContractList contracts;
+        ReadOnlyOrganizationList organizations;
+        boolean isSnapshot;
+        synchronized (this) {
+            entries = new ArrayList<>(pendingEntries);
+            athletes = pendingAthletes;
+            contracts = pendingContracts;
+            organizations = pendingOrganizations;
+            isSnapshot = isSnapshotPending;
+            pendingEntries.clear();
+            pendingAthletes = null;
+            pendingContracts = null;
+            pendingOrganizations = null;
+            isSnapshotPending = false;
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (isSnapshot) {
+                storage.saveSnapshot(athletes, contracts, organizations);
+            }
+            if (!entries.isEmpty()) {
+                storage.appendToJournal(entries);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to write to storage: " + ioe.getMessage());
+            synchronized (this) {
+                if (failure == null) {
+                    failure = ioe;
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package seedu.address.ui;
 
 import java.text.NumberFormat;
+import java.util.List;
 import java.util.Locale;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
+import seedu.address.model.contract.ContractTally;
 import seedu.address.model.organization.Organization;
 
 /** An UI component that displays information of a {@code Athlete}. */
@@ -19,7 +19,10 @@ public class AthleteCard extends UiPart<Region> {
 
     private static final String FXML = "AthleteListCard.fxml";
 
-    public final Athlete athlete;
+    private final ContractAggregates contractAggregates;
+    private final NumberFormat amountFormat = NumberFormat.getNumberInstance(Locale.US);
+    private final TagChips badges;
+    private Athlete athlete;
 
     @FXML private HBox cardPane;
     @FXML private Label name;
@@ -32,9 +35,30 @@ public class AthleteCard extends UiPart<Region> {
     // One row for all badges (contract + orgs)
     @FXML private FlowPane badgeRow;
 
-    /** Creates a {@code AthleteCard} with the given {@code Athlete} and index to display. */
-    public AthleteCard(Athlete athlete, int displayedIndex, ObservableList<Contract> allContracts) {
+    /**
+     * Creates an empty {@code AthleteCard} that shows the contracts of athletes from {@code contractAggregates}.
+     * Call {@link #bind(Athlete, int)} to show an athlete.
+     */
+    public AthleteCard(ContractAggregates contractAggregates) {
         super(FXML);
+        this.contractAggregates = contractAggregates;
+        badges = new TagChips(badgeRow);
+    }
+
+    /** Creates a {@code AthleteCard} with the given {@code Athlete} and index to display. */
+    public AthleteCard(Athlete athlete, int displayedIndex, ContractAggregates contractAggregates) {
+        this(contractAggregates);
+        bind(athlete, displayedIndex);
+    }
+
+    public Athlete getAthlete() {
+        return athlete;
+    }
+
+    /**
+     * Shows {@code athlete} with the given index in this card, in place of the athlete shown before.
+     */
+    public void bind(Athlete athlete, int displayedIndex) {
         this.athlete = athlete;
 
         id.setText(displayedIndex + ". ");
@@ -44,29 +68,21 @@ public class AthleteCard extends UiPart<Region> {
         phone.setText(athlete.getPhone().value);
         email.setText(athlete.getEmail().value);
 
-        // --- Total Contract Value tag ---
-        long totalAmount = athlete.getTotalContractAmount(allContracts);
-        String formattedAmount = NumberFormat.getNumberInstance(Locale.US).format(totalAmount);
+        ContractTally<Organization> contracts = contractAggregates.getAthleteTally(athlete);
+        badges.reset();
 
-        badgeRow.getChildren().clear();
-        badgeRow.getChildren().add(makeTag("$" + formattedAmount, "tag", "tag-contract"));
+        // --- Total Contract Value tag ---
+        badges.add("$" + amountFormat.format(contracts.getTotalAmount()), "tag-contract");
 
         // --- Organization tags ---
-        ObservableList<Organization> orgs = athlete.getOrganizations(allContracts);
+        List<Organization> orgs = contracts.getCounterparts();
         if (orgs.isEmpty()) {
-            badgeRow.getChildren().add(makeTag("No Org", "tag", "tag-muted"));
+            badges.add("No Org", "tag-muted");
         } else {
-            orgs.stream()
-                .map(o -> o.getName().fullOrganizationName)
-                .forEach(n -> badgeRow.getChildren().add(makeTag(n, "tag", "tag-org")));
+            for (Organization org : orgs) {
+                badges.add(org.getName().fullOrganizationName, "tag-org");
+            }
         }
-    }
-
-    /** Helper to create a chip-style tag label. */
-    private Label makeTag(String text, String... styleClasses) {
-        Label l = new Label(text);
-        l.getStyleClass().addAll(styleClasses);
-        l.setPadding(new Insets(3, 10, 3, 10));
-        return l;
+        badges.show();
     }
 }
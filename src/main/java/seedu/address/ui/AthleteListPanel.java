@@ -2,6 +2,9 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,7 +13,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 
 /**
  * Panel containing the list of athletes.
@@ -21,30 +24,31 @@ public class AthleteListPanel extends UiPart<Region> {
 
     @FXML
     private ListView<Athlete> athleteListView;
-    private final ObservableList<Contract> allContracts;
-    private final ObservableList<Contract> allNonFilteredContracts;
+    private final ContractAggregates contractAggregates;
 
     /**
-     * Creates a {@code AthleteListPanel} with the given {@code ObservableList}.
+     * Creates a {@code AthleteListPanel} with the given {@code ObservableList},
+     * showing the contracts of each athlete from {@code contractAggregates}.
      */
-    public AthleteListPanel(ObservableList<Athlete> athleteList,
-        ObservableList<Contract> contractList, ObservableList<Contract> nonFilteredContractList) {
+    public AthleteListPanel(ObservableList<Athlete> athleteList, ContractAggregates contractAggregates) {
         super(FXML);
-        this.allContracts = contractList;
-        this.allNonFilteredContracts = nonFilteredContractList;
+        this.contractAggregates = contractAggregates;
         athleteListView.setItems(athleteList);
-        athleteListView.setCellFactory(listView -> new AthleteListViewCell(allContracts));
+        athleteListView.setCellFactory(listView -> new AthleteListViewCell());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Athlete} using a {@code AthleteCard}.
      */
     class AthleteListViewCell extends ListCell<Athlete> {
-        private final ObservableList<Contract> allContracts;
-
-        AthleteListViewCell(ObservableList<Contract> allContracts) {
-            this.allContracts = allContracts;
+        // Loaded on first use and rebound to each item shown in this cell
+        private AthleteCard card;
+        // Held by the cell so that the weak registration with the aggregates lives exactly as long as it does
+        private final InvalidationListener tallyListener = observable -> scheduleRebind();
+        private boolean isRebindPending;
 
+        AthleteListViewCell() {
+            contractAggregates.addListener(new WeakInvalidationListener(tallyListener));
             // Toggle select/deselect on click
             addEventFilter(MouseEvent.MOUSE_PRESSED, e -> {
                 if (isEmpty()) {
@@ -74,9 +78,30 @@ public class AthleteListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AthleteCard(athlete, getIndex() + 1, allNonFilteredContracts).getRoot());
+                if (card == null) {
+                    card = new AthleteCard(contractAggregates);
+                }
+                card.bind(athlete, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
+
+        /**
+         * Rebinds the card shown to its athlete once the current batch of contract changes is done, since the
+         * filtered list does not change when only the contracts of its athletes do.
+         */
+        private void scheduleRebind() {
+            if (isRebindPending) {
+                return;
+            }
+            isRebindPending = true;
+            Platform.runLater(() -> {
+                isRebindPending = false;
+                if (card != null && !isEmpty() && getItem() != null) {
+                    card.bind(getItem(), getIndex() + 1);
+                }
+            });
+        }
     }
 
 }
@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -15,7 +14,8 @@ public class ContractCard extends UiPart<Region> {
 
     private static final String FXML = "ContractListCard.fxml";
 
-    public final Contract contract;
+    private final TagChips amountTags;
+    private Contract contract;
 
     @FXML private HBox cardPane;
     @FXML private Label id;
@@ -24,9 +24,28 @@ public class ContractCard extends UiPart<Region> {
     @FXML private Label duration;
     @FXML private FlowPane amountTag;
 
+    /**
+     * Creates an empty {@code ContractCard}. Call {@link #bind(Contract, int)} to show a contract.
+     */
+    public ContractCard() {
+        super(FXML);
+        amountTags = new TagChips(amountTag);
+    }
+
     /** Creates a {@code ContractCard} with the given {@code Contract} and index to display. */
     public ContractCard(Contract contract, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(contract, displayedIndex);
+    }
+
+    public Contract getContract() {
+        return contract;
+    }
+
+    /**
+     * Shows {@code contract} with the given index in this card, in place of the contract shown before.
+     */
+    public void bind(Contract contract, int displayedIndex) {
         this.contract = contract;
 
         id.setText(displayedIndex + ". ");
@@ -36,18 +55,9 @@ public class ContractCard extends UiPart<Region> {
                 + " → " + formatDate(contract.getEndDate().value));
 
         // --- Amount Tag ---
-        amountTag.getChildren().clear();
-        String formattedAmount = formatAmount(contract.getAmount().value);
-        Label amtChip = makeTag("$" + formattedAmount, "tag", "tag-contract");
-        amountTag.getChildren().add(amtChip);
-    }
-
-    /** Helper to create a chip-style label. */
-    private Label makeTag(String text, String... styleClasses) {
-        Label l = new Label(text);
-        l.getStyleClass().addAll(styleClasses);
-        l.setPadding(new Insets(3, 10, 3, 10));
-        return l;
+        amountTags.reset();
+        amountTags.add("$" + formatAmount(contract.getAmount().value), "tag-contract");
+        amountTags.show();
     }
 
     /** Format a date string (DDMMYYYY → DD/MM/YYYY). */
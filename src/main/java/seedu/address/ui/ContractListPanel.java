@@ -34,6 +34,7 @@ public class ContractListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Contract} using a {@code ContractCard}.
      */
     class ContractListViewCell extends ListCell<Contract> {
+        private ContractCard card;
 
         ContractListViewCell() {
             // Toggle selection on click
@@ -64,7 +65,11 @@ public class ContractListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ContractCard(contract, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ContractCard();
+                }
+                card.bind(contract, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
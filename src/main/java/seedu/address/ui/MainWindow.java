@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -18,6 +20,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -27,6 +31,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_QUEUED = "Data is still loading. \"%1$s\" will run once it has loaded.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -40,6 +46,11 @@ public class MainWindow extends UiPart<Stage> {
     private ContractListPanel contractListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
+
+    // Commands entered while the data is loading, which are run once it has loaded
+    private final List<String> queuedCommands = new ArrayList<>();
+    private boolean isLoading;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -172,12 +183,11 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        athleteListPanel = new AthleteListPanel(logic.getFilteredAthleteList(),
-        logic.getFilteredContractList(), logic.getAllContractList());
+        athleteListPanel = new AthleteListPanel(logic.getFilteredAthleteList(), logic.getContractAggregates());
         athleteListPanelPlaceholder.getChildren().add(athleteListPanel.getRoot());
 
         organizationListPanel = new OrganizationListPanel(logic.getFilteredOrganizationList(),
-                logic.getFilteredContractList(), logic.getAllContractList());
+                logic.getContractAggregates());
         organizationListPanelPlaceholder.getChildren().add(organizationListPanel.getRoot());
 
         contractListPanel = new ContractListPanel(logic.getFilteredContractList());
@@ -186,7 +196,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -288,12 +298,69 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows that data is still being loaded, with {@code message} describing the current step.
+     * Commands entered from now until {@link #finishLoading(String)} is called are queued.
+     */
+    void showLoadingProgress(String message) {
+        isLoading = true;
+        statusBarFooter.showLoading(message);
+    }
+
+    /**
+     * Shows that loading has finished with {@code message}, then runs the queued commands in the order they were
+     * entered.
+     */
+    void finishLoading(String message) {
+        isLoading = false;
+        statusBarFooter.hideLoading();
+        resultDisplay.setFeedbackToUser(message);
+
+        List<String> commandsToRun = new ArrayList<>(queuedCommands);
+        queuedCommands.clear();
+        for (String commandText : commandsToRun) {
+            try {
+                if (executeCommand(commandText).isExit()) {
+                    return;
+                }
+            } catch (CommandException | ParseException e) {
+                // The error is already shown in the result display; the remaining commands still run
+                logger.info("Queued command failed: " + commandText);
+            }
+        }
+    }
+
+    /**
+     * Shows that loading has failed with {@code message}. The commands queued while loading are discarded, as
+     * they were entered to work on the data that could not be loaded.
+     */
+    void failLoading(String message) {
+        isLoading = false;
+        statusBarFooter.hideLoading();
+        resultDisplay.setFeedbackToUser(message);
+
+        if (!queuedCommands.isEmpty()) {
+            logger.info("Discarding " + queuedCommands.size() + " queued commands: " + queuedCommands);
+            queuedCommands.clear();
+        }
+    }
+
     /**
      * Executes the command and returns the result.
+     * While the data is loading, the command is queued instead and run once loading finishes, unless it only
+     * exits or shows help, which is done at once.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (isLoading && !isRunnableWhileLoading(commandText)) {
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            logger.info(feedback);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -317,6 +384,15 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Returns true if {@code commandText} is a command that does not need the data, so that it can be run while the
+     * data is still loading.
+     */
+    private static boolean isRunnableWhileLoading(String commandText) {
+        String commandWord = commandText.trim().split("\\s+", 2)[0].toLowerCase();
+        return commandWord.equals(ExitCommand.COMMAND_WORD) || commandWord.equals(HelpCommand.COMMAND_WORD);
+    }
+
     private void switchToTab(CommandResult.UiTab tab) {
         if (tabPane != null) {
             tabPane.getSelectionModel().select(tab.getTabIndex());
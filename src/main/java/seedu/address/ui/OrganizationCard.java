@@ -1,17 +1,17 @@
 package seedu.address.ui;
 
 import java.text.NumberFormat;
+import java.util.List;
 import java.util.Locale;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
+import seedu.address.model.contract.ContractTally;
 import seedu.address.model.organization.Organization;
 
 /** An UI component that displays information of a {@code Organization}. */
@@ -19,7 +19,10 @@ public class OrganizationCard extends UiPart<Region> {
 
     private static final String FXML = "OrganizationListCard.fxml";
 
-    public final Organization organization;
+    private final ContractAggregates contractAggregates;
+    private final NumberFormat amountFormat = NumberFormat.getNumberInstance(Locale.US);
+    private final TagChips tags;
+    private Organization organization;
 
     @FXML private HBox cardPane;
     @FXML private Label name;
@@ -30,9 +33,30 @@ public class OrganizationCard extends UiPart<Region> {
     // FlowPane for tags (total contract + athletes)
     @FXML private FlowPane tagRow;
 
-    /** Creates a {@code OrganizationCard} with the given {@code Organization} and index to display. */
-    public OrganizationCard(Organization organization, int displayedIndex, ObservableList<Contract> allContracts) {
+    /**
+     * Creates an empty {@code OrganizationCard} that shows the contracts of organizations from
+     * {@code contractAggregates}. Call {@link #bind(Organization, int)} to show an organization.
+     */
+    public OrganizationCard(ContractAggregates contractAggregates) {
         super(FXML);
+        this.contractAggregates = contractAggregates;
+        tags = new TagChips(tagRow);
+    }
+
+    /** Creates a {@code OrganizationCard} with the given {@code Organization} and index to display. */
+    public OrganizationCard(Organization organization, int displayedIndex, ContractAggregates contractAggregates) {
+        this(contractAggregates);
+        bind(organization, displayedIndex);
+    }
+
+    public Organization getOrganization() {
+        return organization;
+    }
+
+    /**
+     * Shows {@code organization} with the given index in this card, in place of the organization shown before.
+     */
+    public void bind(Organization organization, int displayedIndex) {
         this.organization = organization;
 
         id.setText(displayedIndex + ". ");
@@ -41,29 +65,22 @@ public class OrganizationCard extends UiPart<Region> {
         email.setText(organization.getEmail().value);
 
         // --- Build Tags Row ---
-        tagRow.getChildren().clear();
+        tags.reset();
+
+        ContractTally<Athlete> contracts = contractAggregates.getOrganizationTally(organization);
 
         // Total Contract Tag
-        long totalAmount = organization.getTotalContractAmount(allContracts);
-        String formattedAmount = NumberFormat.getNumberInstance(Locale.US).format(totalAmount);
-        tagRow.getChildren().add(makeTag("$" + formattedAmount, "tag", "tag-contract"));
+        tags.add("$" + amountFormat.format(contracts.getTotalAmount()), "tag-contract");
 
         // Athlete Tags
-        ObservableList<Athlete> athletes = organization.getAthletes(allContracts);
+        List<Athlete> athletes = contracts.getCounterparts();
         if (athletes.isEmpty()) {
-            tagRow.getChildren().add(makeTag("No Athletes", "tag", "tag-muted"));
+            tags.add("No Athletes", "tag-muted");
         } else {
-            athletes.stream()
-                    .map(a -> a.getName().fullName)
-                    .forEach(name -> tagRow.getChildren().add(makeTag(name, "tag", "tag-athlete")));
+            for (Athlete athlete : athletes) {
+                tags.add(athlete.getName().fullName, "tag-athlete");
+            }
         }
-    }
-
-    /** Helper to create a chip-style tag label. */
-    private Label makeTag(String text, String... styleClasses) {
-        Label l = new Label(text);
-        l.getStyleClass().addAll(styleClasses);
-        l.setPadding(new Insets(3, 10, 3, 10));
-        return l;
+        tags.show();
     }
 }
@@ -2,6 +2,9 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -9,7 +12,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.organization.Organization;
 
 /**
@@ -22,17 +25,16 @@ public class OrganizationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Organization> organizationListView;
 
-    private final ObservableList<Contract> allContracts;
-    private final ObservableList<Contract> allNonFilteredContracts;
+    private final ContractAggregates contractAggregates;
 
     /**
-     * Creates a {@code OrganizationListPanel} with the given {@code ObservableList}.
+     * Creates a {@code OrganizationListPanel} with the given {@code ObservableList},
+     * showing the contracts of each organization from {@code contractAggregates}.
      */
     public OrganizationListPanel(ObservableList<Organization> organizationList,
-        ObservableList<Contract> allContracts, ObservableList<Contract> allNonFilteredContracts) {
+        ContractAggregates contractAggregates) {
         super(FXML);
-        this.allContracts = allContracts;
-        this.allNonFilteredContracts = allNonFilteredContracts;
+        this.contractAggregates = contractAggregates;
         organizationListView.setItems(organizationList);
         organizationListView.setCellFactory(listView -> new OrganizationListViewCell());
     }
@@ -41,8 +43,12 @@ public class OrganizationListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Organization} using a {@code OrganizationCard}.
      */
     class OrganizationListViewCell extends ListCell<Organization> {
+        private OrganizationCard card;
+        private final InvalidationListener tallyListener = observable -> scheduleRebind();
+        private boolean isRebindPending;
 
         OrganizationListViewCell() {
+            contractAggregates.addListener(new WeakInvalidationListener(tallyListener));
             // Toggle selection on click
             addEventFilter(MouseEvent.MOUSE_PRESSED, e -> {
                 if (isEmpty()) {
@@ -71,8 +77,28 @@ public class OrganizationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrganizationCard(organization, getIndex() + 1, allNonFilteredContracts).getRoot());
+                if (card == null) {
+                    card = new OrganizationCard(contractAggregates);
+                }
+                card.bind(organization, getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
+        }
+
+        /**
+         * Redraws the tallies of the organization shown after the contract changes in progress.
+         */
+        private void scheduleRebind() {
+            if (isRebindPending) {
+                return;
             }
+            isRebindPending = true;
+            Platform.runLater(() -> {
+                isRebindPending = false;
+                if (card != null && !isEmpty() && getItem() != null) {
+                    card.bind(getItem(), getIndex() + 1);
+                }
+            });
         }
     }
 }
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,6 +18,12 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox loadingStatus;
+
+    @FXML
+    private Label loadingMessage;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,19 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the loading indicator with {@code message}.
+     */
+    public void showLoading(String message) {
+        loadingMessage.setText(message);
+        loadingStatus.setVisible(true);
+    }
+
+    /**
+     * Hides the loading indicator.
+     */
+    public void hideLoading() {
+        loadingStatus.setVisible(false);
+    }
+
 }
@@ -0,0 +1,70 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+
+/**
+ * The chip-style tag labels shown in a {@code FlowPane} of a card.
+ * Labels are kept when fewer tags are shown, and reused when the card is bound to another item,
+ * so that rebinding a card does not create new labels.
+ */
+class TagChips {
+
+    private static final String TAG_STYLE_CLASS = "tag";
+
+    private final FlowPane pane;
+    // Every label created so far; the first shownCount of them are the children of the pane
+    private final List<Label> chips = new ArrayList<>();
+    private int shownCount = 0;
+
+    TagChips(FlowPane pane) {
+        this.pane = pane;
+        pane.getChildren().clear();
+    }
+
+    /**
+     * Starts a new set of tags, replacing the tags shown so far once {@link #show()} is called.
+     */
+    void reset() {
+        shownCount = 0;
+    }
+
+    /**
+     * Adds a tag with the given text and style class, after the tags added since the last {@link #reset()}.
+     */
+    void add(String text, String variantStyleClass) {
+        if (shownCount < chips.size()) {
+            Label chip = chips.get(shownCount);
+            chip.setText(text);
+            // The variant is always the last style class
+            ObservableList<String> styleClasses = chip.getStyleClass();
+            if (!styleClasses.get(styleClasses.size() - 1).equals(variantStyleClass)) {
+                styleClasses.set(styleClasses.size() - 1, variantStyleClass);
+            }
+        } else {
+            Label chip = new Label(text);
+            chip.getStyleClass().addAll(TAG_STYLE_CLASS, variantStyleClass);
+            chip.setPadding(new Insets(3, 10, 3, 10));
+            chips.add(chip);
+        }
+        shownCount++;
+    }
+
+    /**
+     * Shows the tags added since the last {@link #reset()} in the pane.
+     */
+    void show() {
+        ObservableList<Node> children = pane.getChildren();
+        if (children.size() > shownCount) {
+            children.remove(shownCount, children.size());
+        } else if (children.size() < shownCount) {
+            children.addAll(chips.subList(children.size(), shownCount));
+        }
+    }
+}
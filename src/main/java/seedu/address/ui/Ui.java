@@ -10,4 +10,17 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that data is still being loaded, with {@code message} describing the current step. */
+    void showLoadingProgress(String message);
+
+    /**
+     * Shows that loading has finished with {@code message}, then runs any commands entered while loading.
+     */
+    void finishLoading(String message);
+
+    /**
+     * Shows that loading has failed with {@code message}, and discards any commands entered while loading.
+     */
+    void failLoading(String message);
+
 }
@@ -55,6 +55,21 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadingProgress(String message) {
+        mainWindow.showLoadingProgress(message);
+    }
+
+    @Override
+    public void finishLoading(String message) {
+        mainWindow.finishLoading(message);
+    }
+
+    @Override
+    public void failLoading(String message) {
+        mainWindow.failLoading(message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
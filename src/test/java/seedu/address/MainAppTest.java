@@ -10,7 +10,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.model.AddressBook;
-import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -31,6 +33,7 @@ import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournalEntry;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAthleteListStorage;
 import seedu.address.storage.JsonContractListStorage;
@@ -117,6 +120,21 @@ class MainAppTest {
         assertTrue(Files.exists(prefsPath));
     }
 
+    @Test
+    void initPrefs_negativeSearchCacheMemoryBudget_usesDefaultBudget() throws Exception {
+        MainApp mainApp = new MainApp();
+        Path prefsPath = tempDir.resolve("userPrefs.json");
+        Files.writeString(prefsPath, "{ \"searchCacheMemoryBudget\" : -1 }");
+
+        UserPrefs actualPrefs = mainApp.initPrefs(new JsonUserPrefsStorage(prefsPath));
+
+        assertEquals(UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET, actualPrefs.getSearchCacheMemoryBudget());
+        assertEquals(UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET,
+                new UserPrefs(actualPrefs).getSearchCacheMemoryBudget());
+        assertEquals(UserPrefs.DEFAULT_SEARCH_CACHE_MEMORY_BUDGET,
+                new JsonUserPrefsStorage(prefsPath).readUserPrefs().get().getSearchCacheMemoryBudget());
+    }
+
     @Test
     void initPrefs_missingPrefsFile_createsDefaults() throws Exception {
         MainApp mainApp = new MainApp();
@@ -167,9 +185,7 @@ class MainAppTest {
     }
 
     @Test
-    void initModelManager_missingDataFiles_returnsEmptyCollections() throws Exception {
-        MainApp mainApp = new MainApp();
-
+    void loadData_missingDataFiles_returnsEmptyCollections() throws Exception {
         Storage storage = new seedu.address.storage.StorageManager(
                 new JsonAddressBookStorage(tempDir.resolve("addressBook.json")),
                 new JsonUserPrefsStorage(tempDir.resolve("prefs.json")),
@@ -177,36 +193,36 @@ class MainAppTest {
                 new JsonContractListStorage(tempDir.resolve("contracts.json")),
                 new JsonOrganizationListStorage(tempDir.resolve("organizations.json")));
 
-        UserPrefs userPrefs = new UserPrefs();
+        List<String> progress = new ArrayList<>();
 
-        Model model = invokeInitModelManager(mainApp, storage, userPrefs);
+        ReadOnlyAddressBook data = invokeLoadData(storage, progress::add);
 
-        assertTrue(model.getAthleteList().getAthleteList().isEmpty());
-        assertTrue(model.getContractList().getContractList().isEmpty());
-        assertTrue(model.getOrganizationList().getOrganizationList().isEmpty());
+        assertTrue(data.getAthleteList().isEmpty());
+        assertTrue(data.getContractList().isEmpty());
+        assertTrue(data.getOrganizationList().isEmpty());
+        assertEquals(List.of(MainApp.MESSAGE_LOADING_ATHLETES, MainApp.MESSAGE_LOADING_ORGANIZATIONS,
+                MainApp.MESSAGE_LOADING_CONTRACTS, MainApp.MESSAGE_REPLAYING_JOURNAL), progress);
     }
 
     @Test
-    void initModelManager_storageThrowsDataLoadingException_returnsEmptyCollections() throws Exception {
-        MainApp mainApp = new MainApp();
+    void loadData_storageThrowsDataLoadingException_returnsEmptyCollections() throws Exception {
         Path basePath = tempDir.resolve("storage");
         Files.createDirectories(basePath);
 
         Storage throwingStorage = new ThrowingStorageStub(basePath);
-        UserPrefs userPrefs = new UserPrefs();
 
-        Model model = invokeInitModelManager(mainApp, throwingStorage, userPrefs);
+        ReadOnlyAddressBook data = invokeLoadData(throwingStorage, message -> { });
 
-        assertTrue(model.getAthleteList().getAthleteList().isEmpty());
-        assertTrue(model.getContractList().getContractList().isEmpty());
-        assertTrue(model.getOrganizationList().getOrganizationList().isEmpty());
+        assertTrue(data.getAthleteList().isEmpty());
+        assertTrue(data.getContractList().isEmpty());
+        assertTrue(data.getOrganizationList().isEmpty());
     }
 
-    private Model invokeInitModelManager(MainApp mainApp, Storage storage, ReadOnlyUserPrefs userPrefs)
+    private ReadOnlyAddressBook invokeLoadData(Storage storage, Consumer<String> progress)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Method method = MainApp.class.getDeclaredMethod("initModelManager", Storage.class, ReadOnlyUserPrefs.class);
+        Method method = MainApp.class.getDeclaredMethod("loadData", Storage.class, Consumer.class);
         method.setAccessible(true);
-        return (Model) method.invoke(mainApp, storage, userPrefs);
+        return (ReadOnlyAddressBook) method.invoke(null, storage, progress);
     }
 
     private static class UiStub implements Ui {
@@ -218,6 +234,18 @@ class MainAppTest {
             startCalled = true;
             receivedStage = primaryStage;
         }
+
+        @Override
+        public void showLoadingProgress(String message) {
+        }
+
+        @Override
+        public void finishLoading(String message) {
+        }
+
+        @Override
+        public void failLoading(String message) {
+        }
     }
 
     /**
@@ -310,6 +338,18 @@ class MainAppTest {
             throw new DataLoadingException(new IOException("contract list error"));
         }
 
+        @Override
+        public Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+                ReadOnlyOrganizationList organizations) throws DataLoadingException {
+            throw new DataLoadingException(new IOException("contract list error"));
+        }
+
+        @Override
+        public Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+                ReadOnlyOrganizationList organizations) throws DataLoadingException {
+            throw new DataLoadingException(new IOException("contract list error"));
+        }
+
         @Override
         public void saveContractList(ReadOnlyContractList contracts) {
             throw new UnsupportedOperationException();
@@ -344,5 +384,37 @@ class MainAppTest {
         public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        public Path getJournalFilePath() {
+            return basePath.resolve("journal.jsonl");
+        }
+
+        @Override
+        public List<JournalEntry> readJournal() throws DataLoadingException {
+            throw new DataLoadingException(new IOException("journal error"));
+        }
+
+        @Override
+        public void appendToJournal(List<JournalEntry> entries) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clearJournal() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void saveSnapshot(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+                ReadOnlyOrganizationList organizations) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void recoverSnapshot() {
+            // Nothing to recover
+        }
+
     }
 }
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class EditDistanceUtilTest {
+
+    @Test
+    public void boundedLevenshteinDistance_nullOrNegative_throwsException() {
+        assertThrows(NullPointerException.class, () -> EditDistanceUtil.boundedLevenshteinDistance(null, "a", 1));
+        assertThrows(NullPointerException.class, () -> EditDistanceUtil.boundedLevenshteinDistance("a", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> EditDistanceUtil.boundedLevenshteinDistance("a", "a", -1));
+    }
+
+    @Test
+    public void boundedLevenshteinDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, EditDistanceUtil.boundedLevenshteinDistance("", "", 0));
+        assertEquals(3, EditDistanceUtil.boundedLevenshteinDistance("", "abc", 3));
+        assertEquals(0, EditDistanceUtil.boundedLevenshteinDistance("alice", "alice", 0));
+        assertEquals(2, EditDistanceUtil.boundedLevenshteinDistance("alice", "aliec", 2));
+        assertEquals(3, EditDistanceUtil.boundedLevenshteinDistance("kitten", "sitting", 4));
+    }
+
+    @Test
+    public void boundedLevenshteinDistance_beyondMaximum_returnsMaximumPlusOne() {
+        assertEquals(1, EditDistanceUtil.boundedLevenshteinDistance("abc", "abd", 0));
+        assertEquals(3, EditDistanceUtil.boundedLevenshteinDistance("kitten", "sitting", 2));
+        assertEquals(2, EditDistanceUtil.boundedLevenshteinDistance("", "abc", 1));
+        assertEquals(5, EditDistanceUtil.boundedLevenshteinDistance("abcdefgh", "hgfedcba", 4));
+    }
+
+    @Test
+    public void isWithinLevenshteinDistance() {
+        assertTrue(EditDistanceUtil.isWithinLevenshteinDistance("nike", "nikr", 1));
+        assertFalse(EditDistanceUtil.isWithinLevenshteinDistance("nike", "nkie", 1));
+        assertTrue(EditDistanceUtil.isWithinLevenshteinDistance("nike", "nkie", 2));
+    }
+
+    @Test
+    public void boundedLevenshteinDistance_randomStrings_sameAsFullTable() {
+        Random random = new Random(9);
+        for (int i = 0; i < 5000; i++) {
+            String left = randomString(random);
+            String right = randomString(random);
+            int maxDistance = random.nextInt(6);
+            int expected = Math.min(levenshteinDistance(left, right), maxDistance + 1);
+            assertEquals(expected, EditDistanceUtil.boundedLevenshteinDistance(left, right, maxDistance),
+                    left + " / " + right + " / " + maxDistance);
+        }
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(40);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abc".charAt(random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Computes the Levenshtein distance by filling in the whole table.
+     */
+    private static int levenshteinDistance(String left, String right) {
+        int[][] distances = new int[left.length() + 1][right.length() + 1];
+        for (int i = 0; i <= left.length(); i++) {
+            for (int j = 0; j <= right.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                    distances[i][j] = Math.min(Math.min(distances[i - 1][j], distances[i][j - 1]) + 1,
+                            distances[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return distances[left.length()][right.length()];
+    }
+}
@@ -1,13 +1,31 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +38,70 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirs_fileCreated() throws IOException {
+        Path file = testFolder.resolve("a").resolve("b").resolve("file.json");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), filesIn(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replaced() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old contents that are longer");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), filesIn(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_newFile_defaultPermissions() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path expected = testFolder.resolve("expected.json");
+        FileUtil.writeToFile(expected, "new");
+        Path file = testFolder.resolve("file.json");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Files.getPosixFilePermissions(expected), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, "disk full", () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), filesIn(testFolder));
+    }
+
+    private static List<Path> filesIn(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
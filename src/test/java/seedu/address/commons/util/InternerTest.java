@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<Text> interner = new Interner<>(text -> text.value);
+
+    @Test
+    public void intern_sameText_returnsSameInstance() {
+        Text first = interner.intern("alice", Text::new);
+        assertSame(first, interner.intern(new String("alice"), Text::new));
+        assertNotSame(first, interner.intern("bob", Text::new));
+    }
+
+    @Test
+    public void intern_normalizedText_returnsInstanceOfCanonicalText() {
+        Text canonical = interner.intern("alice", Text::new);
+        assertSame(canonical, interner.intern("  alice ", Text::new));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_createThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("", Text::new));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null, Text::new));
+        assertThrows(NullPointerException.class, () -> new Interner<Text>(null));
+    }
+
+    /**
+     * A value that holds its text trimmed, and cannot be blank.
+     */
+    private static class Text {
+        private final String value;
+
+        Text(String value) {
+            AppUtil.checkArgument(!value.isBlank());
+            this.value = value.trim();
+        }
+    }
+}
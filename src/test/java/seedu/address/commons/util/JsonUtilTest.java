@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,77 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void streamJsonFile_arrayAndOtherFields_elementsPassedInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"version\": 2, \"names\": [\"a\", \"b\", \"c\"], "
+                + "\"nested\": { \"names\": [\"d\"] } }");
+        List<String> names = new ArrayList<>();
+
+        ObjectNode otherFields = JsonUtil.streamJsonFile(SERIALIZATION_FILE, "names", String.class, names::add).get();
+
+        assertEquals(List.of("a", "b", "c"), names);
+        assertEquals(2, otherFields.get("version").asInt());
+        assertEquals("d", otherFields.get("nested").get("names").get(0).asText());
+        assertFalse(otherFields.has("names"));
+    }
+
+    @Test
+    public void streamJsonFile_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonUtil.streamJsonFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "names",
+                String.class, name -> { }).isPresent());
+    }
+
+    @Test
+    public void streamJsonFile_invalidJson_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[\"a\"]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.streamJsonFile(SERIALIZATION_FILE, "names",
+                String.class, name -> { }));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"names\": [\"a\", ");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.streamJsonFile(SERIALIZATION_FILE, "names",
+                String.class, name -> { }));
+    }
+
+    @Test
+    public void streamJsonFile_handlerThrows_readingStops() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"names\": [\"a\", \"b\", \"c\"] }");
+        List<String> names = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, "b", () -> JsonUtil.streamJsonFile(SERIALIZATION_FILE, "names",
+                String.class, name -> {
+                    if (name.equals("b")) {
+                        throw new IllegalValueException(name);
+                    }
+                    names.add(name);
+                }));
+        assertEquals(List.of("a"), names);
+    }
+
+    @Test
+    public void saveJsonFile_compact_noWhitespace() throws Exception {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, true);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+        assertFalse(json.contains("\n"));
+        SerializableTestClass readBack = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void saveJsonFile_notCompact_sameAsJsonString() throws Exception {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, false);
+
+        assertEquals(JsonUtil.toJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,14 +1,19 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.getTypicalAddressBookWithOrganizations;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.organization.AddOrganizationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,9 +42,11 @@ import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.OrganizationPhone;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.storage.JournalEntry;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAthleteListStorage;
 import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonOrganizationListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -50,6 +58,9 @@ public class LogicManagerTest {
     private static final String VALID_ORG_EMAIL = "contact@acme.com";
     private static final String VALID_ADD_ORG_COMMAND =
             "add-o o/" + VALID_ORG_NAME + " p/" + VALID_ORG_PHONE + " e/" + VALID_ORG_EMAIL;
+    private static final String SECOND_ORG_NAME = "Beta Athletics";
+    private static final String SECOND_ADD_ORG_COMMAND =
+            "add-o o/" + SECOND_ORG_NAME + " p/" + VALID_ORG_PHONE + " e/" + VALID_ORG_EMAIL;
 
     @TempDir
     public Path temporaryFolder;
@@ -68,8 +79,9 @@ public class LogicManagerTest {
                 new JsonContractListStorage(temporaryFolder.resolve("contractlist.json"));
         JsonOrganizationListStorage organizationListStorage =
                 new JsonOrganizationListStorage(temporaryFolder.resolve("organizationlist.json"));
+        JsonJournalStorage journalStorage = new JsonJournalStorage(temporaryFolder.resolve("journal.jsonl"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
-                athleteListStorage, contractListStorage, organizationListStorage);
+                athleteListStorage, contractListStorage, organizationListStorage, journalStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -177,6 +189,148 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void execute_unmodifiedModel_storageUntouched() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.execute("refresh");
+        logic.execute("help");
+        assertTrue(storage.savedFiles.isEmpty());
+        assertTrue(storage.appendedEntries.isEmpty());
+    }
+
+    @Test
+    public void resetData_loadedData_shownWithoutWritingToStorage() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+        AddressBook loadedData = getTypicalAddressBookWithOrganizations();
+
+        logic.resetData(loadedData);
+        assertEquals(loadedData.getOrganizationList(), logic.getFilteredOrganizationList());
+
+        // the loaded data is already in storage, so it is not written back by later commands
+        logic.execute("refresh");
+        assertTrue(storage.savedFiles.isEmpty());
+        assertTrue(storage.appendedEntries.isEmpty());
+
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        assertEquals(List.of("athletes", "contracts", "organizations", "journal"), storage.savedFiles);
+    }
+
+    @Test
+    public void resetData_dataInStorage_firstModificationAppendsToJournal() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.resetData(getTypicalAddressBookWithOrganizations(), 0);
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        assertTrue(storage.savedFiles.isEmpty());
+        assertEquals(1, storage.appendedEntries.size());
+    }
+
+    @Test
+    public void resetData_journalNearThreshold_compactsOnlyModifiedLists() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.resetData(getTypicalAddressBookWithOrganizations(), LogicManager.JOURNAL_COMPACTION_THRESHOLD - 1);
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        assertEquals(List.of("organizations", "journal"), storage.savedFiles);
+        assertTrue(storage.appendedEntries.isEmpty());
+    }
+
+    @Test
+    public void refuseChanges_modifyingCommands_refusedWithoutWritingToStorage() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.refuseChanges();
+        assertCommandException(VALID_ADD_ORG_COMMAND, LogicManager.MESSAGE_CHANGES_REFUSED);
+        assertThrows(CommandException.class, LogicManager.MESSAGE_CHANGES_REFUSED, () ->
+                logic.executeBatch(List.of(VALID_ADD_ORG_COMMAND)));
+        assertTrue(model.getOrganizationList().getOrganizationList().isEmpty());
+
+        // commands that leave the data unchanged still run
+        logic.execute("refresh");
+        assertTrue(storage.savedFiles.isEmpty());
+        assertTrue(storage.appendedEntries.isEmpty());
+    }
+
+    @Test
+    public void execute_modifications_firstCompactsThenAppendsToJournal() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        // the first modification of a session writes the snapshots
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        assertEquals(List.of("athletes", "contracts", "organizations", "journal"),
+                storage.savedFiles);
+        assertTrue(storage.appendedEntries.isEmpty());
+
+        logic.execute(SECOND_ADD_ORG_COMMAND);
+        assertEquals(4, storage.savedFiles.size());
+        assertEquals(List.of(JournalEntry.ofOrganization(JournalEntry.Operation.ADD,
+                buildOrganization(SECOND_ORG_NAME, VALID_ORG_PHONE, VALID_ORG_EMAIL))), storage.appendedEntries);
+
+        // commands that do not modify data write nothing
+        logic.execute("refresh");
+        assertEquals(4, storage.savedFiles.size());
+        assertEquals(1, storage.appendedEntries.size());
+    }
+
+    @Test
+    public void executeBatch_modifications_savedOnce() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        storage.savedFiles.clear();
+
+        CommandResult result = logic.executeBatch(List.of(SECOND_ADD_ORG_COMMAND, VALID_ADD_ORG_COMMAND,
+                "delete-o o/" + VALID_ORG_NAME));
+
+        assertEquals(String.join("\n", String.format(RunCommand.MESSAGE_SUCCESS, 3, 2, 1),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                        AddOrganizationCommand.MESSAGE_DUPLICATE_ORGANIZATION)), result.getFeedbackToUser());
+        assertTrue(storage.savedFiles.isEmpty());
+        assertEquals(1, storage.journalWriteCount);
+        assertEquals(2, storage.appendedEntries.size());
+    }
+
+    @Test
+    public void execute_failedWrite_allSnapshotsSavedOnRetry() throws Exception {
+        RecordingStorageStub storage = new RecordingStorageStub();
+        logic = new LogicManager(model, storage);
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        storage.savedFiles.clear();
+
+        storage.isJournalFailing = true;
+        assertThrows(CommandException.class, () -> logic.execute(SECOND_ADD_ORG_COMMAND));
+
+        // the failed entries may be missing from the journal, so every list is saved in full
+        storage.isJournalFailing = false;
+        logic.execute("delete-o o/" + SECOND_ORG_NAME);
+        assertEquals(List.of("athletes", "contracts", "organizations", "journal"),
+                storage.savedFiles);
+    }
+
+    @Test
+    public void execute_validAddOrganizationCommand_journalReplaysToSameData() throws Exception {
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        logic.execute(SECOND_ADD_ORG_COMMAND);
+
+        Path journalPath = temporaryFolder.resolve("journal.jsonl");
+        assertTrue(Files.exists(journalPath));
+        OrganizationList replayed = new OrganizationList(new JsonOrganizationListStorage(
+                temporaryFolder.resolve("organizationlist.json")).readOrganizationList().get());
+        assertTrue(replayed.hasOrganization(buildOrganization(VALID_ORG_NAME, VALID_ORG_PHONE, VALID_ORG_EMAIL)));
+        assertFalse(replayed.hasOrganization(buildOrganization(SECOND_ORG_NAME, VALID_ORG_PHONE, VALID_ORG_EMAIL)));
+
+        JournalEntry.replay(new JsonJournalStorage(journalPath).readJournal(), new AthleteList(), new ContractList(),
+                replayed);
+        assertEquals(model.getOrganizationList().getOrganizationList(), replayed.getOrganizationList());
+    }
+
     private Organization buildOrganization(String name, String phone, String email) {
         return new Organization(new OrganizationName(name), new OrganizationPhone(phone),
                 new OrganizationEmail(email));
@@ -265,6 +419,18 @@ public class LogicManagerTest {
             return readContractList();
         }
 
+        @Override
+        public Optional<ReadOnlyContractList> readContractList(ReadOnlyAthleteList athletes,
+                ReadOnlyOrganizationList organizations) throws DataLoadingException {
+            return readContractList();
+        }
+
+        @Override
+        public Optional<ReadOnlyContractList> readContractList(Path filePath, ReadOnlyAthleteList athletes,
+                ReadOnlyOrganizationList organizations) throws DataLoadingException {
+            return readContractList();
+        }
+
         @Override
         public void saveContractList(ReadOnlyContractList contracts) throws IOException {
             // default no-op
@@ -299,6 +465,86 @@ public class LogicManagerTest {
         public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) throws IOException {
             // default no-op
         }
+
+        @Override
+        public Path getJournalFilePath() {
+            return dummyPath;
+        }
+
+        @Override
+        public List<JournalEntry> readJournal() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void appendToJournal(List<JournalEntry> entries) throws IOException {
+            // default no-op
+        }
+
+        @Override
+        public void clearJournal() throws IOException {
+            // default no-op
+        }
+
+        @Override
+        public void saveSnapshot(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+                ReadOnlyOrganizationList organizations) throws IOException {
+            if (athletes != null) {
+                saveAthleteList(athletes);
+            }
+            if (contracts != null) {
+                saveContractList(contracts);
+            }
+            if (organizations != null) {
+                saveOrganizationList(organizations);
+            }
+            clearJournal();
+        }
+
+        @Override
+        public void recoverSnapshot() {
+            // default no-op
+        }
+
+    }
+
+    /**
+     * Storage stub that records which files are written to.
+     */
+    private static class RecordingStorageStub extends BaseStorageStub {
+        private final List<String> savedFiles = new ArrayList<>();
+        private final List<JournalEntry> appendedEntries = new ArrayList<>();
+        private int journalWriteCount = 0;
+        private boolean isJournalFailing = false;
+
+        @Override
+        public void saveAthleteList(ReadOnlyAthleteList athletes) {
+            savedFiles.add("athletes");
+        }
+
+        @Override
+        public void saveContractList(ReadOnlyContractList contracts) {
+            savedFiles.add("contracts");
+        }
+
+        @Override
+        public void saveOrganizationList(ReadOnlyOrganizationList organizations) {
+            savedFiles.add("organizations");
+        }
+
+        @Override
+        public void appendToJournal(List<JournalEntry> entries) throws IOException {
+            if (isJournalFailing) {
+                throw new IOException("journal unavailable");
+            }
+            journalWriteCount++;
+            appendedEntries.addAll(entries);
+        }
+
+        @Override
+        public void clearJournal() {
+            savedFiles.add("journal");
+        }
     }
 
     private static class AccessDeniedStorageStub extends BaseStorageStub {
@@ -309,7 +555,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        public void saveAthleteList(ReadOnlyAthleteList athletes) throws IOException {
             throw new AccessDeniedException(blockedPath.toString());
         }
     }
@@ -322,7 +568,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        public void saveAthleteList(ReadOnlyAthleteList athletes) throws IOException {
             throw exceptionToThrow;
         }
     }
@@ -1,8 +1,14 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +20,9 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.search.ContractQuery;
+import seedu.address.model.search.ContractQuery.Comparison;
+import seedu.address.model.search.ContractQuery.TextField;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.TypicalOrganizations;
 import seedu.address.testutil.athlete.TypicalAthletes;
@@ -89,6 +98,66 @@ public class FindCommandTest {
         assertTrue(expectedModel.getFilteredAthleteList().isEmpty());
     }
 
+    @Test
+    public void execute_activeScope_showsContractsActiveOnDate() {
+        FindCommand command = new FindCommand(SearchScope.CONTRACT_ACTIVE, "15012025");
+
+        expectedModel.updateFilteredContractList(contract ->
+                contract == TypicalContracts.RONALDO_ALNASSR || contract == TypicalContracts.FEDERER_UNIQLO);
+        CommandResult expectedResult = new CommandResult("Showing 2 contracts active on 15012025.\n"
+                + "You can refresh the display anytime using Cmd+R (macOS) "
+                + "or Ctrl+R (Windows/Linux) to show all data again.", CommandResult.UiTab.CONTRACTS);
+
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_expiringScope_showsContractsEndingWithinDays() {
+        Clock clock = Clock.fixed(Instant.parse("2024-12-01T12:00:00Z"), ZoneOffset.UTC);
+
+        // Ends on the last day -> shown
+        expectedModel.updateFilteredContractList(contract -> contract == TypicalContracts.MESSI_MIAMI
+                || contract == TypicalContracts.RONALDO_ALNASSR);
+        assertCommandSuccess(new FindCommand(SearchScope.CONTRACT_EXPIRING, "61", clock), model,
+                new CommandResult("Showing 2 contracts expiring within 61 days.\n"
+                        + "You can refresh the display anytime using Cmd+R (macOS) "
+                        + "or Ctrl+R (Windows/Linux) to show all data again.", CommandResult.UiTab.CONTRACTS),
+                expectedModel);
+
+        // Ended before today -> not shown
+        expectedModel.updateFilteredContractList(contract -> false);
+        assertCommandSuccess(new FindCommand(SearchScope.CONTRACT_EXPIRING, "0", clock), model,
+                new CommandResult("No contracts found expiring within 0 days.\n"
+                        + "You can refresh the display anytime using Cmd+R (macOS) "
+                        + "or Ctrl+R (Windows/Linux) to show all data again.", CommandResult.UiTab.CONTRACTS),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_contractQuery_showsContractsMatchingAllTerms() {
+        ContractQuery query = ContractQuery.and(List.of(ContractQuery.matching(TextField.SPORT, "football"),
+                ContractQuery.amount(Comparison.GREATER, 5000000)));
+
+        expectedModel.updateFilteredContractList(contract -> contract == TypicalContracts.RONALDO_ALNASSR);
+        assertCommandSuccess(new FindCommand(query, false), model,
+                new CommandResult("Showing 1 contract matching (-cs \"football\" AND am>5000000).\n"
+                        + "You can refresh the display anytime using Cmd+R (macOS) "
+                        + "or Ctrl+R (Windows/Linux) to show all data again.", CommandResult.UiTab.CONTRACTS),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_explainedContractQuery_showsPlan() {
+        ContractQuery query = ContractQuery.and(List.of(ContractQuery.matching(TextField.SPORT, "football"),
+                ContractQuery.amount(Comparison.GREATER, 5000000)));
+
+        String feedback = new FindCommand(query, true).execute(model).getFeedbackToUser();
+        String plan = feedback.substring(feedback.indexOf("\nPlan:\n") + "\nPlan:\n".length());
+        assertTrue(plan.startsWith("find -cs \"football\""), feedback);
+        assertTrue(plan.endsWith(": 1 match"), feedback);
+        assertEquals(List.of(TypicalContracts.RONALDO_ALNASSR), model.getFilteredContractList());
+    }
+
     private AddressBook buildPopulatedAddressBook() {
         AddressBookBuilder builder = new AddressBookBuilder();
         TypicalAthletes.getTypicalAthletes().forEach(builder::withAthlete);
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,11 +17,16 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * Unit tests for {@link RefreshCommand}.
@@ -75,6 +81,11 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public Optional<Organization> findOrganization(OrganizationName name) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteOrganization(Organization target) {
             throw new AssertionError("Should not be called");
@@ -100,6 +111,11 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getOrganizationModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public ReadOnlyContractList getContractList() {
             throw new AssertionError("Should not be called");
@@ -130,6 +146,31 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getContractModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public ContractAggregates getContractAggregates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void deferFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void resumeFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("Should not be called");
@@ -175,6 +216,11 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public Optional<Athlete> findAthlete(Name name, Sport sport) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteAthlete(Athlete target) {
             throw new AssertionError("Should not be called");
@@ -190,6 +236,11 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getAthleteModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("Should not be called");
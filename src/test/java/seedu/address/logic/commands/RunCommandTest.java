@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.organization.AddOrganizationCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.organization.OrganizationName;
+
+/**
+ * Unit tests for {@link RunCommand}.
+ */
+public class RunCommandTest {
+
+    private static final String ADD_NIKE = "add-o o/Nike p/98765432 e/partners@nike.com";
+    private static final String ADD_PUMA = "add-o o/Puma p/98765432 e/partners@puma.com";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_scriptFile_runsEveryLine() throws Exception {
+        Path scriptPath = testFolder.resolve("roster.txt");
+        FileUtil.writeToFile(scriptPath, "# sponsors\n" + ADD_NIKE + "\n\n   " + ADD_PUMA + "  \n");
+
+        CommandResult result = new RunCommand(scriptPath).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, 2, 0), result.getFeedbackToUser());
+        assertTrue(model.findOrganization(new OrganizationName("Nike")).isPresent());
+        assertTrue(model.findOrganization(new OrganizationName("Puma")).isPresent());
+        assertEquals(2, model.getFilteredOrganizationList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, scriptPath), () ->
+                new RunCommand(scriptPath).execute(model));
+    }
+
+    @Test
+    public void executeAll_failingLines_reportedAndSkipped() {
+        List<String> commandTexts = List.of(ADD_NIKE, "unknown", ADD_NIKE, "run other.txt", ADD_PUMA);
+
+        CommandResult result = RunCommand.executeAll(commandTexts, model);
+
+        assertEquals(String.join("\n",
+                String.format(RunCommand.MESSAGE_SUCCESS, 5, 2, 3),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 3, AddOrganizationCommand.MESSAGE_DUPLICATE_ORGANIZATION),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 4, RunCommand.MESSAGE_NESTED_RUN)),
+                result.getFeedbackToUser());
+        assertEquals(2, model.getOrganizationList().getOrganizationList().size());
+    }
+
+    @Test
+    public void executeAll_manyFailingLines_reportsFirstFailuresOnly() {
+        List<String> commandTexts = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_REPORTED_FAILURES + 5; i++) {
+            commandTexts.add("unknown");
+        }
+
+        String feedback = RunCommand.executeAll(commandTexts, model).getFeedbackToUser();
+
+        assertEquals(RunCommand.MAX_REPORTED_FAILURES + 2, feedback.split("\n").length);
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_LINES_FAILED, 5)));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("roster.txt"));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("roster.txt"))));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("other.txt"))));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,11 +25,16 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 import seedu.address.testutil.athlete.AthleteBuilder;
 
 /**
@@ -113,6 +119,11 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Organization> findOrganization(OrganizationName name) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteOrganization(Organization target) {
             throw new AssertionError("This method should not be called.");
@@ -138,6 +149,11 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getOrganizationModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ===== Contracts =====
         @Override
         public ReadOnlyContractList getContractList() {
@@ -169,6 +185,31 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getContractModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ContractAggregates getContractAggregates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void deferFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void resumeFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
         // ===== File/prefs/gui =====
         @Override
         public Path getAddressBookFilePath() {
@@ -216,6 +257,11 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Athlete> findAthlete(Name name, Sport sport) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteAthlete(Athlete target) {
             throw new AssertionError("This method should not be called.");
@@ -231,6 +277,11 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getAthleteModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ===== AddressBook =====
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.athlete.AthleteCommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.athlete.AthleteCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
 import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAddressBookWithAthletes;
 
@@ -19,6 +20,7 @@ import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.OrganizationList;
+import seedu.address.testutil.contract.ContractBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -57,6 +59,16 @@ public class DeleteAthleteCommandTest {
                 AthleteMessages.MESSAGE_INVALID_ATHLETE + ": Nonexistent Athlete - Nonexistent Sport");
     }
 
+    @Test
+    public void execute_athleteWithContract_throwsCommandException() {
+        model.addOrganization(NIKE);
+        model.addContract(new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE).build());
+
+        DeleteAthleteCommand deleteCommand = new DeleteAthleteCommand(ALICE.getName(), ALICE.getSport());
+
+        assertCommandFailure(deleteCommand, model, AthleteMessages.MESSAGE_EXISTING_CONTRACT);
+    }
+
     @Test
     public void equals() {
         DeleteAthleteCommand deleteFirstCommand = new DeleteAthleteCommand(ALICE.getName(), ALICE.getSport());
@@ -8,6 +8,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,11 +25,13 @@ import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregates;
 import seedu.address.model.contract.Date8;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.athlete.AthleteBuilder;
 
@@ -110,6 +113,11 @@ public class DeleteContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public Optional<Organization> findOrganization(OrganizationName name) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteOrganization(Organization target) {
             throw new AssertionError("Should not be called");
@@ -135,6 +143,11 @@ public class DeleteContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getOrganizationModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public ReadOnlyContractList getContractList() {
             throw new AssertionError("Should not be called");
@@ -165,6 +178,31 @@ public class DeleteContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getContractModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public ContractAggregates getContractAggregates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void deferFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public void resumeFilterUpdates() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("Should not be called");
@@ -210,6 +248,11 @@ public class DeleteContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public Optional<Athlete> findAthlete(Name name, Sport sport) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void deleteAthlete(Athlete target) {
             throw new AssertionError("Should not be called");
@@ -225,6 +268,11 @@ public class DeleteContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public int getAthleteModificationCount() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("Should not be called");
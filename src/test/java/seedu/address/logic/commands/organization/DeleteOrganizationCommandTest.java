@@ -13,6 +13,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
 import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
 
 /**
  * Integration tests for {@code DeleteOrganizationCommand}.
@@ -57,6 +58,19 @@ public class DeleteOrganizationCommandTest {
                         -> command.execute(model));
     }
 
+    @Test
+    public void execute_organizationWithContract_throwsCommandException() {
+        Organization organization = new OrganizationBuilder().withName("Nike").build();
+        model.addOrganization(organization);
+        model.addContract(new ContractBuilder().withOrganization(organization).build());
+
+        DeleteOrganizationCommand command = new DeleteOrganizationCommand(new OrganizationName("NIKE"));
+
+        assertThrows(CommandException.class,
+                DeleteOrganizationCommand.MESSAGE_ORGANIZATION_EXISTING_CONTRACT, () -> command.execute(model));
+        assertEquals(1, model.getFilteredOrganizationList().size());
+    }
+
     @Test
     public void execute_caseInsensitiveMatch_success() throws Exception {
         Organization organization = new OrganizationBuilder()
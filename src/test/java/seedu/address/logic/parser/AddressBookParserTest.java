@@ -1,12 +1,16 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.athlete.AddAthleteCommand;
 import seedu.address.logic.commands.athlete.DeleteAthleteCommand;
 import seedu.address.logic.commands.contract.AddContractCommand;
@@ -85,6 +89,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(FindCommand.COMMAND_WORD + args) instanceof FindCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("data", "roster.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " data/roster.txt"));
+    }
+
     // ============================================================
     // Error handling
     // ============================================================
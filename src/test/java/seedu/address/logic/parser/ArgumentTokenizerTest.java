@@ -5,6 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +143,83 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_mixedCasePrefixes_recognizedRegardlessOfCase() {
+        String argsString = "preamble P/pSlash value ^q hatQ value -T dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+        assertArgumentPresent(argMultimap, hatQ, "hatQ value");
+    }
+
+    @Test
+    public void tokenize_sharedLeadingCharacters_longestPrefixRecognized() {
+        Prefix sSlash = new Prefix("s/");
+        Prefix sdSlash = new Prefix("sd/");
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(sSlash, sdSlash);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs(" s/Tennis sd/01012024 s/Golf");
+        assertArgumentPresent(argMultimap, sSlash, "Tennis", "Golf");
+        assertArgumentPresent(argMultimap, sdSlash, "01012024");
+
+        // the same tokenizer can be reused
+        argMultimap = tokenizer.tokenizeArgs(" sd/ s/");
+        assertArgumentPresent(argMultimap, sSlash, "");
+        assertArgumentPresent(argMultimap, sdSlash, "");
+    }
+
+    @Test
+    public void tokenize_randomArguments_sameAsSearchingForEachPrefix() {
+        Prefix[] prefixes = {new Prefix("n/"), new Prefix("s/"), new Prefix("sd/"), new Prefix("a/"),
+            new Prefix("am/"), new Prefix("E/")};
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(prefixes);
+        char[] alphabet = {' ', ' ', 'n', 's', 'd', 'a', 'm', 'e', 'N', 'S', 'E', '/', '/', 'x'};
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            for (int j = random.nextInt(30); j > 0; j--) {
+                argsString.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            ArgumentMultimap expected = tokenizeBySearchingForEachPrefix(argsString.toString(), prefixes);
+            ArgumentMultimap actual = tokenizer.tokenizeArgs(argsString.toString());
+            assertEquals(expected.getPreamble(), actual.getPreamble(), argsString.toString());
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString.toString());
+            }
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} by searching it for each prefix in turn, as the tokenizer used to.
+     */
+    private static ArgumentMultimap tokenizeBySearchingForEachPrefix(String argsString, Prefix... prefixes) {
+        String lowerCaseArgs = argsString.toLowerCase();
+        List<Integer> positions = new ArrayList<>();
+        Map<Integer, Prefix> prefixAtPosition = new HashMap<>();
+        for (Prefix prefix : prefixes) {
+            String searchString = " " + prefix.getPrefix().toLowerCase();
+            for (int index = lowerCaseArgs.indexOf(searchString); index != -1;
+                    index = lowerCaseArgs.indexOf(searchString, index + 1)) {
+                positions.add(index + 1);
+                prefixAtPosition.put(index + 1, prefix);
+            }
+        }
+        Collections.sort(positions);
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = new Prefix("");
+        int valueStart = 0;
+        for (int position : positions) {
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, position).trim());
+            currentPrefix = prefixAtPosition.get(position);
+            valueStart = position + currentPrefix.getPrefix().length();
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
+        return argMultimap;
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -3,11 +3,19 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.SearchScope;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.search.ContractQuery;
+import seedu.address.model.search.ContractQuery.Comparison;
+import seedu.address.model.search.ContractQuery.DateField;
+import seedu.address.model.search.ContractQuery.TextField;
 
 /**
  * Unit tests for {@link FindCommandParser}.
@@ -28,6 +36,44 @@ public class FindCommandParserTest {
         assertEquals(expected, parser.parse("  -co   \"Nike - Partners\"  "));
     }
 
+    @Test
+    public void parse_keywordWithoutSpaceAfterFlag_returnsFindCommand() throws Exception {
+        assertEquals(new FindCommand(SearchScope.ATHLETE_NAME, "Lionel"), parser.parse("-anLionel"));
+        assertEquals(new FindCommand(SearchScope.CONTRACT_ORGANIZATION, "Nike Partners"),
+                parser.parse("-CO\"Nike Partners\""));
+        assertEquals(new FindCommand(SearchScope.CONTRACT_EXPIRING, "30"), parser.parse("-expiring30"));
+        ContractQuery messiFootball = ContractQuery.and(List.of(ContractQuery.matching(TextField.ATHLETE_NAME, "messi"),
+                ContractQuery.matching(TextField.SPORT, "football")));
+        assertEquals(new FindCommand(messiFootball, false), parser.parse("-camessi -cs football"));
+        // Only the first flag may be followed directly by its keyword, so later words starting with one are kept
+        assertEquals(new FindCommand(SearchScope.CONTRACT_ORGANIZATION, "Coca -Cola"), parser.parse("-co Coca -Cola"));
+    }
+
+    @Test
+    public void parse_parenthesesAfterNonContractFlag_readAsKeyword() throws Exception {
+        assertEquals(new FindCommand(SearchScope.ATHLETE_NAME, "Lionel (Messi)"), parser.parse("-an Lionel (Messi)"));
+        assertEquals(new FindCommand(SearchScope.ORGANIZATION_NAME, "Smith (Asia)"),
+                parser.parse(" -on  Smith   (Asia) "));
+        assertEquals(new FindCommand(SearchScope.ATHLETE_SPORT, "(Rugby) Sevens"),
+                parser.parse("-as\"(Rugby) Sevens\""));
+    }
+
+    @Test
+    public void parse_validDateCommands_returnsFindCommand() throws Exception {
+        assertEquals(new FindCommand(SearchScope.CONTRACT_ACTIVE, "15012025"), parser.parse("-active 15012025"));
+        assertEquals(new FindCommand(SearchScope.CONTRACT_EXPIRING, "30"), parser.parse(" -EXPIRING  030 "));
+    }
+
+    @Test
+    public void parse_invalidDateKeywords_throwsParseException() {
+        assertThrows(ParseException.class, Date8.MESSAGE_CONSTRAINTS, () -> parser.parse("-active 31022025"));
+        assertThrows(ParseException.class, Date8.MESSAGE_CONSTRAINTS, () -> parser.parse("-active tomorrow"));
+        String invalidDays = FindCommandParser.MESSAGE_INVALID_DAYS;
+        assertThrows(ParseException.class, invalidDays, () -> parser.parse("-expiring -1"));
+        assertThrows(ParseException.class, invalidDays, () -> parser.parse("-expiring 36501"));
+        assertThrows(ParseException.class, invalidDays, () -> parser.parse("-expiring a"));
+    }
+
     @Test
     public void parse_missingArguments_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(""));
@@ -42,4 +88,70 @@ public class FindCommandParserTest {
     public void parse_unknownFlag_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse("-xx something"));
     }
+
+    @Test
+    public void parse_combinedTerms_orBindsLooserThanAndAndNot() throws Exception {
+        ContractQuery nike = ContractQuery.matching(TextField.ORGANIZATION_NAME, "Nike");
+        ContractQuery expensive = ContractQuery.amount(Comparison.GREATER, 1000000);
+        ContractQuery golf = ContractQuery.matching(TextField.SPORT, "golf");
+        ContractQuery expected = ContractQuery.or(List.of(
+                ContractQuery.and(List.of(nike, expensive)), ContractQuery.not(golf)));
+        assertEquals(new FindCommand(expected, false), parser.parse("-co Nike and am>1000000 OR NOT -cs golf"));
+        // terms next to each other are combined with AND
+        assertEquals(new FindCommand(expected, false), parser.parse("-co nike am>1000000 or not -cs Golf"));
+
+        ContractQuery grouped = ContractQuery.and(List.of(nike, ContractQuery.or(List.of(expensive, golf))));
+        assertEquals(new FindCommand(grouped, false), parser.parse("-co Nike AND (am>1000000 OR -cs golf)"));
+    }
+
+    @Test
+    public void parse_conditions_returnsQuery() throws Exception {
+        ContractQuery expected = ContractQuery.and(List.of(
+                ContractQuery.date(DateField.START_DATE, Comparison.GREATER_OR_EQUAL, new Date8("01012024")),
+                ContractQuery.date(DateField.END_DATE, Comparison.LESS, new Date8("31122025")),
+                ContractQuery.amount(Comparison.EQUAL, 500),
+                ContractQuery.amount(Comparison.LESS_OR_EQUAL, 600)));
+        assertEquals(new FindCommand(expected, false), parser.parse("SD>=01012024 ed<31122025 am=500 am<=600"));
+        assertEquals(new FindCommand(ContractQuery.expiringWithin(30), false),
+                parser.parse("(-expiring 30)"));
+    }
+
+    @Test
+    public void parse_operatorWordsInKeyword_readAsKeyword() throws Exception {
+        assertEquals(new FindCommand(SearchScope.ORGANIZATION_NAME, "Johnson and Johnson"),
+                parser.parse("-on Johnson and Johnson"));
+        assertEquals(new FindCommand(ContractQuery.and(List.of(
+                ContractQuery.matching(TextField.ORGANIZATION_NAME, "Johnson and Johnson"),
+                ContractQuery.matching(TextField.SPORT, "golf"))), false),
+                parser.parse("-co Johnson and Johnson and -cs golf"));
+        assertEquals(new FindCommand(ContractQuery.or(List.of(
+                ContractQuery.matching(TextField.ORGANIZATION_NAME, "and -cs"),
+                ContractQuery.matching(TextField.SPORT, "golf"))), false),
+                parser.parse("-co \"and -cs\" or -cs golf"));
+    }
+
+    @Test
+    public void parse_explainFlag_returnsExplainedQuery() throws Exception {
+        assertEquals(new FindCommand(ContractQuery.matching(TextField.ATHLETE_NAME, "messi"), true),
+                parser.parse("-ca messi -explain"));
+        assertEquals(new FindCommand(ContractQuery.activeOn(new Date8("15012025")), true),
+                parser.parse("-EXPLAIN -active 15012025"));
+    }
+
+    @Test
+    public void parse_invalidCombinedQuery_throwsParseException() {
+        String onlyContractTerms = FindCommandParser.MESSAGE_ONLY_CONTRACT_TERMS;
+        assertThrows(ParseException.class, onlyContractTerms, () -> parser.parse("-an messi and -co nike"));
+        assertThrows(ParseException.class, onlyContractTerms, () -> parser.parse("-an messi -explain"));
+        String unbalanced = FindCommandParser.MESSAGE_UNBALANCED_PARENTHESES;
+        assertThrows(ParseException.class, unbalanced, () -> parser.parse("(-co nike or -cs golf"));
+        assertThrows(ParseException.class, unbalanced, () -> parser.parse("-co nike) or -cs golf"));
+        assertThrows(ParseException.class, String.format(FindCommandParser.MESSAGE_EXPECTED_TERM, "the end"), () ->
+                parser.parse("-co nike or ("));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_BLANK_KEYWORD, () ->
+                parser.parse("-co and -cs golf"));
+        assertThrows(ParseException.class, Amount.MESSAGE_CONSTRAINTS, () -> parser.parse("-co nike am>lots"));
+        assertThrows(ParseException.class, Date8.MESSAGE_CONSTRAINTS, () -> parser.parse("-co nike ed<=31022025"));
+        assertThrows(ParseException.class, () -> parser.parse("-explain"));
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Unit tests for {@link RunCommandParser}.
+ */
+public class RunCommandParserTest {
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validPath_returnsRunCommand() throws Exception {
+        assertEquals(new RunCommand(Paths.get("roster.txt")), parser.parse("  roster.txt "));
+        assertEquals(new RunCommand(Paths.get("my scripts", "roster.txt")),
+                parser.parse(" \"my scripts/roster.txt\""));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse("   "));
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(" \"\" "));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("roster\0.txt"));
+    }
+}
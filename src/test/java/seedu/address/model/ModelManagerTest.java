@@ -3,11 +3,13 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,8 +17,12 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.exceptions.DuplicateAthleteException;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.athlete.AthleteBuilder;
 import seedu.address.testutil.contract.ContractBuilder;
@@ -39,6 +45,36 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void constructor_addressBookAndLists_singleCombinedStore() {
+        Athlete alice = new AthleteBuilder().withName("Alice Pauline").build();
+        Athlete benson = new AthleteBuilder().withName("Benson Meier").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAthlete(alice);
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(benson);
+
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), athletes, new ContractList(),
+                new OrganizationList());
+        assertEquals(List.of(alice, benson), model.getAddressBook().getAthleteList());
+        assertSame(model.getAddressBook().getAthleteList(), model.getAthleteList().getAthleteList());
+        assertSame(model.getAddressBook().getContractList(), model.getContractList().getContractList());
+        assertSame(model.getAddressBook().getOrganizationList(),
+                model.getOrganizationList().getOrganizationList());
+    }
+
+    @Test
+    public void constructor_athleteInAddressBookAndList_throwsDuplicateAthleteException() {
+        Athlete alice = new AthleteBuilder().withName("Alice Pauline").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAthlete(alice);
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(alice);
+
+        assertThrows(DuplicateAthleteException.class, () -> new ModelManager(addressBook, new UserPrefs(),
+                athletes, new ContractList(), new OrganizationList()));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -103,6 +139,27 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasAthlete(athlete));
     }
 
+    @Test
+    public void getAthleteModificationCount_afterModificationsOnly_increases() {
+        Athlete athlete = new AthleteBuilder().withName("Alice Pauline").build();
+        int initialCount = modelManager.getAthleteModificationCount();
+        int initialContractCount = modelManager.getContractModificationCount();
+        int initialOrganizationCount = modelManager.getOrganizationModificationCount();
+
+        modelManager.hasAthlete(athlete);
+        modelManager.updateFilteredAthleteList(a -> false);
+        assertEquals(initialCount, modelManager.getAthleteModificationCount());
+
+        modelManager.addAthlete(athlete);
+        assertEquals(initialCount + 1, modelManager.getAthleteModificationCount());
+        modelManager.deleteAthlete(athlete);
+        assertEquals(initialCount + 2, modelManager.getAthleteModificationCount());
+
+        // other lists are unaffected
+        assertEquals(initialContractCount, modelManager.getContractModificationCount());
+        assertEquals(initialOrganizationCount, modelManager.getOrganizationModificationCount());
+    }
+
     @Test
     public void getFilteredAthleteList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -166,6 +223,70 @@ public class ModelManagerTest {
         assertTrue(orgs.isEmpty());
     }
 
+    @Test
+    public void deferFilterUpdates_addOrganizations_existingOrganizationsNotRefiltered() {
+        for (String name : List.of("Nike", "Adidas", "Puma", "Reebok", "Asics")) {
+            modelManager.addOrganization(new OrganizationBuilder().withName(name).build());
+        }
+        int[] testedCount = {0};
+        modelManager.updateFilteredOrganizationList(o -> {
+            testedCount[0]++;
+            return !o.getName().fullOrganizationName.startsWith("A");
+        });
+        testedCount[0] = 0;
+
+        modelManager.deferFilterUpdates();
+        for (String name : List.of("Umbro", "Anta", "Fila")) {
+            modelManager.addOrganization(new OrganizationBuilder().withName(name).build());
+        }
+        // at most the added organizations are tested, rather than the whole list after every addition
+        assertTrue(testedCount[0] <= 3);
+
+        modelManager.resumeFilterUpdates();
+        assertEquals(List.of("Nike", "Puma", "Reebok", "Umbro", "Fila"), modelManager.getFilteredOrganizationList()
+                .stream().map(o -> o.getName().fullOrganizationName).toList());
+    }
+
+    @Test
+    public void addAndDeleteContract_filtersSet_onlyChangedContractTested() {
+        Contract contract = new ContractBuilder().build();
+        modelManager.addAthlete(contract.getAthlete());
+        modelManager.addOrganization(contract.getOrganization());
+        int[] athleteTestCount = {0};
+        int[] contractTestCount = {0};
+        modelManager.updateFilteredAthleteList(a -> {
+            athleteTestCount[0]++;
+            return true;
+        });
+        modelManager.updateFilteredContractList(c -> {
+            contractTestCount[0]++;
+            return true;
+        });
+        athleteTestCount[0] = 0;
+
+        modelManager.addContract(contract);
+        assertEquals(List.of(contract), modelManager.getFilteredContractList());
+        modelManager.deleteContract(contract);
+        assertTrue(modelManager.getFilteredContractList().isEmpty());
+
+        assertEquals(0, athleteTestCount[0]);
+        assertEquals(1, contractTestCount[0]);
+    }
+
+    @Test
+    public void updateFilteredAthleteList_samePredicate_notTestedAgain() {
+        modelManager.addAthlete(new AthleteBuilder().build());
+        int[] testedCount = {0};
+        Predicate<Athlete> predicate = a -> {
+            testedCount[0]++;
+            return true;
+        };
+
+        modelManager.updateFilteredAthleteList(predicate);
+        modelManager.updateFilteredAthleteList(predicate);
+        assertEquals(1, testedCount[0]);
+    }
+
     // ============================================================
     // Helper
     // ============================================================
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +21,27 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setSearchCacheMemoryBudget_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setSearchCacheMemoryBudget(-1));
+    }
+
+    @Test
+    public void constructor_copiesSearchCacheMemoryBudget() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSearchCacheMemoryBudget(0);
+        assertEquals(0, new UserPrefs(userPrefs).getSearchCacheMemoryBudget());
+    }
+
+    @Test
+    public void constructor_copiesCompactDataFiles() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCompactDataFiles(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isCompactDataFiles());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
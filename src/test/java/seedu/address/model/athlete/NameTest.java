@@ -1,6 +1,8 @@
 package seedu.address.model.athlete;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,17 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new seedu.address.model.athlete.Name(invalidName));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Name.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Name.of(""));
+
+        Name name = Name.of("Alice Pauline");
+        assertSame(name, Name.of("Alice Pauline"));
+        assertSame(name, Name.of("  Alice   Pauline "));
+        assertEquals(new Name("Alice Pauline"), name);
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -1,6 +1,9 @@
 package seedu.address.model.athlete;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -18,6 +21,24 @@ public class SportTest {
         assertThrows(IllegalArgumentException.class, () -> new seedu.address.model.athlete.Sport(invalidSport));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Sport.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Sport.of(""));
+
+        Sport sport = Sport.of("Table Tennis");
+        assertSame(sport, Sport.of("Table Tennis"));
+        assertSame(sport, Sport.of(" Table   Tennis "));
+        assertEquals(new Sport("Table Tennis"), sport);
+
+        // differs in casing -> equal, but keeps its own casing
+        Sport lowerCase = Sport.of("table tennis");
+        assertNotSame(sport, lowerCase);
+        assertEquals(sport, lowerCase);
+        assertEquals(sport.hashCode(), lowerCase.hashCode());
+        assertEquals("table tennis", lowerCase.value);
+    }
+
     @Test
     public void isValidSport() {
         // null sport
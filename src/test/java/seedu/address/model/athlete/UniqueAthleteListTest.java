@@ -44,6 +44,23 @@ public class UniqueAthleteListTest {
         assertTrue(uniqueAthleteList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_athleteWithDifferentlyCasedIdentityFieldsInList_returnsTrue() {
+        uniqueAthleteList.add(ALICE);
+        Athlete upperCaseAlice = new AthleteBuilder(ALICE)
+                .withName(ALICE.getName().fullName.toUpperCase())
+                .withSport(ALICE.getSport().value.toUpperCase())
+                .build();
+        assertTrue(uniqueAthleteList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedAthlete_returnsFalse() {
+        uniqueAthleteList.add(ALICE);
+        uniqueAthleteList.remove(ALICE);
+        assertFalse(uniqueAthleteList.contains(ALICE));
+    }
+
     @Test
     public void add_nullAthlete_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAthleteList.add(null));
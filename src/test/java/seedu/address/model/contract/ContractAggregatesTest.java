@@ -0,0 +1,149 @@
+package seedu.address.model.contract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalOrganizations.ADIDAS;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.athlete.AthleteBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class ContractAggregatesTest {
+
+    private final Contract aliceNike = new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE)
+            .withAmount(100).build();
+    private final Contract aliceAdidas = new ContractBuilder().withAthlete(ALICE).withOrganization(ADIDAS)
+            .withAmount(200).build();
+    private final Contract aliceNikeRenewal = new ContractBuilder(aliceNike).withStartDate("01012025")
+            .withEndDate("31122025").withAmount(400).build();
+    private final Contract bensonNike = new ContractBuilder().withAthlete(BENSON).withOrganization(NIKE)
+            .withAmount(800).build();
+
+    @Test
+    public void constructor_existingContracts_counted() {
+        UniqueContractList contracts = new UniqueContractList();
+        contracts.setContracts(List.of(aliceNike, aliceAdidas, aliceNikeRenewal, bensonNike));
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+
+        ContractTally<?> alice = aggregates.getAthleteTally(ALICE);
+        assertEquals(700, alice.getTotalAmount());
+        assertEquals(3, alice.getContractCount());
+        assertEquals(List.of(NIKE, ADIDAS), alice.getCounterparts());
+
+        ContractTally<?> nike = aggregates.getOrganizationTally(NIKE);
+        assertEquals(1300, nike.getTotalAmount());
+        assertEquals(3, nike.getContractCount());
+        assertEquals(List.of(ALICE, BENSON), nike.getCounterparts());
+    }
+
+    @Test
+    public void getContracts_afterChanges_onlyCurrentContracts() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+        contracts.setContracts(List.of(aliceNike, aliceAdidas, bensonNike));
+        contracts.remove(aliceAdidas);
+
+        assertEquals(Set.of(aliceNike), aggregates.getAthleteTally(ALICE.getName(), ALICE.getSport()).getContracts());
+        assertEquals(Set.of(aliceNike, bensonNike), aggregates.getOrganizationTally(NIKE.getName()).getContracts());
+        assertTrue(aggregates.getOrganizationTally(ADIDAS).getContracts().isEmpty());
+    }
+
+    @Test
+    public void addListener_contractsChanged_notifiedAfterTalliesUpdated() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+        List<Integer> contractCounts = new ArrayList<>();
+        aggregates.addListener(observable -> contractCounts.add(
+                aggregates.getAthleteTally(ALICE).getContractCount()));
+
+        contracts.add(aliceNike);
+        contracts.add(bensonNike);
+        contracts.remove(aliceNike);
+        assertEquals(List.of(1, 1, 0), contractCounts);
+    }
+
+    @Test
+    public void getTotalAmount_sumExceedsLong_saturatesUntilBackInRange() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+        Contract large = new Contract(ALICE, ALICE.getSport(), NIKE, aliceNike.getStartDate(),
+                aliceNike.getEndDate(), new Amount(Long.MAX_VALUE - 1));
+        Contract larger = new Contract(ALICE, ALICE.getSport(), ADIDAS, aliceNike.getStartDate(),
+                aliceNike.getEndDate(), new Amount(Long.MAX_VALUE));
+
+        contracts.add(large);
+        contracts.add(larger);
+        assertEquals(Long.MAX_VALUE, aggregates.getAthleteTally(ALICE).getTotalAmount());
+
+        contracts.add(aliceNikeRenewal);
+        contracts.remove(larger);
+        assertEquals(Long.MAX_VALUE, aggregates.getAthleteTally(ALICE).getTotalAmount());
+
+        contracts.remove(aliceNikeRenewal);
+        assertEquals(Long.MAX_VALUE - 1, aggregates.getAthleteTally(ALICE).getTotalAmount());
+    }
+
+    @Test
+    public void getAthleteTally_athleteWithSameIdentity_sameTally() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+        contracts.add(aliceNike);
+
+        ContractTally<?> editedAlice = aggregates.getAthleteTally(new AthleteBuilder(ALICE).withAge("40").build());
+        assertEquals(100, editedAlice.getTotalAmount());
+    }
+
+    @Test
+    public void getAthleteTally_noContracts_emptyTally() {
+        ContractAggregates aggregates = new ContractAggregates(new UniqueContractList().asUnmodifiableObservableList());
+
+        ContractTally<?> alice = aggregates.getAthleteTally(ALICE);
+        assertTrue(alice.isEmpty());
+        assertEquals(0, alice.getTotalAmount());
+        assertTrue(alice.getCounterparts().isEmpty());
+        assertTrue(aggregates.getOrganizationTally(NIKE).isEmpty());
+    }
+
+    @Test
+    public void onContractsChanged_addAndRemove_updatedIncrementally() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+
+        contracts.add(aliceNike);
+        contracts.add(aliceAdidas);
+        contracts.add(aliceNikeRenewal);
+        contracts.remove(aliceNike);
+
+        ContractTally<?> alice = aggregates.getAthleteTally(ALICE);
+        assertEquals(600, alice.getTotalAmount());
+        assertEquals(2, alice.getContractCount());
+        assertEquals(List.of(NIKE, ADIDAS), alice.getCounterparts());
+
+        contracts.remove(aliceAdidas);
+        assertEquals(List.of(NIKE), aggregates.getAthleteTally(ALICE).getCounterparts());
+        assertTrue(aggregates.getOrganizationTally(ADIDAS).isEmpty());
+    }
+
+    @Test
+    public void onContractsChanged_contractsReplaced_matchesFullScan() {
+        UniqueContractList contracts = new UniqueContractList();
+        ContractAggregates aggregates = new ContractAggregates(contracts.asUnmodifiableObservableList());
+        contracts.setContracts(List.of(aliceNike, bensonNike));
+        contracts.setContracts(List.of(aliceAdidas, aliceNikeRenewal, bensonNike));
+
+        assertEquals(ALICE.getTotalContractAmount(contracts.asUnmodifiableObservableList()),
+                aggregates.getAthleteTally(ALICE).getTotalAmount());
+        assertEquals(NIKE.getTotalContractAmount(contracts.asUnmodifiableObservableList()),
+                aggregates.getOrganizationTally(NIKE).getTotalAmount());
+        assertEquals(NIKE.getAthletes(contracts.asUnmodifiableObservableList()),
+                aggregates.getOrganizationTally(NIKE).getCounterparts());
+    }
+}
@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +43,43 @@ class Date8Test {
     void toLocalDate_ok() {
         Date8 d = new Date8("01012025");
         assertEquals(LocalDate.of(2025, 1, 1), d.toLocalDate());
+        assertEquals(LocalDate.of(2025, 1, 1).toEpochDay(), d.getEpochDay());
+    }
+
+    @Test
+    void isValidDate8_sameAsStrictFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("ddMMuuuu").withResolverStyle(ResolverStyle.STRICT);
+        for (int year : new int[] {0, 1, 1899, 1900, 1970, 1999, 2000, 2023, 2024, 2100, 9999}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String text = String.format("%02d%02d%04d", day, month, year);
+                    LocalDate expected;
+                    try {
+                        expected = LocalDate.parse(text, formatter);
+                    } catch (DateTimeParseException e) {
+                        expected = null;
+                    }
+                    assertEquals(expected != null, Date8.isValidDate8(text), text);
+                    if (expected != null) {
+                        assertEquals(expected, new Date8(text).toLocalDate(), text);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void compareTo() {
+        Date8 earlier = new Date8("31122024");
+        Date8 later = new Date8("01012025");
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new Date8("31122024")));
+        assertTrue(earlier.isBefore(later));
+        assertFalse(earlier.isAfter(later));
+        assertTrue(later.isAfter(earlier));
+        assertFalse(later.isAfter(new Date8("01012025")));
     }
 
     @Test
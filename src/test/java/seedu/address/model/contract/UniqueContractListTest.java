@@ -139,6 +139,28 @@ class UniqueContractListTest {
         assertThrows(DuplicateContractException.class, () -> list.setContracts(withDupes));
     }
 
+    @Test
+    void setContracts_replacesContents_oldContractsNotContained() {
+        UniqueContractList list = new UniqueContractList();
+        Contract c1 = new ContractBuilder().withAmount(100).build();
+        Contract c2 = new ContractBuilder().withAmount(200).build();
+        list.add(c1);
+        list.setContracts(List.of(c2));
+        assertFalse(list.contains(c1));
+        assertTrue(list.contains(c2));
+    }
+
+    @Test
+    void setContracts_withDuplicates_listUnchanged() {
+        UniqueContractList list = new UniqueContractList();
+        Contract c1 = new ContractBuilder().withAmount(100).build();
+        Contract c2 = new ContractBuilder().withAmount(200).build();
+        list.add(c1);
+        assertThrows(DuplicateContractException.class, () -> list.setContracts(List.of(c2, c2)));
+        assertTrue(list.contains(c1));
+        assertFalse(list.contains(c2));
+    }
+
     @Test
     void asUnmodifiableObservableList_modification_throwsUnsupportedOperationException() {
         UniqueContractList list = new UniqueContractList();
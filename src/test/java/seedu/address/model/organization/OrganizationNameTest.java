@@ -1,6 +1,8 @@
 package seedu.address.model.organization;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -22,6 +24,17 @@ public class OrganizationNameTest {
         assertThrows(IllegalArgumentException.class, () -> new OrganizationName(invalidName));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> OrganizationName.of(null));
+        assertThrows(IllegalArgumentException.class, () -> OrganizationName.of(""));
+
+        OrganizationName name = OrganizationName.of("Nike Inc");
+        assertSame(name, OrganizationName.of("Nike Inc"));
+        assertSame(name, OrganizationName.of("  Nike   Inc "));
+        assertEquals(new OrganizationName("Nike Inc"), name);
+    }
+
     @Test
     public void isValidName() {
         // null name
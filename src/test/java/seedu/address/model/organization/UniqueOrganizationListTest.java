@@ -117,6 +117,17 @@ public class UniqueOrganizationListTest {
         assertEquals(expectedList, uniqueOrganizationList);
     }
 
+    @Test
+    public void setOrganization_editedOrganizationHasDifferentIdentity_oldIdentityReleased() {
+        uniqueOrganizationList.add(nike);
+        uniqueOrganizationList.setOrganization(nike, adidas);
+        assertFalse(uniqueOrganizationList.contains(nike));
+        assertTrue(uniqueOrganizationList.contains(adidas));
+
+        uniqueOrganizationList.add(nike);
+        assertTrue(uniqueOrganizationList.contains(nike));
+    }
+
     @Test
     public void setOrganization_editedOrganizationHasNonUniqueIdentity_throwsDuplicateOrganizationException() {
         uniqueOrganizationList.add(nike);
@@ -0,0 +1,182 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.contract.Date8;
+
+public class DateIntervalIndexTest {
+
+    private static final DateTimeFormatter DDMMYYYY = DateTimeFormatter.ofPattern("ddMMuuuu");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    public void findActiveOn_intervalsIncludeBothEnds() {
+        Interval january = interval(0, 30);
+        Interval february = interval(31, 59);
+        ObservableList<Interval> intervals = FXCollections.observableArrayList(january, february);
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+
+        assertEquals(Set.of(january), index.findActiveOn(day(0)));
+        assertEquals(Set.of(january), index.findActiveOn(day(30)));
+        assertEquals(Set.of(february), index.findActiveOn(day(31)));
+        assertTrue(index.findActiveOn(day(60)).isEmpty());
+        assertTrue(index.findActiveOn(day(-1)).isEmpty());
+    }
+
+    @Test
+    public void findEndingBetween_rangeIncludesBothEnds() {
+        Interval january = interval(0, 30);
+        Interval february = interval(31, 59);
+        ObservableList<Interval> intervals = FXCollections.observableArrayList(january, february);
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+
+        assertEquals(Set.of(january), index.findEndingBetween(day(0), day(30)));
+        assertEquals(Set.of(january, february), index.findEndingBetween(day(30), day(59)));
+        assertTrue(index.findEndingBetween(day(31), day(58)).isEmpty());
+        assertTrue(index.findEndingBetween(day(59), day(30)).isEmpty());
+    }
+
+    @Test
+    public void counts_boundNumberFound() {
+        ObservableList<Interval> intervals = FXCollections.observableArrayList(interval(0, 30), interval(31, 59),
+                interval(40, 59));
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+
+        assertEquals(2, index.countEndingBetween(day(31), day(59)));
+        assertEquals(0, index.countEndingBetween(day(59), day(30)));
+        assertEquals(3, index.estimateActiveOn(day(30)));
+        assertEquals(1, index.findActiveOn(day(30)).size());
+        assertEquals(0, index.estimateActiveOn(day(60)));
+    }
+
+    @Test
+    public void find_randomIntervalsAndChanges_sameAsCheckingEachInterval() {
+        Random random = new Random(15);
+        ObservableList<Interval> intervals = FXCollections.observableArrayList();
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+        for (int i = 0; i < 500; i++) {
+            intervals.add(randomInterval(random));
+        }
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 200; i++) {
+                int dayOffset = random.nextInt(800) - 20;
+                int day = day(dayOffset);
+                assertEquals(intervals.stream()
+                        .filter(interval -> interval.start.getEpochDay() <= day && day <= interval.end.getEpochDay())
+                        .collect(Collectors.toSet()), new HashSet<>(index.findActiveOn(day)), "day " + dayOffset);
+
+                int lastDay = day + random.nextInt(90);
+                assertEquals(intervals.stream()
+                        .filter(interval -> day <= interval.end.getEpochDay() && interval.end.getEpochDay() <= lastDay)
+                        .collect(Collectors.toSet()), new HashSet<>(index.findEndingBetween(day, lastDay)),
+                        "days " + dayOffset + " to " + (lastDay - FIRST_DAY.toEpochDay()));
+            }
+            intervals.subList(0, 150).clear();
+            intervals.set(random.nextInt(intervals.size()), randomInterval(random));
+            for (int i = 0; i < 150; i++) {
+                intervals.add(randomInterval(random));
+            }
+        }
+    }
+
+    @Test
+    public void activeOn_listChangedAfterwards_followsChanges() {
+        ObservableList<Interval> intervals = FXCollections.observableArrayList(interval(0, 10));
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+        Predicate<Interval> active = index.activeOn(day(5));
+        Predicate<Interval> ending = index.endingBetween(day(0), day(20));
+
+        Interval added = interval(5, 20);
+        assertFalse(active.test(added));
+        intervals.add(added);
+        assertTrue(active.test(added));
+        assertTrue(ending.test(added));
+
+        intervals.remove(added);
+        assertFalse(active.test(added));
+        assertFalse(ending.test(added));
+        assertEquals(List.of(true), intervals.stream().map(active::test).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void activeOn_randomChangesAfterSearch_sameAsCheckingEachInterval() {
+        Random random = new Random(16);
+        ObservableList<Interval> intervals = FXCollections.observableArrayList();
+        DateIntervalIndex<Interval> index = new DateIntervalIndex<>(intervals, Interval::start, Interval::end);
+        for (int i = 0; i < 300; i++) {
+            intervals.add(randomInterval(random));
+        }
+        int day = day(365);
+        Predicate<Interval> active = index.activeOn(day);
+        Predicate<Interval> ending = index.endingBetween(day, day + 60);
+        active.test(intervals.get(0)); // searches the index
+        ending.test(intervals.get(0));
+
+        for (int round = 0; round < 3; round++) {
+            intervals.subList(0, 100).clear();
+            for (int i = 0; i < 100; i++) {
+                intervals.add(randomInterval(random));
+            }
+            assertEquals(intervals.stream()
+                    .filter(interval -> interval.start.getEpochDay() <= day && day <= interval.end.getEpochDay())
+                    .collect(Collectors.toSet()), intervals.stream().filter(active).collect(Collectors.toSet()));
+            assertEquals(intervals.stream()
+                    .filter(interval -> day <= interval.end.getEpochDay() && interval.end.getEpochDay() <= day + 60)
+                    .collect(Collectors.toSet()), intervals.stream().filter(ending).collect(Collectors.toSet()));
+        }
+    }
+
+    private static Interval randomInterval(Random random) {
+        int start = random.nextInt(730);
+        return interval(start, start + random.nextInt(random.nextBoolean() ? 30 : 400));
+    }
+
+    private static Interval interval(int startOffset, int endOffset) {
+        return new Interval(date(startOffset), date(endOffset));
+    }
+
+    private static Date8 date(int offset) {
+        return new Date8(FIRST_DAY.plusDays(offset).format(DDMMYYYY));
+    }
+
+    private static int day(int offset) {
+        return (int) FIRST_DAY.plusDays(offset).toEpochDay();
+    }
+
+    /**
+     * An interval from {@code start} to {@code end}, compared by reference.
+     */
+    private static class Interval {
+        private final Date8 start;
+        private final Date8 end;
+
+        Interval(Date8 start, Date8 end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        Date8 start() {
+            return start;
+        }
+
+        Date8 end() {
+            return end;
+        }
+    }
+}
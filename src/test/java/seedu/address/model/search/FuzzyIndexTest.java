@@ -0,0 +1,171 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FuzzyIndexTest {
+
+    private static final String ALPHABET = "abcdeAB -";
+
+    @Test
+    public void find_misspelledKeyword_matchesTextAndWords() {
+        ObservableList<String> texts = FXCollections.observableArrayList("Alice Pauline", "Benson Meier", "Nike");
+        FuzzyIndex<String> index = new FuzzyIndex<>(texts, Function.identity());
+
+        assertEquals(Set.of("Alice Pauline"), index.find("aliec"));
+        assertEquals(Set.of("Alice Pauline"), index.find("pauline"));
+        assertEquals(Set.of("Benson Meier"), index.find("bensen meier"));
+        assertEquals(Set.of("Nike"), index.find("nikr"));
+        assertTrue(index.find("zzzzzz").isEmpty());
+    }
+
+    @Test
+    public void find_randomTextsAndKeywords_sameAsMatchingEachText() {
+        Random random = new Random(8);
+        ObservableList<String> texts = FXCollections.observableArrayList();
+        FuzzyIndex<String> index = new FuzzyIndex<>(texts, Function.identity());
+        for (int i = 0; i < 300; i++) {
+            texts.add(randomText(random, 14));
+        }
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 300; i++) {
+                String keyword = randomKeyword(random, texts);
+                assertEquals(findByMatchingEachText(texts, keyword), new HashSet<>(index.find(keyword)),
+                        "keyword: " + keyword);
+            }
+            texts.subList(0, 100).clear();
+            for (int i = 0; i < 100; i++) {
+                texts.add(randomText(random, 14));
+            }
+        }
+    }
+
+    @Test
+    public void matching_listChangedAfterwards_followsChanges() {
+        ObservableList<String> texts = FXCollections.observableArrayList("Nike");
+        FuzzyIndex<String> index = new FuzzyIndex<>(texts, Function.identity());
+        Predicate<String> predicate = index.matching("adidas");
+        assertFalse(predicate.test("Adidas"));
+
+        String adidas = "Adidas";
+        texts.add(adidas);
+        assertTrue(predicate.test(adidas));
+
+        texts.remove(adidas);
+        assertFalse(predicate.test(adidas));
+    }
+
+    @Test
+    public void matching_randomChangesAfterSearch_sameAsMatchingEachText() {
+        Random random = new Random(9);
+        ObservableList<String> texts = FXCollections.observableArrayList();
+        FuzzyIndex<String> index = new FuzzyIndex<>(texts, Function.identity());
+        for (int i = 0; i < 200; i++) {
+            texts.add(randomText(random, 14));
+        }
+        List<String> keywords = new ArrayList<>();
+        List<Predicate<String>> predicates = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String keyword = randomKeyword(random, texts);
+            keywords.add(keyword);
+            predicates.add(index.matching(keyword));
+            predicates.get(i).test(texts.get(0)); // searches the index
+        }
+
+        for (int round = 0; round < 3; round++) {
+            texts.subList(0, 50).clear();
+            for (int i = 0; i < 50; i++) {
+                texts.add(randomText(random, 14));
+            }
+            for (int i = 0; i < keywords.size(); i++) {
+                assertEquals(findByMatchingEachText(texts, keywords.get(i)),
+                        texts.stream().filter(predicates.get(i)).collect(Collectors.toSet()),
+                        "keyword: " + keywords.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_randomKeywords_includeMatchesAndWithinEstimate() {
+        Random random = new Random(10);
+        ObservableList<String> texts = FXCollections.observableArrayList();
+        FuzzyIndex<String> index = new FuzzyIndex<>(texts, Function.identity());
+        for (int i = 0; i < 300; i++) {
+            texts.add(randomText(random, 14));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String keyword = randomKeyword(random, texts);
+            Set<String> candidates = index.findCandidates(keyword);
+            assertTrue(candidates.containsAll(index.find(keyword)), "keyword: " + keyword);
+            assertTrue(candidates.size() <= index.estimateCandidates(keyword), "keyword: " + keyword);
+            assertEquals(findByMatchingEachText(texts, keyword), candidates.stream()
+                    .filter(text -> index.recordMatches(text, keyword)).collect(Collectors.toSet()),
+                    "keyword: " + keyword);
+        }
+    }
+
+    @Test
+    public void matches_emptyKeyword_matchesEverything() {
+        assertTrue(FuzzyIndex.matches("", ""));
+        assertTrue(FuzzyIndex.matches("Nike", ""));
+        assertEquals(Set.of("", "Nike"),
+                new FuzzyIndex<>(FXCollections.observableArrayList("", "Nike"), Function.identity()).find(""));
+    }
+
+    private static Set<String> findByMatchingEachText(List<String> texts, String keyword) {
+        return texts.stream().filter(text -> FuzzyIndex.matches(text, keyword)).collect(Collectors.toSet());
+    }
+
+    private static String randomKeyword(Random random, List<String> texts) {
+        if (random.nextBoolean()) {
+            return randomText(random, 13).toLowerCase();
+        }
+        // A slightly edited text, so that there are near misses
+        StringBuilder keyword = new StringBuilder(texts.get(random.nextInt(texts.size())).toLowerCase());
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && keyword.length() > 0; i++) {
+            int position = random.nextInt(keyword.length());
+            switch (random.nextInt(3)) {
+            case 0:
+                keyword.deleteCharAt(position);
+                break;
+            case 1:
+                keyword.insert(position, randomChar(random));
+                break;
+            default:
+                keyword.setCharAt(position, randomChar(random));
+            }
+        }
+        return keyword.toString().toLowerCase();
+    }
+
+    private static String randomText(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(randomChar(random));
+        }
+        return text.toString();
+    }
+
+    private static char randomChar(Random random) {
+        return ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.search.ContractQuery.Comparison;
+import seedu.address.model.search.ContractQuery.DateField;
+import seedu.address.model.search.ContractQuery.TextField;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.athlete.AthleteBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class QueryPlanTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+    private static final String[] NAMES = {"Lionel Messi", "Lionel Richie", "Cristiano Ronaldo", "LeBron James",
+        "Roger Federer", "Serena Williams"};
+    private static final String[] SPORTS = {"Football", "Basketball", "Tennis", "Golf"};
+    private static final String[] ORGANIZATIONS = {"Nike", "Adidas", "Puma", "Inter Miami CF", "Uniqlo"};
+    private static final String[] KEYWORDS = {"lionel", "messi", "ronaldo", "federrer", "football", "tenis", "nike",
+        "adiddas", "uniqlo", "zz"};
+
+    private final ObservableList<Contract> contracts = FXCollections.observableArrayList();
+    private final SearchIndex index = new SearchIndex(FXCollections.<Athlete>observableArrayList(),
+            FXCollections.<Organization>observableArrayList(), contracts, 0);
+
+    @Test
+    public void execute_randomQueries_sameAsCheckingEachContract() {
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            contracts.add(randomContract(random));
+        }
+        for (int i = 0; i < 500; i++) {
+            List<Predicate<Contract>> expected = new ArrayList<>();
+            ContractQuery query = randomQuery(random, 3, expected);
+            assertEquals(contracts.stream().filter(expected.get(0)).collect(Collectors.toList()),
+                    contracts.filtered(index.planContracts(query, TODAY).execute()),
+                    "Query: " + query);
+        }
+    }
+
+    @Test
+    public void execute_fewestCandidatesFoundFirst() {
+        for (int i = 0; i < 40; i++) {
+            contracts.add(contract("Cristiano Ronaldo", "Football", "Nike", 1000 + i));
+        }
+        contracts.add(contract("Lionel Messi", "Football", "Adidas", 5000000));
+
+        QueryPlan<Contract> plan = index.planContracts(ContractQuery.and(List.of(
+                ContractQuery.matching(TextField.SPORT, "football"),
+                ContractQuery.matching(TextField.ATHLETE_NAME, "lionel messi"),
+                ContractQuery.amount(Comparison.GREATER, 1000000))), TODAY);
+        assertEquals(1, contracts.filtered(plan.execute()).size());
+
+        List<String> steps = plan.getSteps();
+        assertTrue(steps.get(0).startsWith("find -ca \"lionel messi\""), String.join("\n", steps));
+        assertTrue(steps.get(2).startsWith("check -cs \"football\" on each candidate"), String.join("\n", steps));
+        assertTrue(steps.get(steps.size() - 1).endsWith("on 1 candidates: 1 match"), String.join("\n", steps));
+    }
+
+    @Test
+    public void execute_similarCandidates_intersected() {
+        contracts.add(contract("Lionel Messi", "Football", "Adidas", 5000000));
+        contracts.add(contract("Lionel Messi", "Golf", "Nike", 5000000));
+        contracts.add(contract("Cristiano Ronaldo", "Football", "Nike", 5000000));
+
+        QueryPlan<Contract> plan = index.planContracts(ContractQuery.and(List.of(
+                ContractQuery.matching(TextField.ATHLETE_NAME, "messi"),
+                ContractQuery.matching(TextField.ORGANIZATION_NAME, "nike"))), TODAY);
+        assertEquals(List.of(contracts.get(1)), contracts.filtered(plan.execute()));
+        assertTrue(plan.getSteps().stream().anyMatch(step -> step.startsWith("intersect")),
+                String.join("\n", plan.getSteps()));
+    }
+
+    @Test
+    public void execute_noIndexedTerm_scansAllContracts() {
+        contracts.add(contract("Lionel Messi", "Football", "Adidas", 5000000));
+        contracts.add(contract("Cristiano Ronaldo", "Football", "Nike", 1000));
+
+        QueryPlan<Contract> plan = index.planContracts(ContractQuery.or(List.of(
+                ContractQuery.amount(Comparison.GREATER_OR_EQUAL, 5000000),
+                ContractQuery.not(ContractQuery.matching(TextField.ORGANIZATION_NAME, "nike")))), TODAY);
+        assertEquals(List.of(contracts.get(0)), contracts.filtered(plan.execute()));
+        assertTrue(plan.getSteps().get(0).startsWith("scan all 2 contracts"));
+    }
+
+    @Test
+    public void execute_listChangedAfterwards_followsChanges() {
+        contracts.add(contract("Lionel Messi", "Football", "Adidas", 5000000));
+        Predicate<Contract> predicate = index.planContracts(ContractQuery.and(List.of(
+                ContractQuery.matching(TextField.ATHLETE_NAME, "messi"),
+                ContractQuery.amount(Comparison.GREATER, 1000000))), TODAY).execute();
+
+        Contract cheaper = contract("Lionel Messi", "Golf", "Nike", 1000);
+        Contract later = contract("Lionel Messi", "Golf", "Puma", 2000000);
+        contracts.addAll(cheaper, later);
+        assertEquals(List.of(true, false, true), contracts.stream().map(predicate::test)
+                .collect(Collectors.toList()));
+    }
+
+    private static Contract contract(String name, String sport, String organization, int amount) {
+        return new ContractBuilder()
+                .withAthlete(new AthleteBuilder().withName(name).withSport(sport).build())
+                .withSport(sport)
+                .withOrganization(new OrganizationBuilder().withName(organization).build())
+                .withAmount(amount)
+                .build();
+    }
+
+    private static Contract randomContract(Random random) {
+        String sport = SPORTS[random.nextInt(SPORTS.length)];
+        LocalDate start = TODAY.plusDays(random.nextInt(800) - 400);
+        LocalDate end = start.plusDays(random.nextInt(400));
+        return new ContractBuilder()
+                .withAthlete(new AthleteBuilder().withName(NAMES[random.nextInt(NAMES.length)])
+                        .withSport(sport).build())
+                .withSport(sport)
+                .withOrganization(new OrganizationBuilder()
+                        .withName(ORGANIZATIONS[random.nextInt(ORGANIZATIONS.length)]).build())
+                .withStartDate(date8Of(start).value)
+                .withEndDate(date8Of(end).value)
+                .withAmount(1 + random.nextInt(10000))
+                .build();
+    }
+
+    /**
+     * Returns a random query of at most {@code depth} levels, and adds a predicate that checks a contract against
+     * it by itself to {@code expected}.
+     */
+    private static ContractQuery randomQuery(Random random, int depth, List<Predicate<Contract>> expected) {
+        int kind = random.nextInt(depth > 0 ? 8 : 5);
+        if (kind <= 4) {
+            return randomTerm(random, kind, expected);
+        }
+        if (kind == 5) {
+            List<Predicate<Contract>> child = new ArrayList<>();
+            ContractQuery query = ContractQuery.not(randomQuery(random, depth - 1, child));
+            expected.add(child.get(0).negate());
+            return query;
+        }
+        List<ContractQuery> queries = new ArrayList<>();
+        List<Predicate<Contract>> children = new ArrayList<>();
+        for (int i = 2 + random.nextInt(2); i > 0; i--) {
+            queries.add(randomQuery(random, depth - 1, children));
+        }
+        if (kind == 6) {
+            expected.add(contract -> children.stream().allMatch(child -> child.test(contract)));
+            return ContractQuery.and(queries);
+        }
+        expected.add(contract -> children.stream().anyMatch(child -> child.test(contract)));
+        return ContractQuery.or(queries);
+    }
+
+    private static ContractQuery randomTerm(Random random, int kind, List<Predicate<Contract>> expected) {
+        LocalDate day = TODAY.plusDays(random.nextInt(800) - 400);
+        Comparison comparison = Comparison.values()[random.nextInt(Comparison.values().length)];
+        switch (kind) {
+        case 0:
+            TextField field = TextField.values()[random.nextInt(TextField.values().length)];
+            String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+            expected.add(contract -> FuzzyIndex.matches(textOf(contract, field), keyword));
+            return ContractQuery.matching(field, keyword);
+        case 1:
+            expected.add(contract -> !contract.getStartDate().toLocalDate().isAfter(day)
+                    && !contract.getEndDate().toLocalDate().isBefore(day));
+            return ContractQuery.activeOn(date8Of(day));
+        case 2:
+            int days = random.nextInt(200);
+            expected.add(contract -> !contract.getEndDate().toLocalDate().isBefore(TODAY)
+                    && !contract.getEndDate().toLocalDate().isAfter(TODAY.plusDays(days)));
+            return ContractQuery.expiringWithin(days);
+        case 3:
+            long amount = 1 + random.nextInt(10000);
+            expected.add(contract -> comparison.test(contract.getAmount().value, amount));
+            return ContractQuery.amount(comparison, amount);
+        default:
+            DateField dateField = random.nextBoolean() ? DateField.START_DATE : DateField.END_DATE;
+            expected.add(contract -> comparison.test((dateField == DateField.START_DATE ? contract.getStartDate()
+                    : contract.getEndDate()).toLocalDate().toEpochDay(), day.toEpochDay()));
+            return ContractQuery.date(dateField, comparison, date8Of(day));
+        }
+    }
+
+    private static String textOf(Contract contract, TextField field) {
+        switch (field) {
+        case ATHLETE_NAME:
+            return contract.getAthlete().getName().toString();
+        case ORGANIZATION_NAME:
+            return contract.getOrganization().getName().toString();
+        default:
+            return contract.getSport().toString();
+        }
+    }
+
+    private static Date8 date8Of(LocalDate date) {
+        return new Date8(String.format("%02d%02d%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear()));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+import seedu.address.testutil.athlete.AthleteBuilder;
+
+public class SearchIndexTest {
+
+    private final ObservableList<Athlete> athletes = FXCollections.observableArrayList(
+            new AthleteBuilder().withName("Lionel Messi").build(),
+            new AthleteBuilder().withName("Lionel Richie").build(),
+            new AthleteBuilder().withName("Cristiano Ronaldo").build());
+    private final ObservableList<Organization> organizations = FXCollections.observableArrayList();
+    private final ObservableList<Contract> contracts = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_negativeMemoryBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SearchIndex(athletes, organizations, contracts, -1));
+    }
+
+    @Test
+    public void athletesMatchingName_repeatedAndAfterChanges_sameAsNewIndex() {
+        SearchIndex index = new SearchIndex(athletes, organizations, contracts, 1024 * 1024);
+        assertEquals(List.of("Lionel Messi", "Lionel Richie"), namesMatching(index, "lionel"));
+        assertEquals(List.of("Lionel Messi", "Lionel Richie"), namesMatching(index, "lionel"));
+
+        athletes.remove(0);
+        athletes.add(new AthleteBuilder().withName("Lionel Scaloni").build());
+        assertEquals(List.of("Lionel Richie", "Lionel Scaloni"), namesMatching(index, "lionel"));
+        assertEquals(namesMatching(new SearchIndex(athletes, organizations, contracts, 0), "lionel"),
+                namesMatching(index, "lionel"));
+    }
+
+    @Test
+    public void athletesMatchingName_listChangedAfterwards_followsChanges() {
+        SearchIndex index = new SearchIndex(athletes, organizations, contracts, 1024 * 1024);
+        index.athletesMatchingName("lionel");
+        Predicate<Athlete> predicate = index.athletesMatchingName("lionel");
+
+        Athlete scaloni = new AthleteBuilder().withName("Lionel Scaloni").build();
+        athletes.add(scaloni);
+        assertEquals(List.of(true, true, false, true), athletes.stream().map(predicate::test)
+                .collect(Collectors.toList()));
+    }
+
+    private List<String> namesMatching(SearchIndex index, String keywordLower) {
+        return athletes.filtered(index.athletesMatchingName(keywordLower)).stream()
+                .map(athlete -> athlete.getName().fullName).collect(Collectors.toList());
+    }
+}
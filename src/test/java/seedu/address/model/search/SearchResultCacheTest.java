@@ -0,0 +1,122 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchResultCacheTest {
+
+    private final List<String> records = IntStream.range(0, 1000).mapToObj(i -> "record " + i)
+            .collect(Collectors.toList());
+    private int searchCount = 0;
+
+    @Test
+    public void find_sameVersion_searchesOnce() {
+        SearchResultCache cache = new SearchResultCache(1024 * 1024);
+        Set<String> first = cache.find("odd", records, 0, recordsAt(1, 3, 999));
+        Set<String> second = cache.find("odd", records, 0, recordsAt(1, 3, 999));
+
+        assertEquals(1, searchCount);
+        assertEquals(Set.of("record 1", "record 3", "record 999"), first);
+        assertEquals(first, second);
+        // the set compares by reference, so it holds the records themselves
+        assertTrue(second.contains(records.get(999)));
+    }
+
+    @Test
+    public void find_otherVersionOrKey_searchesAgain() {
+        SearchResultCache cache = new SearchResultCache(1024 * 1024);
+        cache.find("odd", records, 0, recordsAt(1));
+        assertEquals(Set.of("record 2"), cache.find("odd", records, 1, recordsAt(2)));
+        assertEquals(Set.of("record 3"), cache.find("even", records, 1, recordsAt(3)));
+        assertEquals(Set.of("record 2"), cache.find("odd", records, 1, recordsAt(4)));
+
+        assertEquals(3, searchCount);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void find_otherListAtSameVersion_positionsInEachList() {
+        SearchResultCache cache = new SearchResultCache(1024 * 1024);
+        List<String> reversed = new ArrayList<>(records);
+        Collections.reverse(reversed);
+        cache.find("first", records, 0, recordsAt(1));
+        cache.find("last", reversed, 0, recordsAt(reversed, 1));
+
+        assertEquals(Set.of("record 1"), cache.find("first", records, 0, recordsAt(2)));
+        assertEquals(Set.of("record 998"), cache.find("last", reversed, 0, recordsAt(reversed, 2)));
+        assertEquals(2, searchCount);
+    }
+
+    @Test
+    public void find_overMemoryBudget_leastRecentlyUsedDropped() {
+        SearchResultCache cache = new SearchResultCache(1024 * 1024);
+        cache.find("a", records, 0, recordsAt(999));
+        long entryBytes = cache.getUsedBytes();
+        cache.setMemoryBudget(entryBytes * 2);
+        cache.find("b", records, 0, recordsAt(999));
+        cache.find("a", records, 0, recordsAt(999)); // used again, so "b" is now the least recently used
+        cache.find("c", records, 0, recordsAt(999));
+        assertEquals(2, cache.size());
+        assertEquals(3, searchCount);
+
+        cache.find("a", records, 0, recordsAt(999));
+        assertEquals(3, searchCount);
+        cache.find("b", records, 0, recordsAt(999));
+        assertEquals(4, searchCount);
+    }
+
+    @Test
+    public void find_resultLargerThanBudget_notKept() {
+        SearchResultCache cache = new SearchResultCache(0);
+        cache.find("a", records, 0, recordsAt(1));
+        cache.find("a", records, 0, recordsAt(1));
+        assertEquals(2, searchCount);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    @Test
+    public void find_fewEarlyMatches_smallerThanLateMatches() {
+        SearchResultCache early = new SearchResultCache(1024 * 1024);
+        early.find("a", records, 0, recordsAt(0));
+        SearchResultCache late = new SearchResultCache(1024 * 1024);
+        late.find("a", records, 0, recordsAt(999));
+        assertTrue(early.getUsedBytes() < late.getUsedBytes());
+    }
+
+    @Test
+    public void setMemoryBudget_lower_resultsDropped() {
+        SearchResultCache cache = new SearchResultCache(1024 * 1024);
+        cache.find("a", records, 0, recordsAt(1));
+        cache.find("b", records, 0, recordsAt(2));
+        cache.setMemoryBudget(0);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    private Supplier<Set<String>> recordsAt(int... positions) {
+        return recordsAt(records, positions);
+    }
+
+    private Supplier<Set<String>> recordsAt(List<String> list, int... positions) {
+        return () -> {
+            searchCount++;
+            Set<String> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int position : positions) {
+                found.add(list.get(position));
+            }
+            return found;
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.athlete.Age;
+import seedu.address.model.athlete.Email;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Phone;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.organization.OrganizationContactName;
+import seedu.address.model.organization.OrganizationEmail;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.OrganizationPhone;
+
+public class ValidationUtilTest {
+
+    private static final int SAMPLES = 20000;
+
+    // letters are repeated so that the random strings are often valid, and the rest are each rejected somewhere
+    private static final String[] TEXT_PIECES = {"a", "b", "Z", "q", "x", "A", "e", "o", " ", " ", "'", "-", "&",
+        "0", "7", ".", "_", "\t", "\n", "é", " ", "\u0001"};
+    private static final String[] NUMBER_PIECES = {"0", "1", "5", "6", "8", "9", "9", " ", "a", "-", "١"};
+    private static final String[] EMAIL_PIECES = {"a", "b", "Z", "c", "x", "1", "9", "a", "b", "Z", "c", "x", "1",
+        "9", "a", "b", "@", ".", ".", "-", "-", "+", "_", " ", "é", "'", "@a.bc"};
+
+    @Test
+    public void normalizeWhitespace_sameAsTrimAndReplaceAll() {
+        assertEquals("", ValidationUtil.normalizeWhitespace(" \t\n "));
+        assertEquals("a b c", ValidationUtil.normalizeWhitespace("\n a \t\u000B b\f\r c  "));
+        assertEquals("a b", ValidationUtil.normalizeWhitespace("a b"));
+        String normalized = "Lionel Messi";
+        assertSame(normalized, ValidationUtil.normalizeWhitespace(normalized));
+
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            String text = randomString(random, TEXT_PIECES, 20);
+            assertEquals(text.trim().replaceAll("\\s+", " "), ValidationUtil.normalizeWhitespace(text),
+                    "Input: " + escape(text));
+        }
+    }
+
+    @Test
+    public void isWord_outOfRangeLength_false() {
+        assertFalse(ValidationUtil.isWord("", 0, 5, ValidationUtil.LETTER, ValidationUtil.LETTER));
+        assertFalse(ValidationUtil.isWord("abc", 4, 5, ValidationUtil.LETTER, ValidationUtil.LETTER));
+        assertFalse(ValidationUtil.isWord("abcdef", 4, 5, ValidationUtil.LETTER, ValidationUtil.LETTER));
+        assertTrue(ValidationUtil.isWord("a1b2", 4, 5, ValidationUtil.LETTER, ValidationUtil.LETTER_OR_DIGIT));
+    }
+
+    @Test
+    public void isValidName_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Name::isValidName, test -> test.trim().replaceAll("\\s+", " ")
+                .matches(Name.VALIDATION_REGEX), TEXT_PIECES, 60);
+    }
+
+    @Test
+    public void isValidSport_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Sport::isValidSport, test -> test.trim().replaceAll("\\s+", " ")
+                .matches(Sport.VALIDATION_REGEX), TEXT_PIECES, 60);
+    }
+
+    @Test
+    public void isValidOrganizationName_randomStrings_sameAsRegex() {
+        assertSameAsRegex(OrganizationName::isValidName, test -> test.trim().replaceAll("\\s+", " ")
+                .matches(OrganizationName.VALIDATION_REGEX), TEXT_PIECES, 60);
+    }
+
+    @Test
+    public void isValidContactName_randomStrings_sameAsRegex() {
+        assertSameAsRegex(OrganizationContactName::isValidName,
+                test -> test.matches(OrganizationContactName.VALIDATION_REGEX), TEXT_PIECES, 60);
+    }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Phone::isValidPhone, test -> test.matches(Phone.VALIDATION_REGEX), NUMBER_PIECES, 10);
+        assertSameAsRegex(OrganizationPhone::isValidPhone, test -> test.matches(OrganizationPhone.VALIDATION_REGEX),
+                NUMBER_PIECES, 10);
+    }
+
+    @Test
+    public void isValidAge_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Age::isValidAge, test -> test.matches(Age.VALIDATION_REGEX), NUMBER_PIECES, 3);
+    }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsRegex() {
+        assertSameAsRegex(Email::isValidEmail, test -> test.length() <= 50 && test.matches(Email.VALIDATION_REGEX),
+                EMAIL_PIECES, 30);
+        assertSameAsRegex(OrganizationEmail::isValidEmail,
+                test -> test.length() <= 50 && test.matches(OrganizationEmail.VALIDATION_REGEX), EMAIL_PIECES, 30);
+    }
+
+    @Test
+    public void isValidEmail_domainLabels() {
+        assertTrue(Email.isValidEmail("a@bc"));
+        assertTrue(Email.isValidEmail("a@b-c.de"));
+        assertTrue(Email.isValidEmail("a@b.c-de"));
+        assertTrue(Email.isValidEmail("a@b.cd-e"));
+        assertFalse(Email.isValidEmail("a@b.c")); // last label is one character
+        assertFalse(Email.isValidEmail("a@b.c-d")); // last label cannot be split into two parts
+        assertFalse(Email.isValidEmail("a@b..cd"));
+        assertFalse(Email.isValidEmail("a@cd.")); // empty last label
+        assertFalse(Email.isValidEmail("a@b@cd"));
+        assertFalse(Email.isValidEmail("a.@cd"));
+        assertFalse(Email.isValidEmail("a+-b@cd"));
+    }
+
+    /**
+     * Checks {@code validator} against {@code regexValidator} on random strings of up to {@code maxPieces} pieces,
+     * and checks that the strings include both valid and invalid ones.
+     */
+    private static void assertSameAsRegex(Predicate<String> validator, Predicate<String> regexValidator,
+            String[] pieces, int maxPieces) {
+        Random random = new Random(42);
+        int validCount = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            String test = randomString(random, pieces, maxPieces);
+            boolean isValid = regexValidator.test(test);
+            assertEquals(isValid, validator.test(test), "Input: " + escape(test));
+            validCount += isValid ? 1 : 0;
+        }
+        assertTrue(validCount > 0 && validCount < SAMPLES);
+    }
+
+    private static String randomString(Random random, String[] pieces, int maxPieces) {
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(maxPieces + 1); i > 0; i--) {
+            text.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return text.toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder();
+        text.chars().forEach(c -> escaped.append(c < ' ' || c > '~' ? String.format("\\u%04x", c) : (char) c));
+        return escaped.toString();
+    }
+}
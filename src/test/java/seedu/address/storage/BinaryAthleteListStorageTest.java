@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.AthleteList;
+
+public class BinaryAthleteListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_writesDataFileAndSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+
+        storage.saveAthleteList(typicalAthletes());
+
+        assertEquals(typicalAthletes().getAthleteList(),
+                new JsonAthleteListStorage(filePath).readAthleteList().get().getAthleteList());
+        assertEquals(typicalAthletes().getAthleteList(), BinaryAthleteListStorage
+                .readSnapshot(testFolder.resolve("athletelist.bin")).get().getAthleteList());
+    }
+
+    @Test
+    public void read_upToDateSnapshot_readsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+        storage.saveAthleteList(typicalAthletes());
+
+        // the data file cannot be read, so the list can only come from the snapshot
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, new byte[(int) Files.size(filePath)]);
+        Files.setLastModifiedTime(filePath, savedTime);
+
+        assertEquals(typicalAthletes().getAthleteList(), storage.readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void read_dataFileNewerThanSnapshot_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+        storage.saveAthleteList(typicalAthletes());
+
+        // the data file is replaced, as when it is edited by hand
+        AthleteList edited = typicalAthletes();
+        edited.removeAthlete(ALICE);
+        new JsonAthleteListStorage(filePath).saveAthleteList(edited);
+        Path snapshotPath = testFolder.resolve("athletelist.bin");
+        Files.setLastModifiedTime(filePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(snapshotPath).toMillis() + 1000));
+
+        assertEquals(edited.getAthleteList(), storage.readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void read_olderDataFileRestored_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+        AthleteList backup = typicalAthletes();
+        backup.removeAthlete(ALICE);
+        new JsonAthleteListStorage(filePath).saveAthleteList(backup);
+        byte[] backupBytes = Files.readAllBytes(filePath);
+        FileTime backupTime = FileTime.fromMillis(Files.getLastModifiedTime(filePath).toMillis() - 60000);
+        storage.saveAthleteList(typicalAthletes());
+
+        // the backup is copied back with its own, older, last modified time
+        Files.write(filePath, backupBytes);
+        Files.setLastModifiedTime(filePath, backupTime);
+
+        assertEquals(backup.getAthleteList(), storage.readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void read_corruptedSnapshot_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+        storage.saveAthleteList(typicalAthletes());
+        Path snapshotPath = testFolder.resolve("athletelist.bin");
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotPath, bytes);
+        Files.setLastModifiedTime(snapshotPath, Files.getLastModifiedTime(filePath));
+
+        assertThrows(DataLoadingException.class, () -> BinaryAthleteListStorage.readSnapshot(snapshotPath));
+        assertEquals(typicalAthletes().getAthleteList(), storage.readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void read_missingDataFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("athletelist.json");
+        BinaryAthleteListStorage storage = new BinaryAthleteListStorage(new JsonAthleteListStorage(filePath));
+        storage.saveAthleteList(typicalAthletes());
+        Files.delete(filePath);
+
+        assertTrue(Files.exists(testFolder.resolve("athletelist.bin")));
+        assertFalse(storage.readAthleteList().isPresent());
+    }
+
+    private static AthleteList typicalAthletes() {
+        AthleteList athletes = new AthleteList();
+        athletes.setAthletes(getTypicalAthletes());
+        return athletes;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
+import static seedu.address.testutil.contract.TypicalContracts.getTypicalContracts;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class BinaryContractListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readContractList_upToDateSnapshot_readsSnapshotAndSharesInstances() throws Exception {
+        Path filePath = testFolder.resolve("contractlist.json");
+        BinaryContractListStorage storage = new BinaryContractListStorage(new JsonContractListStorage(filePath));
+        Contract secondMessiContract = new ContractBuilder(MESSI_MIAMI).withStartDate("01012026")
+                .withEndDate("31122026").withSport("Golf").build();
+        ContractList original = new ContractList();
+        original.setContracts(List.of(MESSI_MIAMI, secondMessiContract));
+        storage.saveContractList(original);
+
+        // the data file cannot be read, so the list can only come from the snapshot
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, new byte[(int) Files.size(filePath)]);
+        Files.setLastModifiedTime(filePath, savedTime);
+
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(MESSI_MIAMI.getAthlete());
+        OrganizationList organizations = new OrganizationList();
+        organizations.addOrganization(MESSI_MIAMI.getOrganization());
+        ReadOnlyContractList readBack = storage.readContractList(athletes, organizations).get();
+        assertEquals(original.getContractList(), readBack.getContractList());
+        for (Contract contract : readBack.getContractList()) {
+            assertSame(athletes.getAthleteList().get(0), contract.getAthlete());
+            assertSame(organizations.getOrganizationList().get(0), contract.getOrganization());
+        }
+    }
+
+    @Test
+    public void readSnapshot_unknownAthlete_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("contractlist.json");
+        ContractList original = new ContractList();
+        original.setContracts(getTypicalContracts());
+        new BinaryContractListStorage(new JsonContractListStorage(filePath)).saveContractList(original);
+        Path snapshotPath = testFolder.resolve("contractlist.bin");
+
+        assertThrows(DataLoadingException.class, () ->
+                BinaryContractListStorage.readSnapshot(snapshotPath, new AthleteList(), new OrganizationList()));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalOrganizations.getTypicalOrganizations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.organization.OrganizationList;
+
+public class BinaryOrganizationListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveOrganizationList_upToDateSnapshot_readsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("organizationlist.json");
+        BinaryOrganizationListStorage storage =
+                new BinaryOrganizationListStorage(new JsonOrganizationListStorage(filePath));
+        OrganizationList original = new OrganizationList();
+        original.setOrganizations(getTypicalOrganizations());
+        storage.saveOrganizationList(original);
+
+        // the data file cannot be read, so the list can only come from the snapshot
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, new byte[(int) Files.size(filePath)]);
+        Files.setLastModifiedTime(filePath, savedTime);
+
+        assertEquals(original.getOrganizationList(),
+                storage.readOrganizationList().get().getOrganizationList());
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+public class BinarySnapshotFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void snapshotPathOf_replacesExtension() {
+        assertEquals(Paths.get("data", "athletelist.bin"),
+                BinarySnapshotFile.snapshotPathOf(Paths.get("data", "athletelist.json")));
+        assertEquals(Paths.get("data", "list.bin"), BinarySnapshotFile.snapshotPathOf(Paths.get("data", "list")));
+    }
+
+    @Test
+    public void saveAndRead_repeatedStrings_sameFields() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        BinarySnapshotFile.Writer writer = new BinarySnapshotFile.Writer(BinarySnapshotFile.Kind.CONTRACTS);
+        for (int i = 0; i < 100; i++) {
+            writer.writeString("Football");
+            writer.writeString("Ünïcödé " + i % 3);
+            writer.writeLong(Long.MAX_VALUE - i);
+            writer.endRecord();
+        }
+        writer.save(filePath, saveDataFile("{}"));
+
+        BinarySnapshotFile.Reader reader = read(filePath, BinarySnapshotFile.Kind.CONTRACTS);
+        assertEquals(100, reader.getRecordCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Football", reader.readString());
+            assertEquals("Ünïcödé " + i % 3, reader.readString());
+            assertEquals(Long.MAX_VALUE - i, reader.readLong());
+        }
+        reader.finish();
+        // each distinct string is stored once, so the records take 16 bytes each
+        assertTrue(Files.size(filePath) < 100 * 16 + 200);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(BinarySnapshotFile.read(testFolder.resolve("missing.bin"), BinarySnapshotFile.Kind.ATHLETES)
+                .isPresent());
+    }
+
+    @Test
+    public void read_otherKind_throwsDataLoadingException() throws Exception {
+        Path filePath = saveOneRecord();
+        assertThrows(DataLoadingException.class, () ->
+                BinarySnapshotFile.read(filePath, BinarySnapshotFile.Kind.ATHLETES));
+    }
+
+    @Test
+    public void read_notSnapshotFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        FileUtil.writeToFile(filePath, "{ \"athletes\" : [ ] }");
+        assertThrows(DataLoadingException.class, () ->
+                BinarySnapshotFile.read(filePath, BinarySnapshotFile.Kind.ATHLETES));
+    }
+
+    @Test
+    public void read_changedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = saveOneRecord();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () ->
+                BinarySnapshotFile.read(filePath, BinarySnapshotFile.Kind.CONTRACTS));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = saveOneRecord();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () ->
+                BinarySnapshotFile.read(filePath, BinarySnapshotFile.Kind.CONTRACTS));
+    }
+
+    @Test
+    public void reader_fieldsOutOfStep_throwsIllegalValueException() throws Exception {
+        Path filePath = saveOneRecord();
+
+        BinarySnapshotFile.Reader unfinished = read(filePath, BinarySnapshotFile.Kind.CONTRACTS);
+        unfinished.readString();
+        assertThrows(IllegalValueException.class, unfinished::finish);
+
+        BinarySnapshotFile.Reader overrun = read(filePath, BinarySnapshotFile.Kind.CONTRACTS);
+        overrun.readString();
+        overrun.readLong();
+        assertThrows(IllegalValueException.class, overrun::readString);
+    }
+
+    @Test
+    public void isUpToDate() throws Exception {
+        Path snapshotPath = saveOneRecord();
+        Path dataFilePath = testFolder.resolve("data.json");
+        FileTime savedTime = Files.getLastModifiedTime(dataFilePath);
+        assertTrue(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+
+        // missing snapshot or data file
+        assertFalse(BinarySnapshotFile.isUpToDate(testFolder.resolve("missing.bin"), dataFilePath));
+        assertFalse(BinarySnapshotFile.isUpToDate(snapshotPath, testFolder.resolve("missing.json")));
+
+        // data file edited later
+        Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(savedTime.toMillis() + 1000));
+        assertFalse(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+
+        // data file replaced by an older one
+        Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(savedTime.toMillis() - 1000));
+        assertFalse(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+
+        // data file changed without changing its last modified time
+        FileUtil.writeToFile(dataFilePath, "{ }");
+        Files.setLastModifiedTime(dataFilePath, savedTime);
+        assertFalse(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+
+        FileUtil.writeToFile(dataFilePath, "{}");
+        Files.setLastModifiedTime(dataFilePath, savedTime);
+        assertTrue(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+    }
+
+    @Test
+    public void isUpToDate_notSnapshotFile_false() throws Exception {
+        Path dataFilePath = saveDataFile("{}");
+        Path snapshotPath = testFolder.resolve("snapshot.bin");
+        Files.write(snapshotPath, new byte[] {1, 2, 3});
+
+        assertFalse(BinarySnapshotFile.isUpToDate(snapshotPath, dataFilePath));
+    }
+
+    private Path saveOneRecord() throws IOException {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        BinarySnapshotFile.Writer writer = new BinarySnapshotFile.Writer(BinarySnapshotFile.Kind.CONTRACTS);
+        writer.writeString("Football");
+        writer.writeLong(1);
+        writer.endRecord();
+        writer.save(filePath, saveDataFile("{}"));
+        return filePath;
+    }
+
+    private Path saveDataFile(String contents) throws IOException {
+        Path dataFilePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(dataFilePath, contents);
+        return dataFilePath;
+    }
+
+    private static BinarySnapshotFile.Reader read(Path filePath, BinarySnapshotFile.Kind kind)
+            throws DataLoadingException {
+        return BinarySnapshotFile.read(filePath, kind).get();
+    }
+}
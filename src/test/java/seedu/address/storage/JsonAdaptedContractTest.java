@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedContract.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
@@ -8,9 +9,12 @@ import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.Date8;
+import seedu.address.model.organization.OrganizationList;
 
 /**
  * Tests for {@link JsonAdaptedContract}.
@@ -24,6 +28,16 @@ public class JsonAdaptedContractTest {
     private static final String VALID_END_DATE = MESSI_MIAMI.getEndDate().value;
     private static final String VALID_AMOUNT = String.valueOf(MESSI_MIAMI.getAmount().value);
 
+    private static final AthleteList REFERENCED_ATHLETES = new AthleteList();
+    private static final OrganizationList REFERENCED_ORGANIZATIONS = new OrganizationList();
+    private static final ContractReferences REFERENCES;
+
+    static {
+        REFERENCED_ATHLETES.addAthlete(MESSI_MIAMI.getAthlete());
+        REFERENCED_ORGANIZATIONS.addOrganization(MESSI_MIAMI.getOrganization());
+        REFERENCES = new ContractReferences(REFERENCED_ATHLETES, REFERENCED_ORGANIZATIONS);
+    }
+
     private static final String INVALID_SPORT = "Football!@#";
     private static final String INVALID_START_DATE = "99999999";
     private static final String INVALID_END_DATE = "00000000";
@@ -32,9 +46,56 @@ public class JsonAdaptedContractTest {
     @Test
     public void toModelType_validContractDetails_returnsContract() throws Exception {
         JsonAdaptedContract contract = new JsonAdaptedContract(MESSI_MIAMI);
+        assertEquals(MESSI_MIAMI, contract.toModelType(REFERENCES));
+    }
+
+    @Test
+    public void toModelType_validLegacyContractDetails_returnsContract() throws Exception {
+        JsonAdaptedContract contract = new JsonAdaptedContract(
+                VALID_ATHLETE, VALID_SPORT, VALID_ORGANIZATION, VALID_START_DATE, VALID_END_DATE, VALID_AMOUNT);
         assertEquals(MESSI_MIAMI, contract.toModelType());
     }
 
+    @Test
+    public void toModelType_legacyContractsOfUnknownAthlete_shareAthleteAndOrganization() throws Exception {
+        JsonAdaptedContract contract = new JsonAdaptedContract(
+                VALID_ATHLETE, VALID_SPORT, VALID_ORGANIZATION, VALID_START_DATE, VALID_END_DATE, VALID_AMOUNT);
+        JsonAdaptedContract otherContract = new JsonAdaptedContract(
+                VALID_ATHLETE, VALID_SPORT, VALID_ORGANIZATION, VALID_START_DATE, VALID_END_DATE, "1");
+        ContractReferences references = ContractReferences.none();
+        Contract modelContract = contract.toModelType(references);
+        Contract otherModelContract = otherContract.toModelType(references);
+        assertSame(modelContract.getAthlete(), otherModelContract.getAthlete());
+        assertSame(modelContract.getOrganization(), otherModelContract.getOrganization());
+    }
+
+    @Test
+    public void toModelType_legacyContractOfLoadedAthlete_usesLoadedAthlete() throws Exception {
+        JsonAdaptedContract contract = new JsonAdaptedContract(
+                VALID_ATHLETE, VALID_SPORT, VALID_ORGANIZATION, VALID_START_DATE, VALID_END_DATE, VALID_AMOUNT);
+        Contract modelContract = contract.toModelType(REFERENCES);
+        assertSame(MESSI_MIAMI.getAthlete(), modelContract.getAthlete());
+        assertSame(MESSI_MIAMI.getOrganization(), modelContract.getOrganization());
+    }
+
+    @Test
+    public void toModelType_unknownAthlete_throwsIllegalValueException() {
+        JsonAdaptedContract contract = new JsonAdaptedContract(MESSI_MIAMI);
+        String expectedMessage = String.format(JsonAdaptedContract.UNKNOWN_ATHLETE_MESSAGE_FORMAT,
+                MESSI_MIAMI.getAthlete().getName().fullName, VALID_SPORT);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                contract.toModelType(new ContractReferences(new AthleteList(), REFERENCED_ORGANIZATIONS)));
+    }
+
+    @Test
+    public void toModelType_unknownOrganization_throwsIllegalValueException() {
+        JsonAdaptedContract contract = new JsonAdaptedContract(MESSI_MIAMI);
+        String expectedMessage = String.format(JsonAdaptedContract.UNKNOWN_ORGANIZATION_MESSAGE_FORMAT,
+                MESSI_MIAMI.getOrganization().getName().fullOrganizationName);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                contract.toModelType(new ContractReferences(REFERENCED_ATHLETES, new OrganizationList())));
+    }
+
     @Test
     public void toModelType_nullAthlete_throwsIllegalValueException() {
         JsonAdaptedContract contract = new JsonAdaptedContract(
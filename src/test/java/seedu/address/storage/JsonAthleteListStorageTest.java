@@ -7,6 +7,7 @@ import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -93,6 +94,19 @@ public class JsonAthleteListStorageTest {
         assertEquals(original.getAthleteList(), readBack.getAthleteList());
     }
 
+    @Test
+    public void saveAthleteList_compact_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAthleteList.json");
+        AthleteList original = new AthleteList();
+        original.setAthletes(getTypicalAthletes());
+        JsonAthleteListStorage jsonAthleteListStorage = new JsonAthleteListStorage(filePath, true);
+
+        jsonAthleteListStorage.saveAthleteList(original);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(original.getAthleteList(), jsonAthleteListStorage.readAthleteList().get().getAthleteList());
+    }
+
     @Test
     public void saveAthleteList_nullAthleteList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAthleteList(null, "SomeFile.json"));
@@ -2,22 +2,28 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
 import static seedu.address.testutil.contract.TypicalContracts.getTypicalContracts;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.athlete.AthleteBuilder;
 import seedu.address.testutil.contract.ContractBuilder;
@@ -76,7 +82,8 @@ public class JsonContractListStorageTest {
 
         // Save in new file and read back
         jsonContractListStorage.saveContractList(original, filePath);
-        ReadOnlyContractList readBack = jsonContractListStorage.readContractList(filePath).get();
+        ReadOnlyContractList readBack = jsonContractListStorage.readContractList(filePath,
+                athletesOf(original), organizationsOf(original)).get();
         assertEquals(original.getContractList(), readBack.getContractList());
 
         // Modify data, overwrite exiting file, and read back
@@ -91,16 +98,112 @@ public class JsonContractListStorageTest {
         original.addContract(newContract);
         original.removeContract(MESSI_MIAMI);
         jsonContractListStorage.saveContractList(original, filePath);
-        readBack = jsonContractListStorage.readContractList(filePath).get();
+        readBack = jsonContractListStorage.readContractList(filePath,
+                athletesOf(original), organizationsOf(original)).get();
         assertEquals(original.getContractList(), readBack.getContractList());
 
         // Save and read without specifying file path
         original.addContract(MESSI_MIAMI);
         jsonContractListStorage.saveContractList(original); // file path not specified
-        readBack = jsonContractListStorage.readContractList().get(); // file path not specified
+        readBack = jsonContractListStorage.readContractList(athletesOf(original), organizationsOf(original))
+                .get(); // file path not specified
         assertEquals(original.getContractList(), readBack.getContractList());
     }
 
+    @Test
+    public void readContractList_manyContracts_readInFileOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempContractList.json");
+        ContractList original = new ContractList();
+        int count = 5 * ParallelRecordConverter.BATCH_SIZE + 1;
+        for (int i = 0; i < count; i++) {
+            original.addContract(new ContractBuilder(MESSI_MIAMI).withAmount(count - i).build());
+        }
+        JsonContractListStorage jsonContractListStorage = new JsonContractListStorage(filePath);
+        jsonContractListStorage.saveContractList(original);
+
+        ReadOnlyContractList readBack = jsonContractListStorage.readContractList(athletesOf(original),
+                organizationsOf(original)).get();
+        assertEquals(original.getContractList(), readBack.getContractList());
+    }
+
+    @Test
+    public void readContractList_normalizedFormat_sharesAthleteAndOrganizationInstances() throws Exception {
+        Path filePath = testFolder.resolve("TempContractList.json");
+        Contract secondMessiContract = new ContractBuilder(MESSI_MIAMI).withStartDate("01012026")
+                .withEndDate("31122026").build();
+        ContractList original = new ContractList();
+        original.setContracts(List.of(MESSI_MIAMI, secondMessiContract));
+        JsonContractListStorage jsonContractListStorage = new JsonContractListStorage(filePath);
+        jsonContractListStorage.saveContractList(original);
+
+        // contracts are saved with keys only
+        String savedJson = Files.readString(filePath);
+        assertTrue(savedJson.contains("\"athleteName\""));
+        assertFalse(savedJson.contains("\"email\""));
+
+        AthleteList athletes = athletesOf(original);
+        OrganizationList organizations = organizationsOf(original);
+        ReadOnlyContractList readBack = jsonContractListStorage.readContractList(athletes, organizations).get();
+        assertEquals(original.getContractList(), readBack.getContractList());
+        for (Contract contract : readBack.getContractList()) {
+            assertSame(athletes.getAthleteList().get(0), contract.getAthlete());
+            assertSame(organizations.getOrganizationList().get(0), contract.getOrganization());
+        }
+    }
+
+    @Test
+    public void readContractList_unknownAthlete_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempContractList.json");
+        ContractList original = new ContractList();
+        original.setContracts(getTypicalContracts());
+        JsonContractListStorage jsonContractListStorage = new JsonContractListStorage(filePath);
+        jsonContractListStorage.saveContractList(original);
+
+        assertThrows(DataLoadingException.class, () ->
+                jsonContractListStorage.readContractList(new AthleteList(), organizationsOf(original)));
+    }
+
+    @Test
+    public void readContractList_legacyFormat_readAndMigratedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempContractList.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("legacyFormatContractList.json"), filePath);
+        JsonContractListStorage jsonContractListStorage = new JsonContractListStorage(filePath);
+
+        // legacy records embed their athlete and organization, so no lists are needed to read them
+        ReadOnlyContractList legacy = jsonContractListStorage.readContractList().get();
+        assertEquals(List.of(MESSI_MIAMI), legacy.getContractList());
+
+        jsonContractListStorage.saveContractList(legacy);
+        assertFalse(Files.readString(filePath).contains("\"email\""));
+        ReadOnlyContractList migrated = jsonContractListStorage.readContractList(athletesOf(legacy),
+                organizationsOf(legacy)).get();
+        assertEquals(legacy.getContractList(), migrated.getContractList());
+    }
+
+    /**
+     * Returns the athletes referred to by the contracts in {@code contracts}.
+     */
+    private static AthleteList athletesOf(ReadOnlyContractList contracts) {
+        AthleteList athletes = new AthleteList();
+        contracts.getContractList().stream()
+                .map(Contract::getAthlete)
+                .filter(athlete -> !athletes.hasAthlete(athlete))
+                .forEach(athletes::addAthlete);
+        return athletes;
+    }
+
+    /**
+     * Returns the organizations referred to by the contracts in {@code contracts}.
+     */
+    private static OrganizationList organizationsOf(ReadOnlyContractList contracts) {
+        OrganizationList organizations = new OrganizationList();
+        contracts.getContractList().stream()
+                .map(Contract::getOrganization)
+                .filter(organization -> !organizations.hasOrganization(organization))
+                .forEach(organizations::addOrganization);
+        return organizations;
+    }
+
     @Test
     public void saveContractList_nullContractList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveContractList(null, "SomeFile.json"));
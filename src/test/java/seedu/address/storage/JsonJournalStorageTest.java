@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.storage.JournalEntry.Operation;
+
+/**
+ * Tests for {@link JsonJournalStorage}.
+ */
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingFile_emptyResult() throws Exception {
+        JsonJournalStorage storage = new JsonJournalStorage(testFolder.resolve("NonExistentFile.jsonl"));
+        assertTrue(storage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        JsonJournalStorage storage = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        List<JournalEntry> first = List.of(JournalEntry.ofAthlete(Operation.ADD, ALICE),
+                JournalEntry.ofOrganization(Operation.ADD, NIKE));
+        List<JournalEntry> second = List.of(JournalEntry.ofContract(Operation.ADD, MESSI_MIAMI),
+                JournalEntry.ofAthlete(Operation.DELETE, ALICE));
+
+        storage.appendToJournal(first);
+        assertEquals(first, storage.readJournal());
+
+        storage.appendToJournal(second);
+        assertEquals(List.of(first.get(0), first.get(1), second.get(0), second.get(1)), storage.readJournal());
+    }
+
+    @Test
+    public void readJournal_tornLastLine_lastLineIgnored() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage storage = new JsonJournalStorage(filePath);
+        List<JournalEntry> entries = List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE));
+        storage.appendToJournal(entries);
+        FileUtil.appendToFile(filePath, "{\"operation\":\"ADD\",\"athl");
+
+        assertEquals(entries, storage.readJournal());
+    }
+
+    @Test
+    public void readJournal_corruptedMiddleLine_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage storage = new JsonJournalStorage(filePath);
+        FileUtil.appendToFile(filePath, "not json" + System.lineSeparator());
+        storage.appendToJournal(List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE)));
+
+        assertThrows(DataLoadingException.class, storage::readJournal);
+    }
+
+    @Test
+    public void clearJournal_existingFile_fileDeleted() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage storage = new JsonJournalStorage(filePath);
+        storage.appendToJournal(List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE)));
+
+        storage.clearJournal();
+        assertFalse(Files.exists(filePath));
+        assertTrue(storage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void replay_overSnapshot_sameResult() {
+        AthleteList athletes = new AthleteList();
+        ContractList contracts = new ContractList();
+        OrganizationList organizations = new OrganizationList();
+        organizations.addOrganization(NIKE);
+
+        List<JournalEntry> entries = List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE),
+                JournalEntry.ofAthlete(Operation.ADD, ALICE),
+                JournalEntry.ofAthlete(Operation.DELETE, ALICE),
+                JournalEntry.ofOrganization(Operation.DELETE, NIKE));
+        JournalEntry.replay(entries, athletes, contracts, organizations);
+
+        assertTrue(athletes.getAthleteList().isEmpty());
+        assertTrue(organizations.getOrganizationList().isEmpty());
+    }
+
+    @Test
+    public void replay_contractsAdded_shareListInstances() throws Exception {
+        JsonJournalStorage storage = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        storage.appendToJournal(List.of(JournalEntry.ofAthlete(Operation.ADD, MESSI_MIAMI.getAthlete()),
+                JournalEntry.ofOrganization(Operation.ADD, MESSI_MIAMI.getOrganization()),
+                JournalEntry.ofContract(Operation.ADD, MESSI_MIAMI)));
+        AthleteList athletes = new AthleteList();
+        ContractList contracts = new ContractList();
+        OrganizationList organizations = new OrganizationList();
+
+        JournalEntry.replay(storage.readJournal(), athletes, contracts, organizations);
+
+        Contract replayed = contracts.getContractList().get(0);
+        assertEquals(MESSI_MIAMI, replayed);
+        assertSame(athletes.getAthleteList().get(0), replayed.getAthlete());
+        assertSame(organizations.getOrganizationList().get(0), replayed.getOrganization());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = 20 * ParallelRecordConverter.BATCH_SIZE + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final List<Integer> consumed = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_manyRecords_consumedInOrder() throws Exception {
+        ParallelRecordConverter<String, Integer> converter =
+                new ParallelRecordConverter<>(Integer::valueOf, consumed::add, pool);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(String.valueOf(i));
+        }
+        converter.finish();
+
+        assertEquals(IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList()), consumed);
+    }
+
+    @Test
+    public void finish_fewRecords_consumedInOrder() throws Exception {
+        ParallelRecordConverter<String, Integer> converter =
+                new ParallelRecordConverter<>(Integer::valueOf, consumed::add, pool);
+        converter.add("2");
+        converter.add("1");
+        converter.finish();
+
+        assertEquals(List.of(2, 1), consumed);
+    }
+
+    @Test
+    public void finish_severalInvalidRecords_firstFailureThrownAfterEarlierRecords() {
+        int firstInvalid = 5 * ParallelRecordConverter.BATCH_SIZE + 3;
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (record % firstInvalid == 0 && record > 0) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        }, consumed::add, pool);
+
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i);
+            }
+            converter.finish();
+        });
+        assertEquals(IntStream.range(0, firstInvalid).boxed().collect(Collectors.toList()), consumed);
+    }
+
+    @Test
+    public void finish_consumerRejectsObject_failureThrownBeforeLaterInvalidRecords() {
+        int rejected = 2 * ParallelRecordConverter.BATCH_SIZE;
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (record > rejected) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        }, object -> {
+            if (object == rejected) {
+                throw new IllegalValueException("rejected " + object);
+            }
+            consumed.add(object);
+        }, pool);
+
+        assertThrows(IllegalValueException.class, "rejected " + rejected, () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i);
+            }
+            converter.finish();
+        });
+        assertEquals(rejected, consumed.size());
+    }
+}
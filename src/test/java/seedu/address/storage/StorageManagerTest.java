@@ -1,12 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
 import static seedu.address.testutil.TypicalOrganizations.getTypicalOrganizations;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
 import static seedu.address.testutil.contract.TypicalContracts.getTypicalContracts;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +24,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.storage.JournalEntry.Operation;
 
 public class StorageManagerTest {
 
@@ -91,6 +101,19 @@ public class StorageManagerTest {
          */
         ContractList original = new ContractList();
         original.setContracts(getTypicalContracts());
+        // Contracts are stored by reference, so their athletes and organizations must be saved too
+        AthleteList athletes = new AthleteList();
+        OrganizationList organizations = new OrganizationList();
+        for (Contract contract : getTypicalContracts()) {
+            if (!athletes.hasAthlete(contract.getAthlete())) {
+                athletes.addAthlete(contract.getAthlete());
+            }
+            if (!organizations.hasOrganization(contract.getOrganization())) {
+                organizations.addOrganization(contract.getOrganization());
+            }
+        }
+        storageManager.saveAthleteList(athletes);
+        storageManager.saveOrganizationList(organizations);
         storageManager.saveContractList(original);
         ReadOnlyContractList retrieved = storageManager.readContractList().get();
         assertEquals(original.getContractList(), retrieved.getContractList());
@@ -121,4 +144,78 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getOrganizationListFilePath());
     }
 
+    @Test
+    public void saveSnapshot_allLists_replacesDataFilesAndClearsJournal() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(ALICE);
+        OrganizationList organizations = new OrganizationList();
+        organizations.addOrganization(NIKE);
+        storageManager.appendToJournal(List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE)));
+
+        storageManager.saveSnapshot(athletes, new ContractList(), organizations);
+
+        assertEquals(athletes.getAthleteList(), storageManager.readAthleteList().get().getAthleteList());
+        assertEquals(organizations.getOrganizationList(),
+                storageManager.readOrganizationList().get().getOrganizationList());
+        assertTrue(storageManager.readContractList().get().getContractList().isEmpty());
+        assertTrue(storageManager.readJournal().isEmpty());
+        assertFalse(Files.exists(StorageManager.stagedPathOf(getTempFilePath("athletes"))));
+        assertFalse(Files.exists(getTempFilePath(StorageManager.SNAPSHOT_COMMIT_FILE_NAME)));
+    }
+
+    @Test
+    public void saveSnapshot_contractsFailToSave_dataFilesAndJournalUnchanged() throws Exception {
+        StorageManager failingStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonAthleteListStorage(getTempFilePath("athletes")),
+                new JsonContractListStorage(getTempFilePath("contracts")) {
+                    @Override
+                    public void saveContractList(ReadOnlyContractList contracts, Path filePath)
+                            throws IOException {
+                        throw new IOException("disk full");
+                    }
+                },
+                new JsonOrganizationListStorage(getTempFilePath("organizations")));
+        AthleteList oldAthletes = new AthleteList();
+        oldAthletes.addAthlete(ALICE);
+        failingStorage.saveAthleteList(oldAthletes);
+        JournalEntry entry = JournalEntry.ofOrganization(Operation.ADD, NIKE);
+        failingStorage.appendToJournal(List.of(entry));
+
+        assertThrows(IOException.class, () -> failingStorage.saveSnapshot(new AthleteList(), new ContractList(),
+                new OrganizationList()));
+
+        assertEquals(oldAthletes.getAthleteList(), failingStorage.readAthleteList().get().getAthleteList());
+        assertFalse(failingStorage.readOrganizationList().isPresent());
+        assertEquals(List.of(entry), failingStorage.readJournal());
+    }
+
+    @Test
+    public void recoverSnapshot_committedSnapshot_movesStagedFilesIntoPlace() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(ALICE);
+        storageManager.saveAthleteList(new AthleteList());
+        storageManager.saveAthleteList(athletes, StorageManager.stagedPathOf(getTempFilePath("athletes")));
+        Files.createFile(getTempFilePath(StorageManager.SNAPSHOT_COMMIT_FILE_NAME));
+
+        storageManager.recoverSnapshot();
+
+        assertEquals(athletes.getAthleteList(), storageManager.readAthleteList().get().getAthleteList());
+        assertFalse(Files.exists(StorageManager.stagedPathOf(getTempFilePath("athletes"))));
+        assertFalse(Files.exists(getTempFilePath(StorageManager.SNAPSHOT_COMMIT_FILE_NAME)));
+    }
+
+    @Test
+    public void recoverSnapshot_uncommittedSnapshot_discardsStagedFiles() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(ALICE);
+        storageManager.saveAthleteList(new AthleteList());
+        storageManager.saveAthleteList(athletes, StorageManager.stagedPathOf(getTempFilePath("athletes")));
+
+        storageManager.recoverSnapshot();
+
+        assertTrue(storageManager.readAthleteList().get().getAthleteList().isEmpty());
+        assertFalse(Files.exists(StorageManager.stagedPathOf(getTempFilePath("athletes"))));
+    }
+
 }
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalOrganizations.ADIDAS;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.storage.JournalEntry.Operation;
+
+/**
+ * Tests for {@link StorageWriter}.
+ */
+public class StorageWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storage;
+    private ManualExecutor executor;
+    private StorageWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonAthleteListStorage(testFolder.resolve("athletes.json")),
+                new JsonContractListStorage(testFolder.resolve("contracts.json")),
+                new JsonOrganizationListStorage(testFolder.resolve("organizations.json")),
+                new JsonJournalStorage(testFolder.resolve("journal.jsonl")));
+        executor = new ManualExecutor();
+        writer = new StorageWriter(storage, executor);
+    }
+
+    @Test
+    public void submitJournalEntries_burstOfSubmissions_coalescedIntoOneWrite() throws Exception {
+        JournalEntry first = JournalEntry.ofOrganization(Operation.ADD, NIKE);
+        JournalEntry second = JournalEntry.ofOrganization(Operation.ADD, ADIDAS);
+        writer.submitJournalEntries(List.of(first));
+        writer.submitJournalEntries(List.of(second));
+
+        assertEquals(1, executor.tasks.size());
+        assertTrue(storage.readJournal().isEmpty());
+
+        executor.runAll();
+        assertEquals(List.of(first, second), storage.readJournal());
+    }
+
+    @Test
+    public void submitSnapshot_afterJournalEntries_supersedesEntries() throws Exception {
+        OrganizationList organizations = new OrganizationList();
+        organizations.addOrganization(NIKE);
+        JournalEntry afterSnapshot = JournalEntry.ofOrganization(Operation.ADD, ADIDAS);
+
+        writer.submitJournalEntries(List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE)));
+        writer.submitSnapshot(null, null, organizations);
+        writer.submitJournalEntries(List.of(afterSnapshot));
+        executor.runAll();
+
+        assertEquals(organizations.getOrganizationList(), storage.readOrganizationList().get().getOrganizationList());
+        assertFalse(Files.exists(testFolder.resolve("athletes.json")));
+        assertEquals(List.of(afterSnapshot), storage.readJournal());
+    }
+
+    @Test
+    public void submitSnapshot_twiceBeforeWrite_keepsLatestOfEachList() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(ALICE);
+        OrganizationList olderOrganizations = new OrganizationList();
+        OrganizationList newerOrganizations = new OrganizationList();
+        newerOrganizations.addOrganization(NIKE);
+
+        writer.submitSnapshot(athletes, null, olderOrganizations);
+        writer.submitSnapshot(null, null, newerOrganizations);
+        executor.runAll();
+
+        assertEquals(athletes.getAthleteList(), storage.readAthleteList().get().getAthleteList());
+        assertEquals(newerOrganizations.getOrganizationList(),
+                storage.readOrganizationList().get().getOrganizationList());
+    }
+
+    @Test
+    public void takeFailure_failedWrite_returnsFailureOnce() {
+        // The journal path is a directory, so appending to it fails
+        StorageManager failingStorage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonAthleteListStorage(testFolder.resolve("athletes.json")),
+                new JsonContractListStorage(testFolder.resolve("contracts.json")),
+                new JsonOrganizationListStorage(testFolder.resolve("organizations.json")),
+                new JsonJournalStorage(testFolder));
+        StorageWriter failingWriter = new StorageWriter(failingStorage, Runnable::run);
+
+        failingWriter.submitJournalEntries(List.of(JournalEntry.ofOrganization(Operation.ADD, NIKE)));
+        assertNotNull(failingWriter.takeFailure());
+        assertNull(failingWriter.takeFailure());
+    }
+
+    @Test
+    public void flush_queuedWrites_waitsForWrites() throws Exception {
+        StorageWriter backgroundWriter = StorageWriter.inBackground(storage);
+        JournalEntry entry = JournalEntry.ofOrganization(Operation.ADD, NIKE);
+        backgroundWriter.submitJournalEntries(List.of(entry));
+
+        assertTrue(backgroundWriter.flush(5000));
+        assertEquals(List.of(entry), storage.readJournal());
+    }
+
+    /**
+     * An executor that only runs tasks when asked to.
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}